@@ -28,6 +28,7 @@
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldTickThread;
 
 class TimingHandler implements Timing {
 
@@ -109,6 +110,11 @@ public TimingHandler startTiming() {
         if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
             return this;
         }
+        // The timing stack is not thread safe, parallel world ticks are
+        // recorded as a whole by WorldTimingsHandler#recordParallelTick
+        if (WorldTickThread.isWorldTickThread()) {
+            return this;
+        }
 
         if (++this.timingDepth == 1) {
             this.start = System.nanoTime();
@@ -123,6 +129,9 @@ public void stopTiming() {
         if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
             return;
         }
+        if (WorldTickThread.isWorldTickThread()) {
+            return;
+        }
 
         if (--this.timingDepth == 0 && this.start != 0) {
             if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
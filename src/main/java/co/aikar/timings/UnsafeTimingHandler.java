@@ -25,6 +25,7 @@
 package co.aikar.timings;
 
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldTickThread;
 
 class UnsafeTimingHandler extends TimingHandler {
 
@@ -33,7 +34,8 @@ class UnsafeTimingHandler extends TimingHandler {
     }
 
     private static void checkThread() {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        // World tick threads run on behalf of the main thread, TimingHandler ignores their timings
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() && !WorldTickThread.isWorldTickThread()) {
             throw new IllegalStateException("Calling Timings from Async Operation");
         }
     }
@@ -33,6 +33,7 @@ public class WorldTimingsHandler {
 
     public final Timing mobSpawn;
     public final Timing doChunkUnload;
+    public final Timing doChunkAutoSave;
     public final Timing doPortalForcer;
     public final Timing scheduledBlocks;
     public final Timing scheduledBlocksCleanup;
@@ -75,11 +76,15 @@ public class WorldTimingsHandler {
     // Chunk population
     public final Timing chunkPopulate;
 
+    // Parallel world ticking
+    public final Timing parallelTick;
+
     public WorldTimingsHandler(World world) {
         String name = world.getWorldInfo().getWorldName() + " - ";
 
         this.mobSpawn = SpongeTimingsFactory.ofSafe(name + "mobSpawn");
         this.doChunkUnload = SpongeTimingsFactory.ofSafe(name + "doChunkUnload");
+        this.doChunkAutoSave = SpongeTimingsFactory.ofSafe(name + "doChunkAutoSave");
         this.scheduledBlocks = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks");
         this.scheduledBlocksCleanup = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks - Cleanup");
         this.scheduledBlocksTicking = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks - Ticking");
@@ -119,5 +124,21 @@ public WorldTimingsHandler(World world) {
         this.causeTrackerEntityItemTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - EntityItemCaptures");
 
         this.chunkPopulate = SpongeTimingsFactory.ofSafe(name + "chunkPopulate");
+
+        this.parallelTick = SpongeTimingsFactory.ofSafe(name + "parallelTick");
+    }
+
+    /**
+     * Records the time a world spent ticking on a world tick thread. Timings
+     * cannot be started off the main thread, so the whole tick is added at
+     * once after the main thread has waited for it.
+     *
+     * @param nanos The duration of the tick, in nanoseconds
+     */
+    public void recordParallelTick(long nanos) {
+        final TimingHandler handler = (TimingHandler) this.parallelTick;
+        if (handler.enabled) {
+            handler.addDiff(nanos);
+        }
     }
 }
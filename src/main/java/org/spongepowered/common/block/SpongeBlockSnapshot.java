@@ -87,13 +87,13 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private final BlockState extendedState;
     private final UUID worldUniqueId;
     private final Vector3i pos;
-    private final ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
     private ImmutableSet<ImmutableValue<?>> valueSet;
     private ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private ImmutableSet<ImmutableValue<?>> blockValueSet;
-    @Nullable final NBTTagCompound compound;
+    // The tile entity data, captured from the tile entity when first needed
+    @Nullable private final TileEntityCapture tileCapture;
     @Nullable final UUID creatorUniqueId;
     @Nullable final UUID notifierUniqueId;
     // Internal use only
@@ -118,18 +118,14 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
         this.pos = checkNotNull(builder.coords);
         this.blockPos = VecHelper.toBlockPos(this.pos);
 
-        // This avoids cross contamination of block state based values versus tile entity values.
-        // TODO - delegate this to NbtProcessors when schematics are merged.
-        final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
-        this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
-            for (ImmutableValue<?> value : manipulator.getValues()) {
-                tileBuilder.put(value.getKey(), value);
-            }
+        if (builder.tileCapture != null) {
+            this.tileCapture = builder.tileCapture;
+        } else if (builder.compound != null || builder.manipulators != null) {
+            this.tileCapture = new TileEntityCapture(builder.compound == null ? null : builder.compound.copy(),
+                    builder.manipulators == null ? ImmutableList.of() : ImmutableList.copyOf(builder.manipulators));
+        } else {
+            this.tileCapture = null;
         }
-        this.keyValueMap = tileBuilder.build();
-        this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
-        this.compound = builder.compound == null ? null : builder.compound.copy();
         this.changeFlag = BlockChangeFlag.ALL;
     }
 
@@ -199,12 +195,14 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
             return false;
         }
 
+        // Capture pending tile data before the block change can modify the tile entity
+        final NBTTagCompound compound = getTileCompound();
         mixinWorldServer.setBlockState(pos, replaced, flag);
         world.getPlayerChunkMap().markBlockForUpdate(pos);
-        if (this.compound != null) {
+        if (compound != null) {
             final TileEntity te = world.getTileEntity(pos);
             if (te != null) {
-                te.readFromNBT(this.compound);
+                te.readFromNBT(compound);
                 te.markDirty();
             }
         }
@@ -235,7 +233,7 @@ public Optional<Location<World>> getLocation() {
 
     @Override
     public List<ImmutableDataManipulator<?, ?>> getManipulators() {
-        return ImmutableList.<ImmutableDataManipulator<?, ?>>builder().addAll(this.getBlockManipulators()).addAll(this.extraData).build();
+        return ImmutableList.<ImmutableDataManipulator<?, ?>>builder().addAll(this.getBlockManipulators()).addAll(getExtraData()).build();
     }
 
     @Override
@@ -258,10 +256,11 @@ public DataContainer toContainer() {
         if (this.blockState != this.extendedState) {
             container.set(DataQueries.BLOCK_EXTENDED_STATE, this.extendedState);
         }
-        if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+        final NBTTagCompound compound = getTileCompound();
+        if (compound != null) {
+            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateLazily(compound));
         }
-        final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.extraData);
+        final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(getExtraData());
         if (!dataList.isEmpty()) {
             container.set(DataQueries.SNAPSHOT_TILE_DATA, dataList);
         }
@@ -274,7 +273,7 @@ public DataContainer toContainer() {
         if (optional.isPresent()) {
             return optional;
         }
-        for (ImmutableDataManipulator<?, ?> dataManipulator : this.extraData) {
+        for (ImmutableDataManipulator<?, ?> dataManipulator : getExtraData()) {
             if (containerClass.isInstance(dataManipulator)) {
                 return Optional.of(((T) dataManipulator));
             }
@@ -376,8 +375,8 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        if (this.keyValueMap.containsKey(key)) {
-            return Optional.of((E) this.keyValueMap.get(key).get());
+        if (getTileMap().containsKey(key)) {
+            return Optional.of((E) getTileMap().get(key).get());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((E) this.blockKeyValueMap.get(key).get());
         }
@@ -409,10 +408,12 @@ private ImmutableSet<ImmutableValue<?>> getTileValueSet() {
         return this.valueSet;
     }
 
+    // This avoids cross contamination of block state based values versus tile entity values.
+    // TODO - delegate this to NbtProcessors when schematics are merged.
     private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
         if (this.keyValueMap == null) {
             final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
-            for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
+            for (ImmutableDataManipulator<?, ?> manipulator : getExtraData()) {
                 for (ImmutableValue<?> value : manipulator.getValues()) {
                     tileBuilder.put(value.getKey(), value);
                 }
@@ -423,6 +424,15 @@ private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
     }
 
 
+    private ImmutableList<ImmutableDataManipulator<?, ?>> getExtraData() {
+        return this.tileCapture == null ? ImmutableList.of() : this.tileCapture.getManipulators();
+    }
+
+    @Nullable
+    private NBTTagCompound getTileCompound() {
+        return this.tileCapture == null ? null : this.tileCapture.getCompound();
+    }
+
     private ImmutableList<ImmutableDataManipulator<?, ?>> getBlockManipulators() {
         if (this.blockData == null) {
             this.blockData = ImmutableList.copyOf(this.blockState.getContainers());
@@ -432,8 +442,8 @@ private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (this.keyValueMap.containsKey(key)) {
-            return Optional.of((V) this.keyValueMap.get(key).asMutable());
+        if (getTileMap().containsKey(key)) {
+            return Optional.of((V) getTileMap().get(key).asMutable());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((V) this.blockKeyValueMap.get(key).asMutable());
         }
@@ -443,7 +453,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     @Override
     public boolean supports(Key<?> key) {
         checkNotNull(key, "Key");
-        return this.keyValueMap.containsKey(key) || getKeyValueMap().containsKey(key);
+        return getTileMap().containsKey(key) || getKeyValueMap().containsKey(key);
     }
 
     @Override
@@ -470,7 +480,8 @@ public Set<ImmutableValue<?>> getValues() {
     }
 
     public Optional<NBTTagCompound> getCompound() {
-        return this.compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(this.compound.copy());
+        final NBTTagCompound compound = getTileCompound();
+        return compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(compound.copy());
     }
 
     public SpongeBlockSnapshotBuilder createBuilder() {
@@ -479,11 +490,12 @@ public SpongeBlockSnapshotBuilder createBuilder() {
             .extendedState(this.extendedState)
             .position(this.pos)
             .worldId(this.worldUniqueId);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
+        for (ImmutableDataManipulator<?, ?> manipulator : getExtraData()) {
             builder.add(manipulator);
         }
-        if (this.compound != null) {
-            builder.unsafeNbt(this.compound);
+        final NBTTagCompound compound = getTileCompound();
+        if (compound != null) {
+            builder.unsafeNbt(compound);
         }
         return builder;
     }
@@ -528,10 +540,11 @@ public Optional<TileEntityArchetype> createArchetype() {
         if (!(type instanceof ITileEntityProvider)) {
             return Optional.empty();
         }
-        if (this.compound == null) { // We can't retrieve the TileEntityType
+        final NBTTagCompound compound = getTileCompound();
+        if (compound == null) { // We can't retrieve the TileEntityType
             return Optional.empty();
         }
-        final String tileId = this.compound.getString(NbtDataUtil.BLOCK_ENTITY_ID);
+        final String tileId = compound.getString(NbtDataUtil.BLOCK_ENTITY_ID);
         final Class<? extends TileEntity> tileClass = TileEntity.REGISTRY.getObject(new ResourceLocation(tileId));
         if (tileClass == null) {
             return Optional.empty();
@@ -541,7 +554,7 @@ public Optional<TileEntityArchetype> createArchetype() {
         final TileEntityArchetype archetype = TileEntityArchetype.builder()
                 .tile(tileType)
                 .state(this.blockState)
-                .tileData(NbtTranslator.getInstance().translate(this.compound))
+                .tileData(NbtTranslator.getInstance().translateLazily(compound))
                 .build();
         return Optional.of(archetype);
     }
@@ -559,8 +572,8 @@ public boolean equals(Object o) {
                Objects.equal(this.extendedState, that.extendedState) &&
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
                Objects.equal(this.pos, that.pos) &&
-               Objects.equal(this.extraData, that.extraData) &&
-               Objects.equal(this.compound, that.compound);
+               Objects.equal(getExtraData(), that.getExtraData()) &&
+               Objects.equal(getTileCompound(), that.getTileCompound());
     }
 
     @Override
@@ -569,8 +582,8 @@ public int hashCode() {
             .hashCode(this.extendedState,
                 this.worldUniqueId,
                 this.pos,
-                this.extraData,
+                getExtraData(),
                 this.changeFlag,
-                this.compound);
+                getTileCompound());
     }
 }
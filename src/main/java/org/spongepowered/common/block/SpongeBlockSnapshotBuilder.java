@@ -71,6 +71,7 @@ public class SpongeBlockSnapshotBuilder extends AbstractDataBuilder<BlockSnapsho
     Vector3i coords;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
+    @Nullable TileEntityCapture tileCapture;
 
 
     public SpongeBlockSnapshotBuilder() {
@@ -140,6 +141,20 @@ public BlockSnapshot.Builder notifier(UUID uuid) {
         return this;
     }
 
+    /**
+     * Uses the tile entity data of the capture instead of the nbt and
+     * manipulators of this builder. Used for snapshots created while
+     * capturing block changes, which write the tile entity data only when
+     * it is needed.
+     *
+     * @param tileCapture The capture of the tile entity
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder tileCapture(TileEntityCapture tileCapture) {
+        this.tileCapture = checkNotNull(tileCapture);
+        return this;
+    }
+
     public SpongeBlockSnapshotBuilder unsafeNbt(NBTTagCompound compound) {
         this.compound = compound.copy();
         return this;
@@ -190,9 +205,7 @@ public SpongeBlockSnapshotBuilder from(BlockSnapshot holder) {
         this.coords = holder.getPosition();
         this.manipulators = Lists.newArrayList(holder.getManipulators());
         if (holder instanceof SpongeBlockSnapshot) {
-            if (((SpongeBlockSnapshot) holder).compound != null) {
-                this.compound = ((SpongeBlockSnapshot) holder).compound.copy();
-            }
+            ((SpongeBlockSnapshot) holder).getCompound().ifPresent(compound -> this.compound = compound);
         }
         return this;
     }
@@ -206,6 +219,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.coords = null;
         this.manipulators = null;
         this.compound = null;
+        this.tileCapture = null;
         return this;
     }
 
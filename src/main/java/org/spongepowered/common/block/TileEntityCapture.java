@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
+
+import javax.annotation.Nullable;
+
+/**
+ * The tile entity data of a {@link SpongeBlockSnapshot}. A capture created
+ * from a live {@link TileEntity} only writes the tile entity to nbt when the
+ * data is first needed. The tile entity calls {@link #capture()} through
+ * {@link org.spongepowered.common.interfaces.block.tile.IMixinTileEntity#captureSnapshotData()}
+ * before its data changes, so the snapshot still sees the data as it was
+ * when the snapshot was created. Snapshots of the same unchanged tile entity
+ * share one capture.
+ *
+ * <p>Only snapshots captured by block capturing phases write their data
+ * lazily, and at the latest once the phase is completed, see
+ * {@link org.spongepowered.common.event.tracking.CauseTracker#addPendingTileCapture(TileEntityCapture)}.
+ * All other snapshots capture the data right away.</p>
+ */
+public final class TileEntityCapture {
+
+    @Nullable private TileEntity tileEntity;
+    @Nullable private NBTTagCompound compound;
+    private ImmutableList<ImmutableDataManipulator<?, ?>> manipulators;
+
+    public TileEntityCapture(TileEntity tileEntity) {
+        this.tileEntity = tileEntity;
+    }
+
+    TileEntityCapture(@Nullable NBTTagCompound compound, ImmutableList<ImmutableDataManipulator<?, ?>> manipulators) {
+        this.compound = compound;
+        this.manipulators = manipulators;
+    }
+
+    /**
+     * Writes the data of the tile entity if it hasn't been written yet.
+     * Afterwards the tile entity is no longer referenced, and no longer
+     * hands this capture to new snapshots.
+     */
+    public void capture() {
+        final TileEntity tileEntity = this.tileEntity;
+        if (tileEntity == null) {
+            return;
+        }
+        this.tileEntity = null;
+        ((IMixinTileEntity) tileEntity).captureSnapshotData();
+        final ImmutableList.Builder<ImmutableDataManipulator<?, ?>> builder = ImmutableList.builder();
+        for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tileEntity).getCustomManipulators()) {
+            builder.add(manipulator.asImmutable());
+        }
+        this.manipulators = builder.build();
+        final NBTTagCompound compound = new NBTTagCompound();
+        // Some mods like OpenComputers assert if attempting to save robot while moving
+        try {
+            tileEntity.writeToNBT(compound);
+            this.compound = compound;
+        } catch (Throwable t) {
+            // ignore
+        }
+    }
+
+    /**
+     * Gets the captured nbt. This is not a copy and must not be modified.
+     *
+     * @return The captured nbt, or null if the tile entity could not be written
+     */
+    @Nullable
+    NBTTagCompound getCompound() {
+        capture();
+        return this.compound;
+    }
+
+    ImmutableList<ImmutableDataManipulator<?, ?>> getManipulators() {
+        capture();
+        return this.manipulators;
+    }
+}
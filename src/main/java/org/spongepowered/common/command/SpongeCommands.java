@@ -92,8 +92,12 @@
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkUnloadReason;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.lighting.AsyncLightingQueue;
+import org.spongepowered.common.world.storage.SpongeRegionFileCache;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -258,6 +262,12 @@ protected Text processGlobal(SpongeConfig<GlobalConfig> config, CommandSource so
                             source.sendMessage(Text.of("World ", Text.of(TextStyles.BOLD, world.getName()),
                                     getChunksInfo(((WorldServer) world))));
                         }
+                        source.sendMessage(Text.of("Region files", NEWLINE_TEXT,
+                                key("Open region files: "), value(SpongeRegionFileCache.getOpenFileCount()), NEWLINE_TEXT,
+                                key("Cache hits/misses: "), value(SpongeRegionFileCache.getHitCount() + "/" + SpongeRegionFileCache.getMissCount()),
+                                NEWLINE_TEXT,
+                                key("Cache hit rate: "), value(String.format("%.1f%%", SpongeRegionFileCache.getHitRate() * 100)), NEWLINE_TEXT,
+                                key("Cache evictions: "), value(SpongeRegionFileCache.getEvictionCount())));
                         return Text.of("Printed chunk info for all worlds ");
                     }
 
@@ -286,9 +296,28 @@ protected Text value(Object text) {
                     }
 
                     protected Text getChunksInfo(WorldServer worldserver) {
+                        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) worldserver.getChunkProvider();
+                        Text lightingInfo = Text.EMPTY;
+                        if (SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+                                && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
+                            final AsyncLightingQueue lightingQueue = ((IMixinWorldServer) worldserver).getLightingQueue();
+                            lightingInfo = Text.of(key("Queued light updates: "), value(lightingQueue.getQueuedUpdateCount()), NEWLINE_TEXT,
+                                    key("Light updates processed/coalesced: "),
+                                    value(lightingQueue.getProcessedUpdateCount() + "/" + lightingQueue.getCoalescedUpdateCount()), NEWLINE_TEXT,
+                                    key("Light batch latency (last/max): "),
+                                    value(lightingQueue.getLastBatchLatency() + "ms/" + lightingQueue.getMaxBatchLatency() + "ms"), NEWLINE_TEXT);
+                        }
                         return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
                                 key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                                 key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
+                                key("Queued chunk unloads: "), value(chunkProvider.getScheduledUnloadCount()), NEWLINE_TEXT,
+                                key("Chunks unloaded (requested/inactive/load threshold/memory): "),
+                                value(chunkProvider.getChunkUnloadCount(ChunkUnloadReason.REQUESTED) + "/"
+                                        + chunkProvider.getChunkUnloadCount(ChunkUnloadReason.INACTIVE) + "/"
+                                        + chunkProvider.getChunkUnloadCount(ChunkUnloadReason.LOAD_THRESHOLD) + "/"
+                                        + chunkProvider.getChunkUnloadCount(ChunkUnloadReason.MEMORY_PRESSURE)), NEWLINE_TEXT,
+                                key("Queued auto-saves: "), value(chunkProvider.getQueuedAutoSaveCount()), NEWLINE_TEXT,
+                                lightingInfo,
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
@@ -39,6 +39,10 @@ public class EntityActivationModCategory extends ConfigCategory {
     private Map<String, Integer> defaultRanges = new HashMap<>();
     @Setting(value = "entities")
     private Map<String, Integer> entityList = new HashMap<>();
+    @Setting(value = "throttle-defaults", comment = "Per activation type ranges of the throttled band for entities of this mod.")
+    private Map<String, Integer> defaultThrottleRanges = new HashMap<>();
+    @Setting(value = "throttle-entities", comment = "Per entity ranges of the throttled band.")
+    private Map<String, Integer> entityThrottleRanges = new HashMap<>();
 
     public boolean isEnabled() {
         return this.isEnabled;
@@ -51,4 +55,12 @@ public Map<String, Integer> getDefaultRanges() {
     public Map<String, Integer>  getEntityList() {
         return this.entityList;
     }
+
+    public Map<String, Integer> getDefaultThrottleRanges() {
+        return this.defaultThrottleRanges;
+    }
+
+    public Map<String, Integer> getEntityThrottleRanges() {
+        return this.entityThrottleRanges;
+    }
 }
\ No newline at end of file
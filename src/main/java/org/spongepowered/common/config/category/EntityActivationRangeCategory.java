@@ -39,6 +39,13 @@ public class EntityActivationRangeCategory extends ConfigCategory {
     private Map<String, Integer> defaultRanges = new HashMap<>();
     @Setting(value = "mods", comment = "Per-mod overrides. Refer to the minecraft default mod for example.")
     private Map<String, EntityActivationModCategory> modList = new HashMap<>();
+    @Setting(value = "throttle-defaults", comment = "Default ranges of the throttled band around the activation range used for all entities\n"
+            + "unless overridden. Entities outside of their activation range but within this range are fully\n"
+            + "ticked every 'throttle-tick-rate' ticks with scaled movement, reduced AI and limited pathfinding\n"
+            + "instead of only being ticked when immune. Set to 0 to disable.")
+    private Map<String, Integer> throttleRanges = new HashMap<>();
+    @Setting(value = "throttle-tick-rate", comment = "The number of ticks between full ticks of entities in the throttled band.")
+    private int throttleTickRate = 4;
 
     public EntityActivationRangeCategory() {
         this.defaultRanges.put("ambient", 32);
@@ -46,6 +53,11 @@ public EntityActivationRangeCategory() {
         this.defaultRanges.put("creature", 32);
         this.defaultRanges.put("monster", 32);
         this.defaultRanges.put("misc", 16);
+        this.throttleRanges.put("ambient", 0);
+        this.throttleRanges.put("aquatic", 0);
+        this.throttleRanges.put("creature", 0);
+        this.throttleRanges.put("monster", 0);
+        this.throttleRanges.put("misc", 0);
     }
 
     public boolean autoPopulateData() {
@@ -59,4 +71,12 @@ public Map<String, Integer> getDefaultRanges() {
     public Map<String, EntityActivationModCategory> getModList() {
         return this.modList;
     }
+
+    public Map<String, Integer> getThrottleRanges() {
+        return this.throttleRanges;
+    }
+
+    public int getThrottleTickRate() {
+        return Math.max(1, this.throttleTickRate);
+    }
 }
\ No newline at end of file
@@ -41,6 +41,10 @@ public class EntityCollisionCategory extends ConfigCategory {
     private Map<String, Integer> defaultMaxCollisions = new HashMap<>();
     @Setting(value = "mods", comment = "Per-mod overrides. Refer to the minecraft default mod for example.")
     private Map<String, CollisionModCategory> modList = new HashMap<>();
+    @Setting(value = "collision-grid-threshold", comment = "The number of entities in a chunk section at which the entities of the section are indexed in a grid.\n"
+            + "Collision checks in indexed sections only look at entities near the checked area instead of every entity\n"
+            + "in the section, which helps with dense mob farms. Set to 0 to disable. (Default: 32)")
+    private int collisionGridThreshold = 32;
 
     public EntityCollisionCategory() {
         this.defaultMaxCollisions.put("blocks", 8);
@@ -68,4 +72,8 @@ public int getMaxEntitiesWithinAABB() {
     public void setMaxEntitiesWithinAABB(int maxEntities) {
         this.maxEntitiesWithinAABB = maxEntities;
     }
+
+    public int getCollisionGridThreshold() {
+        return this.collisionGridThreshold;
+    }
 }
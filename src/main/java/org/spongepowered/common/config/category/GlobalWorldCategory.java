@@ -63,6 +63,12 @@ public class GlobalWorldCategory extends WorldCategory {
             + "\nNote: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     private List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "region-file-cache-size", comment =
+            "The maximum number of region files kept open across all worlds. (Default: 256)"
+            + "\nWhen the limit is reached, the least recently used region file that is not"
+            + "\ncurrently being read or written is closed.")
+    private int regionFileCacheSize = 256;
+
     public GlobalWorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("0d0c4ca0-4ff1-11e4-916c-0800200c9a66")); // ComputerCraft FakePlayer
@@ -98,4 +104,11 @@ public int getGameProfileQueryTaskInterval() {
     public List<UUID> getInvalidLookupUuids() {
         return this.invalidLookupUuids;
     }
+
+    public int getRegionFileCacheSize() {
+        if (this.regionFileCacheSize <= 0) {
+            this.regionFileCacheSize = 256;
+        }
+        return this.regionFileCacheSize;
+    }
 }
\ No newline at end of file
@@ -53,6 +53,31 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates async.")
     private boolean asyncLighting = true;
 
+    @Setting(value = "async-lighting-threads", comment = "The number of threads shared by all worlds to run async lighting updates. (Default: 0)\n"
+            + "Updates in regions that do not share chunks run in parallel. If set to 0 or less,\n"
+            + "half of the available processors are used, up to 4.")
+    private int asyncLightingThreads = 0;
+
+    @Setting(value = "deferred-lighting", comment = "Defers light checks caused by block changes until the changes have been captured and processed.\n"
+            + "Each position is then only checked once, and chunk sections with many changed blocks, such as\n"
+            + "from explosions, pistons or plugin fills, are relit in a single pass.")
+    private boolean deferredLighting = true;
+
+    @Setting(value = "cache-collision-shapes", comment = "Caches the collision boxes of blocks per chunk section for the rest of a tick once an entity\n"
+            + "has collided with them. Entities moving through the same area then share the boxes instead of each\n"
+            + "computing them again. Blocks with tile entities or mod specific collision logic are not cached.")
+    private boolean collisionShapeCache = true;
+
+    @Setting(value = "parallel-world-ticking", comment = "Ticks each world on its own thread from a shared pool instead of one after another.\n"
+            + "Actions that cross worlds, such as teleports between dimensions, are run on the main thread once all\n"
+            + "worlds have finished ticking. Timings only record the total tick time of worlds ticked this way.\n"
+            + "Warning: this is experimental, mods and plugins that access other worlds while a world ticks may break.")
+    private boolean parallelWorldTicking = false;
+
+    @Setting(value = "parallel-world-tick-threads", comment = "The number of threads used to tick worlds in parallel. (Default: 0)\n"
+            + "If set to 0 or less, one less than the number of available processors is used.")
+    private int parallelWorldTickThreads = 0;
+
     public StructureSaveCategory getStructureSaveCategory() {
         return this.structureSaveCategory;
     }
@@ -72,4 +97,24 @@ public boolean useCacheTameableOwners() {
     public boolean useAsyncLighting() {
         return this.asyncLighting;
     }
+
+    public int getAsyncLightingThreads() {
+        return this.asyncLightingThreads;
+    }
+
+    public boolean useDeferredLighting() {
+        return this.deferredLighting;
+    }
+
+    public boolean useCollisionShapeCache() {
+        return this.collisionShapeCache;
+    }
+
+    public boolean useParallelWorldTicking() {
+        return this.parallelWorldTicking;
+    }
+
+    public int getParallelWorldTickThreads() {
+        return this.parallelWorldTickThreads;
+    }
 }
@@ -26,6 +26,7 @@
 
 import ninja.leaping.configurate.objectmapping.Setting;
 import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.world.storage.compression.RegionCompression;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +37,18 @@ public class WorldCategory extends ConfigCategory {
     @Setting(value = "auto-save-interval", comment = "The auto-save tick interval used to save all loaded chunks in a world. \nSet to 0 to disable. (Default: 900) \nNote: 20 ticks is equivalent to 1 second.")
     private int autoSaveInterval = 900;
 
+    @Setting(value = "auto-save-time-slice", comment = "The maximum number of milliseconds per tick spent saving chunks queued by an auto-save. "
+                                                      + "\nInstead of saving all modified chunks in a single tick, an auto-save queues them and "
+                                                      + "\nsaves them over the following ticks. At least one chunk is saved each tick. "
+                                                      + "\nSet to 0 to save all chunks in the auto-save tick. (Default: 5)")
+    private int autoSaveTimeSlice = 5;
+
+    @Setting(value = "auto-save-entity-only-chunks", comment = "Enable to auto-save chunks whose only changes are to the state of the entities "
+                                                               + "\nwithin them, which is how vanilla behaves. When disabled, only chunks with "
+                                                               + "\nchanged blocks, light or tile entities, or entities entering or leaving them "
+                                                               + "\nare auto-saved. All chunks are still saved when unloaded or when the server stops.")
+    private boolean autoSaveEntityOnlyChunks = true;
+
     @Setting(value = "infinite-water-source", comment = "Vanilla water source behavior - is infinite")
     private boolean infiniteWaterSource = false;
 
@@ -85,6 +98,12 @@ public class WorldCategory extends ConfigCategory {
                                                           + "\nDisabled by default.")
     private int chunkGCLoadThreshold = 0;
 
+    @Setting(value = "chunk-gc-memory-threshold", comment = "The occupancy of the tenured heap after its last collection, in percent of "
+                                                            + "\nits maximum size, at which the chunk gc runs outside of its tick interval. "
+                                                            + "\nChunks queued this way unload without waiting for 'chunk-unload-delay'. "
+                                                            + "\nSet to 0 to disable. (Default: 0)")
+    private int chunkGCMemoryThreshold = 0;
+
     @Setting(value = "chunk-unload-delay", comment = "The number of seconds to delay a chunk unload once marked inactive. (Default: 15)"
                                                      + "\nNote: This gets reset if the chunk becomes active again.")
     private int chunkUnloadDelay = 15;
@@ -103,6 +122,18 @@ public class WorldCategory extends ConfigCategory {
 
     @Setting(value = "weather-ice-and-snow", comment = "Enable to allow the natural formation of ice and snow in supported biomes.")
     private boolean weatherIceAndSnow = true;
+
+    @Setting(value = "chunk-compression", comment = "The compression used when writing chunks to region files. "
+                                                    + "\nChunks are always read with whichever compression they were written with. "
+                                                    + "\nSupported values are 'zlib', 'gzip', 'lz4' and 'none'. (Default: zlib)"
+                                                    + "\nNote: Only 'zlib' and 'gzip' can be read by vanilla, use the region compression "
+                                                    + "\nmigrator to convert a world back before loading it without Sponge.")
+    private String chunkCompression = RegionCompression.ZLIB.getName();
+
+    @Setting(value = "tick-in-parallel", comment = "Enable to allow this world to tick on a world tick thread alongside other worlds. "
+                                                   + "\nOnly has an effect when 'parallel-world-ticking' is enabled in the optimizations. "
+                                                   + "\nDisable for worlds used by plugins or mods that are not safe to run off the main thread.")
+    private boolean tickInParallel = true;
     
     public WorldCategory() {
         this.portalAgents.put("minecraft:default_nether", "DIM-1");
@@ -113,6 +144,14 @@ public int getAutoSaveInterval() {
         return this.autoSaveInterval;
     }
 
+    public int getAutoSaveTimeSlice() {
+        return this.autoSaveTimeSlice;
+    }
+
+    public boolean getAutoSaveEntityOnlyChunks() {
+        return this.autoSaveEntityOnlyChunks;
+    }
+
     public boolean hasInfiniteWaterSource() {
         return this.infiniteWaterSource;
     }
@@ -201,6 +240,10 @@ public int getChunkLoadThreadhold() {
         return this.chunkGCLoadThreshold;
     }
 
+    public int getChunkGCMemoryThreshold() {
+        return this.chunkGCMemoryThreshold;
+    }
+
     public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
@@ -216,4 +259,13 @@ public boolean getWeatherThunder() {
     public boolean getWeatherIceAndSnow() {
         return this.weatherIceAndSnow;
     }
+
+    public RegionCompression getChunkCompression() {
+        final RegionCompression compression = RegionCompression.byName(this.chunkCompression);
+        return compression == null ? RegionCompression.ZLIB : compression;
+    }
+
+    public boolean canTickInParallel() {
+        return this.tickInParallel;
+    }
 }
\ No newline at end of file
@@ -55,6 +55,17 @@
 
     boolean supports(DataHolder dataHolder);
 
+    /**
+     * Gets whether {@link #supports(DataHolder)} only depends on the class
+     * of the holder. Delegates remember the result per holder class for
+     * such processors instead of asking them again.
+     *
+     * @return True if support only depends on the holder class
+     */
+    default boolean hasClassBasedSupport() {
+        return false;
+    }
+
     boolean supports(EntityType entityType);
 
     /**
@@ -25,21 +25,35 @@
 package org.spongepowered.common.data;
 
 import static org.spongepowered.common.util.ReflectionUtil.createUnsafeInstance;
+import static org.spongepowered.common.util.ReflectionUtil.findConstructor;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ObjectArrays;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
+import javax.annotation.Nullable;
+
 public final class ImmutableDataCachingUtil {
 
     private ImmutableDataCachingUtil() {}
@@ -48,16 +62,23 @@ private ImmutableDataCachingUtil() {}
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
-        .maximumSize(MANIPULATOR_CACHE_LIMIT)
+    // Weighted by the number of arguments, manipulators with many values take more space
+    private static final Cache<CacheKey, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+        .maximumWeight(MANIPULATOR_CACHE_LIMIT)
+        .weigher((CacheKey key, ImmutableDataManipulator<?, ?> value) -> key.weight())
         .concurrencyLevel(4)
+        .recordStats()
         .build();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
         .concurrencyLevel(4)
         .maximumSize(VALUE_CACHE_LIMIT)
+        .recordStats()
         .build();
 
+    // Resolved constructors by class and argument types, so misses don't search the constructors again
+    private static final Map<CacheKey, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
      * does not have the desired {@link ImmutableDataManipulator} with relative
@@ -75,13 +96,13 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
+        final CacheKey key = new CacheKey(immutableClass, args);
         // We can't really use the generic typing here because it's complicated...
         try {
             // Let's get the key
             return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
                     try {
-                        return createUnsafeInstance(immutableClass, args);
+                        return construct(immutableClass, args);
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
                         SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
                                                      + Arrays.toString(args), e);
@@ -97,14 +118,15 @@ private ImmutableDataCachingUtil() {}
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        // Arguments of different types may be equal, such as lists, but the values hold the argument
+        final CacheKey key = new CacheKey(valueClass, usedKey, arg.getClass(), arg);
         try {
             return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
                     try {
                         if (extraArgs == null || extraArgs.length == 0) {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
+                            return construct(valueClass, usedKey, defaultArg, arg);
                         }
-                        return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
+                        return construct(valueClass, ObjectArrays.concat(new Object[] {usedKey, defaultArg, arg}, extraArgs, Object.class));
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
                         SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
                     }
@@ -115,15 +137,102 @@ public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T ge
         }
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    public static CacheStats getManipulatorCacheStats() {
+        return manipulatorCache.stats();
+    }
+
+    public static CacheStats getValueCacheStats() {
+        return valueCache.stats();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T construct(final Class<T> type, final Object... args)
+            throws InstantiationException, IllegalAccessException, InvocationTargetException {
+        final Object[] argTypes = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            argTypes[i] = args[i] == null ? null : args[i].getClass();
+        }
+        final CacheKey key = new CacheKey(type, argTypes);
+        Constructor<?> constructor = constructors.get(key);
+        if (constructor == null) {
+            constructor = findConstructor(type, args);
+            constructors.put(key, constructor);
+        }
+        if (constructor.getParameterCount() != args.length) {
+            // The arguments have to be unpacked from arrays first
+            return createUnsafeInstance(type, args);
+        }
+        return (T) constructor.newInstance(args);
+    }
+
+    /**
+     * A cache key of a class and the arguments used to construct an instance
+     * of it. Arguments are compared by equality, including the contents of
+     * arrays. Lists, sets, maps and arrays are copied, so changing them after
+     * the lookup does not make the entry unreachable.
+     */
+    static final class CacheKey {
+
+        private final Class<?> type;
+        private final Object[] args;
+        private final int hashCode;
+
+        CacheKey(Class<?> type, Object... args) {
+            this.type = type;
+            this.args = copyArgs(args);
+            this.hashCode = 31 * type.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        private static Object[] copyArgs(Object[] args) {
+            final Object[] copy = args.clone();
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = copyArg(args[i]);
+            }
+            return copy;
+        }
+
+        private static Object copyArg(@Nullable Object arg) {
+            if (arg instanceof List) {
+                return Collections.unmodifiableList(new ArrayList<>((List<?>) arg));
+            }
+            if (arg instanceof Set) {
+                return Collections.unmodifiableSet(new LinkedHashSet<>((Set<?>) arg));
+            }
+            if (arg instanceof Map) {
+                return Collections.unmodifiableMap(new LinkedHashMap<>((Map<?, ?>) arg));
+            }
+            if (arg instanceof Object[]) {
+                return copyArgs((Object[]) arg);
+            }
+            if (arg != null && arg.getClass().isArray()) {
+                // Primitive arrays, their elements are immutable
+                final int length = Array.getLength(arg);
+                final Object copy = Array.newInstance(arg.getClass().getComponentType(), length);
+                System.arraycopy(arg, 0, copy, 0, length);
+                return copy;
             }
+            return arg;
+        }
+
+        int weight() {
+            return 1 + this.args.length;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) obj;
+            return this.hashCode == other.hashCode && this.type == other.type && Arrays.deepEquals(this.args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
         }
-        return builder.toString();
     }
 }
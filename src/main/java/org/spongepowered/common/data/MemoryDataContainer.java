@@ -26,6 +26,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
@@ -62,6 +63,18 @@ public MemoryDataContainer(DataView.SafetyMode safety) {
         super(safety);
     }
 
+    /**
+     * Creates a new {@link MemoryDataContainer} that reads its values from
+     * the compound when they are first accessed. The compound is not copied
+     * and must not be modified afterwards.
+     *
+     * @param safety The safety mode to use
+     * @param compound The compound to read from
+     */
+    public MemoryDataContainer(DataView.SafetyMode safety, NBTTagCompound compound) {
+        super(safety, checkNotNull(compound, "compound"));
+    }
+
     @Override
     public Optional<DataView> getParent() {
         return Optional.empty();
@@ -36,6 +36,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.NBTTagCompound;
 import org.apache.commons.lang3.ArrayUtils;
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.Sponge;
@@ -67,26 +68,48 @@
  */
 public class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = Maps.newLinkedHashMap();
+    protected final Map<String, Object> map;
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
 
     MemoryDataView(DataView.SafetyMode safety) {
+        this(safety, null);
+    }
+
+    MemoryDataView(DataView.SafetyMode safety, @Nullable NBTTagCompound compound) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
         this.path = of();
         this.parent = this;
         this.container = (DataContainer) this;
         this.safety = checkNotNull(safety, "Safety mode");
+        this.map = compound == null ? Maps.newLinkedHashMap() : new NbtDataMap(this, compound);
     }
 
     private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety) {
+        this(parent, path, safety, null);
+    }
+
+    MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety, @Nullable NBTTagCompound compound) {
         checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
         this.parent = parent;
         this.container = parent.getContainer();
         this.path = parent.getCurrentPath().then(path);
         this.safety = checkNotNull(safety, "Safety mode");
+        this.map = compound == null ? Maps.newLinkedHashMap() : new NbtDataMap(this, compound);
+    }
+
+    /**
+     * Gets the nbt this view reads its values from, as long as the view
+     * hasn't been modified since it was created from the nbt. The returned
+     * compound must not be modified.
+     *
+     * @return The nbt backing this view, or null
+     */
+    @Nullable
+    public NBTTagCompound getBackingCompound() {
+        return this.map instanceof NbtDataMap ? ((NbtDataMap) this.map).getCompound() : null;
     }
 
     @Override
@@ -114,8 +137,8 @@ public Optional<DataView> getParent() {
     public Set<DataQuery> getKeys(boolean deep) {
         ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
-        for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-            builder.add(of(entry.getKey()));
+        for (String key : this.map.keySet()) {
+            builder.add(of(key));
         }
         if (deep) {
             for (Map.Entry<String, Object> entry : this.map.entrySet()) {
@@ -148,12 +171,20 @@ public final boolean contains(DataQuery path) {
         checkNotNull(path, "path");
         List<String> queryParts = path.getParts();
 
-        String key = queryParts.get(0);
-        if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
+        // Walk the parts directly instead of popping the first part per view
+        final int last = queryParts.size() - 1;
+        MemoryDataView view = this;
+        for (int i = 0; i < last; i++) {
+            final Object object = view.map.get(queryParts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (object instanceof DataView) {
+                return ((DataView) object).contains(of(queryParts.subList(i + 1, queryParts.size())));
+            } else {
+                return false;
+            }
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
+        return view.map.containsKey(queryParts.get(last));
     }
 
     @Override
@@ -187,93 +218,164 @@ public Optional<Object> get(DataQuery path) {
             return Optional.<Object>of(this);
         }
 
-        String key = queryParts.get(0);
-        if (sz == 1) {
-            final Object object = this.map.get(key);
-            if (object == null) {
+        // Walk the parts directly instead of popping the first part per view
+        MemoryDataView view = this;
+        for (int i = 0; i < sz - 1; i++) {
+            final Object object = view.map.get(queryParts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (object instanceof DataView) {
+                return ((DataView) object).get(of(queryParts.subList(i + 1, sz)));
+            } else {
                 return Optional.empty();
             }
-            if (this.safety == SafetyMode.ALL_DATA_CLONED) {
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
-                    }
-                }
-            }
-            return Optional.of(object);
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        if (!subViewOptional.isPresent()) {
+        return view.getLocal(queryParts.get(sz - 1));
+    }
+
+    private Optional<Object> getLocal(String key) {
+        final Object object = this.map.get(key);
+        if (object == null) {
             return Optional.empty();
         }
-        DataView subView = subViewOptional.get();
-        return subView.get(path.popFirst());
-
+        if (this.safety == SafetyMode.ALL_DATA_CLONED) {
+            if (object.getClass().isArray()) {
+                if (object instanceof byte[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
+                } else if (object instanceof short[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((short[]) object));
+                } else if (object instanceof int[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((int[]) object));
+                } else if (object instanceof long[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((long[]) object));
+                } else if (object instanceof float[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((float[]) object));
+                } else if (object instanceof double[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((double[]) object));
+                } else if (object instanceof boolean[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
+                } else {
+                    return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
+                }
+            }
+        }
+        return Optional.of(object);
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public DataView set(DataQuery path, Object value) {
         checkNotNull(path, "path");
         checkNotNull(value, "value");
         checkState(this.container != null);
 
-        @Nullable DataManager manager;
+        final List<String> parts = path.getParts();
+        final MemoryDataView view = getOrCreateParent(parts);
+        if (view == null) {
+            setThroughViews(path, value);
+            return this;
+        }
+        view.setLocal(parts.get(parts.size() - 1), parts.size() == 1 ? path : null, value);
+        return this;
+    }
 
-        // TODO: this call to getDataManager each set can be cleaned up
-        try {
-            manager = Sponge.getDataManager();
-        } catch (Exception e) {
-            manager = null;
+    /**
+     * Sets a value that Sponge has already brought into its serialized form,
+     * without the defensive copies and conversions of {@link #set(DataQuery, Object)}.
+     * Lists must be {@link ImmutableList}s of serialized values and arrays
+     * must not be modified after they are set. Other values are set as usual.
+     *
+     * @param path The path of the value
+     * @param value The serialized value
+     * @return This view, for chaining
+     */
+    public DataView setTrusted(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        if (!(value instanceof ImmutableList || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value.getClass().isArray() && value.getClass().getComponentType().isPrimitive())) {
+            return set(path, value);
         }
+        final List<String> parts = path.getParts();
+        final MemoryDataView view = getOrCreateParent(parts);
+        if (view == null) {
+            setThroughViews(path, value);
+            return this;
+        }
+        view.map.put(parts.get(parts.size() - 1), value);
+        return this;
+    }
 
-        List<String> parts = path.getParts();
-        String key = parts.get(0);
-        if (parts.size() > 1) {
-            DataQuery subQuery = of(key);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
-                this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
+    /**
+     * Gets the view that holds the last part of the path, creating missing
+     * views on the way.
+     *
+     * @param parts The parts of the path
+     * @return The view, or null if a view of another type is on the path
+     */
+    @Nullable
+    private MemoryDataView getOrCreateParent(List<String> parts) {
+        MemoryDataView view = this;
+        for (int i = 0; i < parts.size() - 1; i++) {
+            final String key = parts.get(i);
+            final Object object = view.map.get(key);
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (object instanceof DataView) {
+                return null;
             } else {
-                subView = subViewOptional.get();
+                view = (MemoryDataView) view.createView(of(key));
             }
-            subView.set(path.popFirst(), value);
-            return this;
         }
+        return view;
+    }
+
+    // A view of another type is on the path, let each view set the rest of the path
+    private void setThroughViews(DataQuery path, Object value) {
+        final String key = path.getParts().get(0);
+        final DataView subView = getUnsafeView(key).orElseGet(() -> createView(of(key)));
+        subView.set(path.popFirst(), value);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void setLocal(String key, @Nullable DataQuery keyQuery, Object value) {
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
+            final NBTTagCompound compound = value instanceof MemoryDataView ? ((MemoryDataView) value).getBackingCompound() : null;
+            if (compound != null && !compound.hasNoTags() && !(this.map.get(key) instanceof DataView)) {
+                // The view still reads from unmodified nbt, share the nbt instead of copying every value
+                this.map.put(key, new MemoryDataView(this, keyQuery == null ? of(key) : keyQuery, this.safety, compound));
+                return;
+            }
             // always have to copy a data view to avoid overwriting existing
             // views and to set the interior path correctly.
-            copyDataView(path, (DataView) value);
+            copyDataView(keyQuery == null ? of(key) : keyQuery, (DataView) value);
+            return;
         } else if (value instanceof DataSerializable) {
             DataContainer valueContainer = ((DataSerializable) value).toContainer();
             checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
             // see above for why this is copied
-            copyDataView(path, valueContainer);
+            copyDataView(keyQuery == null ? of(key) : keyQuery, valueContainer);
+            return;
         } else if (value instanceof CatalogType) {
-            return set(path, ((CatalogType) value).getId());
-        } else if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
+            setLocal(key, keyQuery, ((CatalogType) value).getId());
+            return;
+        }
+
+        @Nullable DataManager manager;
+
+        // TODO: this call to getDataManager each set can be cleaned up
+        try {
+            manager = Sponge.getDataManager();
+        } catch (Exception e) {
+            manager = null;
+        }
+
+        if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
             DataTranslator serializer = manager.getTranslator(value.getClass()).get();
             final DataContainer container = serializer.translate(value);
             checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
             // see above for why this is copied
-            copyDataView(path, container);
+            copyDataView(keyQuery == null ? of(key) : keyQuery, container);
         } else if (value instanceof Collection) {
             setCollection(key, (Collection) value);
         } else if (value instanceof Map) {
@@ -303,7 +405,6 @@ public DataView set(DataQuery path, Object value) {
         } else {
             this.map.put(key, value);
         }
-        return this;
     }
 
     @Override
@@ -413,18 +514,20 @@ private void copyDataView(DataQuery path, DataView value) {
     public DataView remove(DataQuery path) {
         checkNotNull(path, "path");
         List<String> parts = path.getParts();
-        if (parts.size() > 1) {
-            String subKey = parts.get(0);
-            DataQuery subQuery = of(subKey);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
+        final int last = parts.size() - 1;
+        MemoryDataView view = this;
+        for (int i = 0; i < last; i++) {
+            final Object object = view.map.get(parts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else {
+                if (object instanceof DataView) {
+                    ((DataView) object).remove(of(parts.subList(i + 1, parts.size())));
+                }
                 return this;
             }
-            DataView subView = subViewOptional.get();
-            subView.remove(path.popFirst());
-        } else {
-            this.map.remove(parts.get(0));
         }
+        view.map.remove(parts.get(last));
         return this;
     }
 
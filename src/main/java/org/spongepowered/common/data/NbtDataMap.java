@@ -0,0 +1,177 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.spongepowered.api.data.DataQuery.of;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.common.data.persistence.NbtTranslator;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * The values of a {@link MemoryDataView} read from a {@link NBTTagCompound}.
+ * Values are only translated from nbt when they are accessed, nested
+ * compounds become views that are backed by nbt again. The compound is never
+ * modified, the first modification of the map translates the remaining
+ * values and the map no longer reads from the compound.
+ */
+final class NbtDataMap extends AbstractMap<String, Object> {
+
+    private final MemoryDataView view;
+    @Nullable private NBTTagCompound compound;
+    // The values translated so far, or all values once the map was modified
+    private Map<String, Object> values = new LinkedHashMap<>();
+
+    NbtDataMap(MemoryDataView view, NBTTagCompound compound) {
+        this.view = view;
+        this.compound = compound;
+        for (String key : compound.getKeySet()) {
+            if (key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+                // The keys of booleans differ from the nbt keys, don't bother with lookups
+                translateAll();
+                break;
+            }
+            final byte type = compound.getTagId(key);
+            if (type < NbtDataUtil.TAG_BYTE || type > NbtDataUtil.TAG_INT_ARRAY) {
+                // Tags that can't be translated, such as long arrays, are left out of the
+                // translated values, the key views of the compound would still contain them
+                translateAll();
+                break;
+            }
+        }
+    }
+
+    @Nullable
+    NBTTagCompound getCompound() {
+        return this.compound;
+    }
+
+    @Override
+    public Object get(Object key) {
+        final Object value = this.values.get(key);
+        if (value != null || this.compound == null || !(key instanceof String)) {
+            return value;
+        }
+        final NBTBase tag = this.compound.getTag((String) key);
+        if (tag == null) {
+            return null;
+        }
+        final Object translated = translate((String) key, tag);
+        if (translated != null) {
+            this.values.put((String) key, translated);
+        }
+        return translated;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (this.compound == null) {
+            return this.values.containsKey(key);
+        }
+        return key instanceof String && this.compound.hasKey((String) key);
+    }
+
+    @Override
+    public int size() {
+        return this.compound == null ? this.values.size() : this.compound.getSize();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.compound == null ? this.values.isEmpty() : this.compound.hasNoTags();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return this.compound == null ? this.values.keySet() : Collections.unmodifiableSet(this.compound.getKeySet());
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        translateAll();
+        return this.values.entrySet();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        translateAll();
+        return this.values.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        translateAll();
+        return this.values.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        this.compound = null;
+        this.values.clear();
+    }
+
+    private void translateAll() {
+        final NBTTagCompound compound = this.compound;
+        if (compound == null) {
+            return;
+        }
+        // Keep the order of the nbt keys, like a fully translated view
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (String key : compound.getKeySet()) {
+            final NBTBase tag = compound.getTag(key);
+            if (tag.getId() == NbtDataUtil.TAG_BYTE && key.contains(NbtTranslator.BOOLEAN_IDENTIFER)) {
+                values.put(key.replace(NbtTranslator.BOOLEAN_IDENTIFER, ""), ((NBTTagByte) tag).getByte() != 0);
+                continue;
+            }
+            Object value = this.values.get(key);
+            if (value == null) {
+                value = translate(key, tag);
+            }
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        this.values = values;
+        this.compound = null;
+    }
+
+    @Nullable
+    private Object translate(String key, NBTBase tag) {
+        if (tag.getId() == NbtDataUtil.TAG_COMPOUND) {
+            return new MemoryDataView(this.view, of(key), this.view.getSafetyMode(), (NBTTagCompound) tag);
+        }
+        return NbtTranslator.fromTagBase(tag, tag.getId(), true);
+    }
+}
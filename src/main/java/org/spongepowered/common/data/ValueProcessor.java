@@ -139,6 +139,17 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Gets whether {@link #supports(ValueContainer)} only depends on the
+     * class of the container. Delegates remember the result per container
+     * class for such processors instead of asking them again.
+     *
+     * @return True if support only depends on the container class
+     */
+    default boolean hasClassBasedSupport() {
+        return false;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
@@ -150,6 +161,19 @@
      */
     DataTransactionResult offerToStore(ValueContainer<?> container, E value);
 
+    /**
+     * Offers the value like {@link #offerToStore(ValueContainer, Object)},
+     * without building the replaced and successful values of a
+     * {@link DataTransactionResult}.
+     *
+     * @param container The value container
+     * @param value The value
+     * @return The type of the transaction result
+     */
+    default DataTransactionResult.Type offerValue(ValueContainer<?> container, E value) {
+        return offerToStore(container, value).getType();
+    }
+
     /**
      * Attempts to remove the known keyed data associated with this
      * {@link ValueProcessor} from the provided {@link ValueContainer}. If
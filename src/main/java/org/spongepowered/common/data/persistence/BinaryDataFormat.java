@@ -0,0 +1,583 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.persistence.DataFormat;
+import org.spongepowered.api.data.persistence.InvalidDataFormatException;
+import org.spongepowered.common.SpongeCatalogType;
+import org.spongepowered.common.data.MemoryDataView;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compact binary {@link DataFormat}.
+ *
+ * <p>Every string, keys included, is written once per stream and referenced
+ * by its index afterwards. Integers are written as zig-zag varints and
+ * primitive arrays are packed. A stream can hold any number of records
+ * sharing the same string table, see {@link #openWriter(OutputStream, boolean)}
+ * and {@link #openReader(InputStream)}.</p>
+ */
+public final class BinaryDataFormat extends SpongeCatalogType implements DataFormat {
+
+    private static final int MAGIC = 0x53424446; // SBDF
+    private static final int VERSION = 1;
+    private static final int FLAG_COMPRESSED = 0x01;
+
+    private static final int TAG_END = 0;
+    private static final int TAG_VIEW = 1;
+    private static final int TAG_BYTE = 2;
+    private static final int TAG_SHORT = 3;
+    private static final int TAG_INT = 4;
+    private static final int TAG_LONG = 5;
+    private static final int TAG_FLOAT = 6;
+    private static final int TAG_DOUBLE = 7;
+    private static final int TAG_TRUE = 8;
+    private static final int TAG_FALSE = 9;
+    private static final int TAG_STRING = 10;
+    private static final int TAG_LIST = 11;
+    private static final int TAG_MAP = 12;
+    private static final int TAG_BYTE_ARRAY = 13;
+    private static final int TAG_SHORT_ARRAY = 14;
+    private static final int TAG_INT_ARRAY = 15;
+    private static final int TAG_LONG_ARRAY = 16;
+    private static final int TAG_FLOAT_ARRAY = 17;
+    private static final int TAG_DOUBLE_ARRAY = 18;
+    private static final int TAG_BOOLEAN_ARRAY = 19;
+    private static final int TAG_CHAR_ARRAY = 20;
+
+    private final boolean compress;
+
+    public BinaryDataFormat(String id, boolean compress) {
+        super(id);
+        this.compress = compress;
+    }
+
+    @Override
+    public String getName() {
+        return "Binary";
+    }
+
+    @Override
+    public DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException {
+        try (RecordReader reader = openReader(input)) {
+            final DataContainer container = reader.read();
+            if (container == null) {
+                throw new InvalidDataFormatException("The stream holds no record");
+            }
+            return container;
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream output, DataView data) throws IOException {
+        try (RecordWriter writer = openWriter(output, this.compress)) {
+            writer.write(data);
+        }
+    }
+
+    /**
+     * Opens a writer for a stream of records sharing one string table.
+     *
+     * @param output The stream to write to, closed with the writer
+     * @param compress Whether to deflate the records
+     * @return The writer
+     * @throws IOException If the header could not be written
+     */
+    public static RecordWriter openWriter(OutputStream output, boolean compress) throws IOException {
+        checkNotNull(output, "output");
+        final DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.writeByte(compress ? FLAG_COMPRESSED : 0);
+        return new RecordWriter(compress ? new DeflaterOutputStream(output) : output);
+    }
+
+    /**
+     * Opens a reader for a stream of records written by a {@link RecordWriter}.
+     *
+     * @param input The stream to read from, closed with the reader
+     * @return The reader
+     * @throws IOException If the header could not be read or is invalid
+     */
+    public static RecordReader openReader(InputStream input) throws IOException {
+        checkNotNull(input, "input");
+        final DataInputStream header = new DataInputStream(input);
+        if (header.readInt() != MAGIC) {
+            throw new InvalidDataFormatException("The stream is not in the binary data format");
+        }
+        final int version = header.readUnsignedByte();
+        if (version != VERSION) {
+            throw new InvalidDataFormatException("Unsupported binary data format version: " + version);
+        }
+        final int flags = header.readUnsignedByte();
+        return new RecordReader((flags & FLAG_COMPRESSED) != 0 ? new InflaterInputStream(input) : input);
+    }
+
+    public static final class RecordWriter implements Closeable, Flushable {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        RecordWriter(OutputStream output) {
+            this.out = new DataOutputStream(new BufferedOutputStream(output));
+        }
+
+        /**
+         * Writes the given view as the next record.
+         *
+         * @param view The view to write
+         * @throws IOException If the record could not be written
+         */
+        public void write(DataView view) throws IOException {
+            checkNotNull(view, "view");
+            this.out.writeByte(TAG_VIEW);
+            writeView(view);
+        }
+
+        private void writeView(DataView view) throws IOException {
+            final Set<DataQuery> keys = view.getKeys(false);
+            writeVarInt(keys.size());
+            for (DataQuery key : keys) {
+                writeString(key.asString('.'));
+                writeValue(view.get(key).orElse(null));
+            }
+        }
+
+        private void writeValue(@Nullable Object value) throws IOException {
+            final DataOutputStream out = this.out;
+            if (value instanceof DataView) {
+                out.writeByte(TAG_VIEW);
+                writeView((DataView) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(TAG_INT);
+                writeVarInt(zigZag((Integer) value));
+            } else if (value instanceof String) {
+                out.writeByte(TAG_STRING);
+                writeString((String) value);
+            } else if (value instanceof Long) {
+                out.writeByte(TAG_LONG);
+                writeVarLong(zigZag((Long) value));
+            } else if (value instanceof Double) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Byte) {
+                out.writeByte(TAG_BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Short) {
+                out.writeByte(TAG_SHORT);
+                writeVarInt(zigZag((Short) value));
+            } else if (value instanceof Float) {
+                out.writeByte(TAG_FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Collection) {
+                final Collection<?> collection = (Collection<?>) value;
+                out.writeByte(TAG_LIST);
+                writeVarInt(collection.size());
+                for (Object element : collection) {
+                    writeValue(element);
+                }
+            } else if (value instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) value;
+                out.writeByte(TAG_MAP);
+                writeVarInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    final Object key = entry.getKey();
+                    writeString(key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString());
+                    writeValue(entry.getValue());
+                }
+            } else if (value instanceof DataSerializable) {
+                out.writeByte(TAG_VIEW);
+                writeView(((DataSerializable) value).toContainer());
+            } else if (value instanceof CatalogType) {
+                out.writeByte(TAG_STRING);
+                writeString(((CatalogType) value).getId());
+            } else if (value != null && value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+                writeArray(value);
+            } else {
+                throw new IllegalArgumentException("Unable to write object in the binary data format: " + value);
+            }
+        }
+
+        private void writeArray(Object array) throws IOException {
+            final DataOutputStream out = this.out;
+            if (array instanceof byte[]) {
+                final byte[] bytes = (byte[]) array;
+                out.writeByte(TAG_BYTE_ARRAY);
+                writeVarInt(bytes.length);
+                out.write(bytes);
+            } else if (array instanceof int[]) {
+                final int[] ints = (int[]) array;
+                out.writeByte(TAG_INT_ARRAY);
+                writeVarInt(ints.length);
+                for (int value : ints) {
+                    writeVarInt(zigZag(value));
+                }
+            } else if (array instanceof long[]) {
+                final long[] longs = (long[]) array;
+                out.writeByte(TAG_LONG_ARRAY);
+                writeVarInt(longs.length);
+                for (long value : longs) {
+                    writeVarLong(zigZag(value));
+                }
+            } else if (array instanceof short[]) {
+                final short[] shorts = (short[]) array;
+                out.writeByte(TAG_SHORT_ARRAY);
+                writeVarInt(shorts.length);
+                for (short value : shorts) {
+                    writeVarInt(zigZag(value));
+                }
+            } else if (array instanceof float[]) {
+                final float[] floats = (float[]) array;
+                out.writeByte(TAG_FLOAT_ARRAY);
+                writeVarInt(floats.length);
+                for (float value : floats) {
+                    out.writeFloat(value);
+                }
+            } else if (array instanceof double[]) {
+                final double[] doubles = (double[]) array;
+                out.writeByte(TAG_DOUBLE_ARRAY);
+                writeVarInt(doubles.length);
+                for (double value : doubles) {
+                    out.writeDouble(value);
+                }
+            } else if (array instanceof boolean[]) {
+                final boolean[] booleans = (boolean[]) array;
+                out.writeByte(TAG_BOOLEAN_ARRAY);
+                writeVarInt(booleans.length);
+                // Eight values per byte
+                for (int i = 0; i < booleans.length; i += 8) {
+                    int packed = 0;
+                    for (int j = 0; j < 8 && i + j < booleans.length; j++) {
+                        if (booleans[i + j]) {
+                            packed |= 1 << j;
+                        }
+                    }
+                    out.writeByte(packed);
+                }
+            } else {
+                final char[] chars = (char[]) array;
+                out.writeByte(TAG_CHAR_ARRAY);
+                writeVarInt(chars.length);
+                for (char value : chars) {
+                    writeVarInt(value);
+                }
+            }
+        }
+
+        private void writeString(String string) throws IOException {
+            // 0 introduces a new string, any other value refers to a known one
+            final Integer index = this.strings.get(string);
+            if (index != null) {
+                writeVarInt(index + 1);
+                return;
+            }
+            this.strings.put(string, this.strings.size());
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(0);
+            writeVarInt(bytes.length);
+            this.out.write(bytes);
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                this.out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            this.out.writeByte(value);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                this.out.writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            this.out.writeByte((int) value);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.out.writeByte(TAG_END);
+            this.out.close();
+        }
+
+    }
+
+    public static final class RecordReader implements Closeable {
+
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+
+        RecordReader(InputStream input) {
+            this.in = new DataInputStream(new BufferedInputStream(input));
+        }
+
+        /**
+         * Reads the next record of the stream.
+         *
+         * @return The record, or null if the stream has no more records
+         * @throws IOException If the record could not be read
+         */
+        @Nullable
+        public DataContainer read() throws IOException {
+            final int tag = this.in.read();
+            if (tag == TAG_END || tag == -1) {
+                return null;
+            }
+            if (tag != TAG_VIEW) {
+                throw new InvalidDataFormatException("Expected a record but found tag " + tag);
+            }
+            final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+            readView(container);
+            return container;
+        }
+
+        private void readView(DataView view) throws IOException {
+            final int size = readSize();
+            for (int i = 0; i < size; i++) {
+                final DataQuery key = DataQuery.of(readString());
+                final int tag = this.in.readUnsignedByte();
+                if (tag == TAG_VIEW) {
+                    readView(view.createView(key));
+                } else if (view instanceof MemoryDataView) {
+                    // Everything read here is owned by the view already
+                    ((MemoryDataView) view).setTrusted(key, readValue(tag));
+                } else {
+                    view.set(key, readValue(tag));
+                }
+            }
+        }
+
+        private Object readValue(int tag) throws IOException {
+            final DataInputStream in = this.in;
+            switch (tag) {
+                case TAG_VIEW: {
+                    final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+                    readView(container);
+                    return container;
+                }
+                case TAG_BYTE:
+                    return in.readByte();
+                case TAG_SHORT:
+                    return (short) unZigZag(readVarInt());
+                case TAG_INT:
+                    return unZigZag(readVarInt());
+                case TAG_LONG:
+                    return unZigZag(readVarLong());
+                case TAG_FLOAT:
+                    return in.readFloat();
+                case TAG_DOUBLE:
+                    return in.readDouble();
+                case TAG_TRUE:
+                    return true;
+                case TAG_FALSE:
+                    return false;
+                case TAG_STRING:
+                    return readString();
+                case TAG_LIST: {
+                    final int size = readSize();
+                    final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+                    for (int i = 0; i < size; i++) {
+                        builder.add(readValue(in.readUnsignedByte()));
+                    }
+                    return builder.build();
+                }
+                case TAG_MAP: {
+                    final int size = readSize();
+                    final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+                    for (int i = 0; i < size; i++) {
+                        final String key = readString();
+                        builder.put(key, readValue(in.readUnsignedByte()));
+                    }
+                    return builder.build();
+                }
+                case TAG_BYTE_ARRAY: {
+                    final byte[] bytes = new byte[readSize()];
+                    in.readFully(bytes);
+                    return bytes;
+                }
+                case TAG_SHORT_ARRAY: {
+                    final short[] shorts = new short[readSize()];
+                    for (int i = 0; i < shorts.length; i++) {
+                        shorts[i] = (short) unZigZag(readVarInt());
+                    }
+                    return shorts;
+                }
+                case TAG_INT_ARRAY: {
+                    final int[] ints = new int[readSize()];
+                    for (int i = 0; i < ints.length; i++) {
+                        ints[i] = unZigZag(readVarInt());
+                    }
+                    return ints;
+                }
+                case TAG_LONG_ARRAY: {
+                    final long[] longs = new long[readSize()];
+                    for (int i = 0; i < longs.length; i++) {
+                        longs[i] = unZigZag(readVarLong());
+                    }
+                    return longs;
+                }
+                case TAG_FLOAT_ARRAY: {
+                    final float[] floats = new float[readSize()];
+                    for (int i = 0; i < floats.length; i++) {
+                        floats[i] = in.readFloat();
+                    }
+                    return floats;
+                }
+                case TAG_DOUBLE_ARRAY: {
+                    final double[] doubles = new double[readSize()];
+                    for (int i = 0; i < doubles.length; i++) {
+                        doubles[i] = in.readDouble();
+                    }
+                    return doubles;
+                }
+                case TAG_BOOLEAN_ARRAY: {
+                    final boolean[] booleans = new boolean[readSize()];
+                    for (int i = 0; i < booleans.length; i += 8) {
+                        final int packed = in.readUnsignedByte();
+                        for (int j = 0; j < 8 && i + j < booleans.length; j++) {
+                            booleans[i + j] = (packed & 1 << j) != 0;
+                        }
+                    }
+                    return booleans;
+                }
+                case TAG_CHAR_ARRAY: {
+                    final char[] chars = new char[readSize()];
+                    for (int i = 0; i < chars.length; i++) {
+                        chars[i] = (char) readVarInt();
+                    }
+                    return chars;
+                }
+                default:
+                    throw new InvalidDataFormatException("Unknown tag: " + tag);
+            }
+        }
+
+        private String readString() throws IOException {
+            final int index = readVarInt();
+            if (index != 0) {
+                if (index > this.strings.size()) {
+                    throw new InvalidDataFormatException("Unknown string reference: " + index);
+                }
+                return this.strings.get(index - 1);
+            }
+            final byte[] bytes = new byte[readSize()];
+            this.in.readFully(bytes);
+            final String string = new String(bytes, StandardCharsets.UTF_8);
+            this.strings.add(string);
+            return string;
+        }
+
+        private int readSize() throws IOException {
+            final int size = readVarInt();
+            if (size < 0) {
+                throw new InvalidDataFormatException("Invalid size: " + size);
+            }
+            return size;
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                final int b = this.in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new InvalidDataFormatException("Varint is too long");
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                final int b = this.in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new InvalidDataFormatException("Varlong is too long");
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.in.close();
+        }
+
+    }
+
+    static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
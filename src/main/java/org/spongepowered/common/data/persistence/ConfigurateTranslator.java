@@ -27,17 +27,23 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.spongepowered.api.data.DataQuery.of;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.TypeToken;
 import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.SimpleConfigurationNode;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 /**
  * A translator for translating {@link DataView}s into {@link ConfigurationNode}
  * s.
@@ -62,7 +68,29 @@ public static ConfigurateTranslator instance() {
     private static void populateNode(ConfigurationNode node, DataView container) {
         checkNotNull(node, "node");
         checkNotNull(container, "container");
-        node.setValue(container.getMap(of()).get());
+        // Walk the view into the node instead of copying it into nested maps first
+        node.setValue(ImmutableMap.of());
+        for (DataQuery key : container.getKeys(false)) {
+            populateValue(node.getNode(key.asString('.')), container.get(key).orElse(null));
+        }
+    }
+
+    private static void populateValue(ConfigurationNode node, @Nullable Object value) {
+        if (value instanceof DataView) {
+            populateNode(node, (DataView) value);
+        } else if (value instanceof Map) {
+            node.setValue(ImmutableMap.of());
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                populateValue(node.getNode(entry.getKey().toString()), entry.getValue());
+            }
+        } else if (value instanceof Collection) {
+            node.setValue(ImmutableList.of());
+            for (Object element : (Collection<?>) value) {
+                populateValue(node.getAppendedNode(), element);
+            }
+        } else {
+            node.setValue(value);
+        }
     }
 
     private static DataContainer translateFromNode(ConfigurationNode node) {
@@ -72,15 +100,31 @@ private static DataContainer translateFromNode(ConfigurationNode node) {
         return dataContainer;
     }
 
-    @SuppressWarnings("unchecked")
     private static void translateMapOrList(ConfigurationNode node, DataView container) {
-        Object value = node.getValue();
-        if (value instanceof Map) {
-            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
-                container.set(of('.', entry.getKey().toString()), entry.getValue());
+        if (node.hasMapChildren()) {
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+                translateChild(entry.getValue(), container, of('.', entry.getKey().toString()));
+            }
+        } else {
+            Object value = node.getValue();
+            if (value != null && !(value instanceof Map)) {
+                container.set(of(node.getKey().toString()), value);
+            }
+        }
+    }
+
+    private static void translateChild(ConfigurationNode node, DataView container, DataQuery key) {
+        if (node.hasMapChildren()) {
+            // Build the view from the child nodes instead of copying the node into a map first
+            final DataView view = container.createView(key);
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+                translateChild(entry.getValue(), view, of(entry.getKey().toString()));
+            }
+        } else {
+            final Object value = node.getValue();
+            if (value != null) {
+                container.set(key, value);
             }
-        } else if (value != null) {
-            container.set(of(node.getKey().toString()), value);
         }
     }
 
@@ -59,6 +59,8 @@ public final class DataViewJsonWriter extends JsonWriter {
     };
 
     private final List<Object> stack = new ArrayList<>();
+    // The keys the open arrays will be set at, null for arrays nested in arrays
+    private final List<DataQuery> arrayKeys = new ArrayList<>();
     @Nullable private DataQuery pendingKey;
     private DataContainer result = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
 
@@ -81,25 +83,34 @@ private Object pop() {
 
     @SuppressWarnings("unchecked")
     private void put(@Nullable Object value) {
+        checkState(!this.stack.isEmpty());
         if (this.pendingKey != null) {
-            ((DataView) peek()).set(this.pendingKey, value);
+            // Null values are left out of the view
+            if (value != null) {
+                ((DataView) peek()).set(this.pendingKey, value);
+            }
             this.pendingKey = null;
-        } else {
+        } else if (value != null) {
             ((List<Object>) peek()).add(value);
         }
     }
 
     @Override
     public JsonWriter beginArray() {
-        List<Object> list = new ArrayList<>();
-        put(list);
-        this.stack.add(list);
+        checkState(!this.stack.isEmpty());
+        // Only set the list once it is complete, the view copies it when it is set
+        this.arrayKeys.add(this.pendingKey);
+        this.pendingKey = null;
+        this.stack.add(new ArrayList<>());
         return this;
     }
 
     @Override
     public JsonWriter endArray() {
-        checkState(!this.stack.isEmpty() && this.pendingKey == null && pop() instanceof List);
+        checkState(!this.stack.isEmpty() && this.pendingKey == null && peek() instanceof List);
+        final Object list = pop();
+        this.pendingKey = this.arrayKeys.remove(this.arrayKeys.size() - 1);
+        put(list);
         return this;
     }
 
@@ -113,12 +124,14 @@ public JsonWriter beginObject() {
         Object parent = peek();
         if (parent instanceof DataView) {
             checkState(this.pendingKey != null);
-            ((DataView) parent).createView(this.pendingKey);
+            this.stack.add(((DataView) parent).createView(this.pendingKey));
             this.pendingKey = null;
             return this;
         }
 
-        put(DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED));
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        put(container);
+        this.stack.add(container);
         return this;
     }
 
@@ -26,6 +26,7 @@
 
 import static org.spongepowered.api.data.DataQuery.of;
 
+import com.google.common.collect.ImmutableList;
 import com.google.gson.Gson;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
@@ -37,6 +38,7 @@
 import org.spongepowered.api.data.persistence.InvalidDataException;
 import org.spongepowered.api.data.persistence.StringDataFormat;
 import org.spongepowered.common.SpongeCatalogType;
+import org.spongepowered.common.data.MemoryDataView;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
@@ -50,7 +52,6 @@
 import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -108,9 +109,13 @@ private static void readView(JsonReader reader, DataView view) throws IOExceptio
         while (reader.hasNext()) {
             DataQuery key = of(reader.nextName());
 
-            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            final JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_OBJECT) {
                 // Check this early so we don't need to copy the view
                 readView(reader, view.createView(key));
+            } else if (token == JsonToken.BEGIN_ARRAY && view instanceof MemoryDataView) {
+                // The list only holds values built by this reader, no need to copy it again
+                ((MemoryDataView) view).setTrusted(key, readArray(reader));
             } else {
                 view.set(key, read(reader));
             }
@@ -144,7 +149,18 @@ private static Object read(JsonReader reader) throws IOException {
     private static Number readNumber(JsonReader reader) throws IOException {
         // Similar to https://github.com/zml2008/configurate/blob/master/configurate-gson/src/main/java/ninja/leaping/configurate/gson/GsonConfigurationLoader.java#L113
         // Not sure what's the best way to detect the type of number
-        double nextDouble = reader.nextDouble();
+        final String literal = reader.nextString();
+        if (isIntegral(literal)) {
+            try {
+                final long nextLong = Long.parseLong(literal);
+                final int nextInt = (int) nextLong;
+                return nextInt == nextLong ? (Number) nextInt : (Number) nextLong;
+            } catch (NumberFormatException e) {
+                // Out of the long range, fall back to a double
+            }
+        }
+
+        double nextDouble = Double.parseDouble(literal);
         int nextInt = (int) nextDouble;
         if (nextInt == nextDouble) {
             return nextInt;
@@ -158,16 +174,30 @@ private static Number readNumber(JsonReader reader) throws IOException {
         return nextDouble;
     }
 
+    private static boolean isIntegral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            final char c = literal.charAt(i);
+            if ((c < '0' || c > '9') && (c != '-' || i != 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static List<?> readArray(JsonReader reader) throws IOException {
         reader.beginArray();
 
-        List<Object> result = new ArrayList<>();
+        ImmutableList.Builder<Object> result = ImmutableList.builder();
         while (reader.hasNext()) {
-            result.add(read(reader));
+            final Object value = read(reader);
+            // Null elements can't be stored in the list
+            if (value != null) {
+                result.add(value);
+            }
         }
 
         reader.endArray();
-        return result;
+        return result.build();
     }
 
     @Override
@@ -194,9 +224,10 @@ public void writeTo(Writer output, DataView data) throws IOException {
     private static void writeView(JsonWriter writer, DataView view) throws IOException {
         writer.beginObject();
 
-        for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
-            writer.name(entry.getKey().asString('.'));
-            write(writer, entry.getValue());
+        // Walk the keys instead of getValues(false), which copies every nested view into maps first
+        for (DataQuery key : view.getKeys(false)) {
+            writer.name(key.asString('.'));
+            write(writer, view.get(key).orElse(null));
         }
 
         writer.endObject();
@@ -213,6 +244,8 @@ private static void write(JsonWriter writer, @Nullable Object value) throws IOEx
             writer.value((String) value);
         } else if (value instanceof Iterable) {
             writeArray(writer, (Iterable<?>) value);
+        } else if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+            writePrimitiveArray(writer, value);
         } else if (value instanceof Map) {
             writeMap(writer, (Map<?, ?>) value);
         } else if (value instanceof DataSerializable) {
@@ -232,6 +265,45 @@ private static void writeArray(JsonWriter writer, Iterable<?> iterable) throws I
         writer.endArray();
     }
 
+    private static void writePrimitiveArray(JsonWriter writer, Object array) throws IOException {
+        writer.beginArray();
+        if (array instanceof byte[]) {
+            for (byte value : (byte[]) array) {
+                writer.value(value);
+            }
+        } else if (array instanceof short[]) {
+            for (short value : (short[]) array) {
+                writer.value(value);
+            }
+        } else if (array instanceof int[]) {
+            for (int value : (int[]) array) {
+                writer.value(value);
+            }
+        } else if (array instanceof long[]) {
+            for (long value : (long[]) array) {
+                writer.value(value);
+            }
+        } else if (array instanceof float[]) {
+            for (float value : (float[]) array) {
+                // Widening to a double would print the float's binary noise
+                writer.value(Float.valueOf(value));
+            }
+        } else if (array instanceof double[]) {
+            for (double value : (double[]) array) {
+                writer.value(value);
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean value : (boolean[]) array) {
+                writer.value(value);
+            }
+        } else if (array instanceof char[]) {
+            for (char value : (char[]) array) {
+                writer.value(String.valueOf(value));
+            }
+        }
+        writer.endArray();
+    }
+
     private static void writeMap(JsonWriter writer, Map<?, ?> map) throws IOException {
         writer.beginObject();
 
@@ -29,7 +29,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.spongepowered.api.data.DataQuery.of;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagByte;
@@ -49,11 +49,15 @@
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
 import org.spongepowered.common.data.util.NbtDataUtil;
 
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 public final class NbtTranslator implements DataTranslator<NBTTagCompound> {
 
     private static final NbtTranslator instance = new NbtTranslator();
@@ -78,6 +82,14 @@ private static void containerToCompound(final DataView container, final NBTTagCo
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
+        final NBTTagCompound backing = container instanceof MemoryDataView ? ((MemoryDataView) container).getBackingCompound() : null;
+        if (backing != null) {
+            // The view wasn't modified since it was read from nbt
+            for (String key : backing.getKeySet()) {
+                compound.setTag(key, backing.getTag(key).copy());
+            }
+            return;
+        }
         for (Map.Entry<DataQuery, Object> entry : container.getValues(false).entrySet()) {
             Object value = entry.getValue();
             String key = entry.getKey().asString('.');
@@ -181,41 +193,41 @@ private static void setInternal(NBTBase base, byte type, DataView view, String k
         switch (type) {
             case NbtDataUtil.TAG_BYTE:
                 if (key.contains(BOOLEAN_IDENTIFER)) {
-                    view.set(of(key.replace(BOOLEAN_IDENTIFER, "")), (((NBTTagByte) base).getByte() != 0));
+                    setTrusted(view, of(key.replace(BOOLEAN_IDENTIFER, "")), (((NBTTagByte) base).getByte() != 0));
                 } else {
-                    view.set(of(key), ((NBTTagByte) base).getByte());
+                    setTrusted(view, of(key), ((NBTTagByte) base).getByte());
                 }
                 break;
             case NbtDataUtil.TAG_SHORT:
-                view.set(of(key), ((NBTTagShort) base).getShort());
+                setTrusted(view, of(key), ((NBTTagShort) base).getShort());
                 break;
             case NbtDataUtil.TAG_INT:
-                view.set(of(key), ((NBTTagInt) base).getInt());
+                setTrusted(view, of(key), ((NBTTagInt) base).getInt());
                 break;
             case NbtDataUtil.TAG_LONG:
-                view.set(of(key), ((NBTTagLong) base).getLong());
+                setTrusted(view, of(key), ((NBTTagLong) base).getLong());
                 break;
             case NbtDataUtil.TAG_FLOAT:
-                view.set(of(key), ((NBTTagFloat) base).getFloat());
+                setTrusted(view, of(key), ((NBTTagFloat) base).getFloat());
                 break;
             case NbtDataUtil.TAG_DOUBLE:
-                view.set(of(key), ((NBTTagDouble) base).getDouble());
+                setTrusted(view, of(key), ((NBTTagDouble) base).getDouble());
                 break;
             case NbtDataUtil.TAG_BYTE_ARRAY:
                 view.set(of(key), ((NBTTagByteArray) base).getByteArray());
                 break;
             case NbtDataUtil.TAG_STRING:
-                view.set(of(key), ((NBTTagString) base).getString());
+                setTrusted(view, of(key), ((NBTTagString) base).getString());
                 break;
             case NbtDataUtil.TAG_LIST:
                 NBTTagList list = (NBTTagList) base;
                 byte listType = (byte) list.getTagType();
                 int count = list.tagCount();
-                List objectList = Lists.newArrayListWithCapacity(count);
+                ImmutableList.Builder<Object> objectList = ImmutableList.builder();
                 for (int i = 0; i < count; i++) {
-                    objectList.add(fromTagBase(list.get(i), listType));
+                    objectList.add(fromTagBase(list.get(i), listType, false));
                 }
-                view.set(of(key), objectList);
+                setTrusted(view, of(key), objectList.build());
                 break;
             case NbtDataUtil.TAG_COMPOUND:
                 DataView internalView = view.createView(of(key));
@@ -238,8 +250,27 @@ private static void setInternal(NBTBase base, byte type, DataView view, String k
         }
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object fromTagBase(NBTBase base, byte type) {
+    // Values read from nbt are already in their serialized form, memory views can skip their conversions
+    private static void setTrusted(DataView view, DataQuery path, Object value) {
+        if (view instanceof MemoryDataView) {
+            ((MemoryDataView) view).setTrusted(path, value);
+        } else {
+            view.set(path, value);
+        }
+    }
+
+    /**
+     * Translates a nbt tag to the value a {@link DataView} holds for it.
+     *
+     * @param base The tag
+     * @param type The type of the tag
+     * @param lazy Whether compounds become views that translate their values
+     *     on access, arrays are copied so the views don't share them with
+     *     the nbt
+     * @return The value, or null for unknown tag types
+     */
+    @Nullable
+    public static Object fromTagBase(NBTBase base, byte type, boolean lazy) {
         switch (type) {
             case NbtDataUtil.TAG_BYTE:
                 return ((NBTTagByte) base).getByte();
@@ -254,22 +285,23 @@ private static Object fromTagBase(NBTBase base, byte type) {
             case NbtDataUtil.TAG_DOUBLE:
                 return ((NBTTagDouble) base).getDouble();
             case NbtDataUtil.TAG_BYTE_ARRAY:
-                return ((NBTTagByteArray) base).getByteArray();
+                return lazy ? ((NBTTagByteArray) base).getByteArray().clone() : ((NBTTagByteArray) base).getByteArray();
             case NbtDataUtil.TAG_STRING:
                 return ((NBTTagString) base).getString();
             case NbtDataUtil.TAG_LIST:
                 NBTTagList list = (NBTTagList) base;
                 byte listType = (byte) list.getTagType();
                 int count = list.tagCount();
-                List objectList = Lists.newArrayListWithCapacity(count);
-                for (int i = 0; i < list.tagCount(); i++) {
-                    objectList.add(fromTagBase(list.get(i), listType));
+                ImmutableList.Builder<Object> objectList = ImmutableList.builder();
+                for (int i = 0; i < count; i++) {
+                    objectList.add(fromTagBase(list.get(i), listType, lazy));
                 }
-                return objectList;
+                return objectList.build();
             case NbtDataUtil.TAG_COMPOUND:
-                return getViewFromCompound((NBTTagCompound) base);
+                return lazy ? new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED, (NBTTagCompound) base)
+                        : getViewFromCompound((NBTTagCompound) base);
             case NbtDataUtil.TAG_INT_ARRAY:
-                return ((NBTTagIntArray) base).getIntArray();
+                return lazy ? ((NBTTagIntArray) base).getIntArray().clone() : ((NBTTagIntArray) base).getIntArray();
             default :
                 return null;
         }
@@ -287,6 +319,19 @@ public DataContainer translateFrom(NBTTagCompound node) {
         return NbtTranslator.getViewFromCompound(node);
     }
 
+    /**
+     * Creates a container that reads from the compound directly and only
+     * translates the values that are accessed. Unlike
+     * {@link #translateFrom(NBTTagCompound)}, the compound is not copied, so
+     * it must not be modified afterwards.
+     *
+     * @param node The compound
+     * @return The container backed by the compound
+     */
+    public DataContainer translateLazily(NBTTagCompound node) {
+        return new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED, checkNotNull(node));
+    }
+
     @Override
     public TypeToken<NBTTagCompound> getToken() {
         return TOKEN;
@@ -35,6 +35,7 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -44,9 +45,12 @@
 public abstract class AbstractMultiDataSingleTargetProcessor<Holder, T extends DataManipulator<T, I>, I extends ImmutableDataManipulator<I, T>> extends AbstractMultiDataProcessor<T, I> {
 
     protected final Class<Holder> holderClass;
+    private final boolean classBasedSupport;
 
     public AbstractMultiDataSingleTargetProcessor(Class<Holder> holderClass) {
         this.holderClass = checkNotNull(holderClass);
+        this.classBasedSupport = !DataUtil.isOverridden(getClass(), AbstractMultiDataSingleTargetProcessor.class, "supports", Object.class)
+                && !DataUtil.isOverridden(getClass(), AbstractMultiDataSingleTargetProcessor.class, "supports", DataHolder.class);
     }
 
     @SuppressWarnings("unchecked")
@@ -55,6 +59,11 @@ public boolean supports(DataHolder dataHolder) {
         return this.holderClass.isInstance(dataHolder) && supports((Holder) dataHolder);
     }
 
+    @Override
+    public boolean hasClassBasedSupport() {
+        return this.classBasedSupport;
+    }
+
     protected boolean supports(Holder dataHolder) {
         return true;
     }
@@ -47,10 +47,16 @@
         extends AbstractSingleDataProcessor<T, V, M, I> implements ValueProcessor<T, V> {
 
     protected final Class<Holder> holderClass;
+    private final boolean classBasedSupport;
+    private final boolean customOffer;
 
     protected AbstractSingleDataSingleTargetProcessor(Key<V> key, Class<Holder> holderClass) {
         super(key);
         this.holderClass = checkNotNull(holderClass);
+        this.classBasedSupport = !DataUtil.isOverridden(getClass(), AbstractSingleDataSingleTargetProcessor.class, "supports", Object.class)
+                && !DataUtil.isOverridden(getClass(), AbstractSingleDataSingleTargetProcessor.class, "supports", DataHolder.class);
+        this.customOffer = DataUtil.isOverridden(getClass(), AbstractSingleDataSingleTargetProcessor.class, "offerToStore",
+                ValueContainer.class, Object.class);
     }
 
     protected boolean supports(Holder dataHolder) {
@@ -69,6 +75,11 @@ public boolean supports(DataHolder dataHolder) {
         return this.holderClass.isInstance(dataHolder) && supports((Holder) dataHolder);
     }
 
+    @Override
+    public boolean hasClassBasedSupport() {
+        return this.classBasedSupport;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
@@ -192,6 +203,23 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, T value)
         return DataTransactionResult.failResult(newValue);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public DataTransactionResult.Type offerValue(ValueContainer<?> container, T value) {
+        if (this.customOffer) {
+            return offerToStore(container, value).getType();
+        }
+        if (!supports(container)) {
+            return DataTransactionResult.Type.FAILURE;
+        }
+        try {
+            return set((Holder) container, value) ? DataTransactionResult.Type.SUCCESS : DataTransactionResult.Type.FAILURE;
+        } catch (Exception e) {
+            SpongeImpl.getLogger().debug("An exception occurred when setting data: ", e);
+            return DataTransactionResult.Type.ERROR;
+        }
+    }
+
     @Override
     public final DataTransactionResult remove(DataHolder dataHolder) {
         return removeFrom(dataHolder);
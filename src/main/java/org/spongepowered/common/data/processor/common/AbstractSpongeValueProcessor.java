@@ -34,6 +34,7 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.Optional;
 
@@ -41,10 +42,15 @@
 
     private final Class<C> containerClass;
     protected final Key<V> key;
+    private final boolean classBasedSupport;
+    private final boolean customOffer;
 
     protected AbstractSpongeValueProcessor(Class<C> containerClass, Key<V> key) {
         this.key = checkNotNull(key, "The key is null!");
         this.containerClass = containerClass;
+        this.classBasedSupport = !DataUtil.isOverridden(getClass(), AbstractSpongeValueProcessor.class, "supports", Object.class)
+                && !DataUtil.isOverridden(getClass(), AbstractSpongeValueProcessor.class, "supports", ValueContainer.class);
+        this.customOffer = DataUtil.isOverridden(getClass(), AbstractSpongeValueProcessor.class, "offerToStore", ValueContainer.class, Object.class);
     }
 
     /**
@@ -72,6 +78,11 @@ public boolean supports(ValueContainer<?> container) {
         return this.containerClass.isInstance(container) && supports((C) container);
     }
 
+    @Override
+    public boolean hasClassBasedSupport() {
+        return this.classBasedSupport;
+    }
+
 
     @Override
     public final Key<? extends BaseValue<E>> getKey() {
@@ -125,4 +136,21 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
         return DataTransactionResult.failResult(newValue);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public DataTransactionResult.Type offerValue(ValueContainer<?> container, E value) {
+        if (this.customOffer) {
+            return offerToStore(container, value).getType();
+        }
+        if (!supports(container)) {
+            return DataTransactionResult.Type.FAILURE;
+        }
+        try {
+            return set((C) container, value) ? DataTransactionResult.Type.SUCCESS : DataTransactionResult.Type.FAILURE;
+        } catch (Exception e) {
+            SpongeImpl.getLogger().debug("An exception occurred when setting data: ", e);
+            return DataTransactionResult.Type.ERROR;
+        }
+    }
+
 }
@@ -104,22 +104,37 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, Double va
                 .build()
                 .asImmutable();
             final ImmutableBoundedValue<Double> oldHealthValue = getApiValueFromContainer(container).get().asImmutable();
-            if (value > maxHealth) {
+            if (setHealth((EntityLivingBase) container, value) != DataTransactionResult.Type.SUCCESS) {
                 return DataTransactionResult.errorResult(newHealthValue);
             }
-            try {
-                ((EntityLivingBase) container).setHealth(value.floatValue());
-            } catch (Exception e) {
-                return DataTransactionResult.errorResult(newHealthValue);
-            }
-            if (value.floatValue() <= 0.0F) {
-                ((EntityLivingBase) container).attackEntityFrom(DamageSourceRegistryModule.IGNORED_DAMAGE_SOURCE, 1000F);
-            }
             return builder.success(newHealthValue).replace(oldHealthValue).result(DataTransactionResult.Type.SUCCESS).build();
         }
         return DataTransactionResult.failResult(proposedValue);
     }
 
+    @Override
+    public DataTransactionResult.Type offerValue(ValueContainer<?> container, Double value) {
+        if (!(container instanceof EntityLivingBase)) {
+            return DataTransactionResult.Type.FAILURE;
+        }
+        return setHealth((EntityLivingBase) container, value);
+    }
+
+    private static DataTransactionResult.Type setHealth(EntityLivingBase entity, Double value) {
+        if (value > entity.getMaxHealth()) {
+            return DataTransactionResult.Type.ERROR;
+        }
+        try {
+            entity.setHealth(value.floatValue());
+        } catch (Exception e) {
+            return DataTransactionResult.Type.ERROR;
+        }
+        if (value.floatValue() <= 0.0F) {
+            entity.attackEntityFrom(DamageSourceRegistryModule.IGNORED_DAMAGE_SOURCE, 1000F);
+        }
+        return DataTransactionResult.Type.SUCCESS;
+    }
+
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
         return DataTransactionResult.failNoData();
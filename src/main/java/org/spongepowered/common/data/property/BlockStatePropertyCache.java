@@ -0,0 +1,120 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.property;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import org.spongepowered.api.data.Property;
+import org.spongepowered.api.data.property.PropertyHolder;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.property.store.common.AbstractBlockPropertyStore;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * The results of state only {@link AbstractBlockPropertyStore}s, computed
+ * once for every block state and indexed by the global block state id.
+ */
+final class BlockStatePropertyCache<T extends Property<?, ?>> {
+
+    @Nullable
+    static <T extends Property<?, ?>> BlockStatePropertyCache<T> create(List<AbstractBlockPropertyStore<T>> propertyStores, boolean locations) {
+        int size = 0;
+        for (IBlockState state : Block.BLOCK_STATE_IDS) {
+            if (state != null) {
+                size = Math.max(size, Block.BLOCK_STATE_IDS.get(state) + 1);
+            }
+        }
+        if (size == 0) {
+            return null;
+        }
+        final IBlockState[] states = new IBlockState[size];
+        @SuppressWarnings("unchecked")
+        final Optional<T>[] values = new Optional[size];
+        for (IBlockState state : Block.BLOCK_STATE_IDS) {
+            if (state == null) {
+                continue;
+            }
+            final int id = Block.BLOCK_STATE_IDS.get(state);
+            try {
+                values[id] = compute(propertyStores, state);
+                states[id] = state;
+            } catch (Exception e) {
+                // Leave the state to the stores, some modded blocks don't expect to be queried without a world
+                SpongeImpl.getLogger().debug("Could not cache the property of block state {}", state, e);
+            }
+        }
+        return new BlockStatePropertyCache<>(states, values, locations);
+    }
+
+    private static <T extends Property<?, ?>> Optional<T> compute(List<AbstractBlockPropertyStore<T>> propertyStores, IBlockState state) {
+        for (AbstractBlockPropertyStore<T> propertyStore : propertyStores) {
+            final Optional<T> optional = propertyStore.getFor((PropertyHolder) state);
+            if (optional.isPresent()) {
+                return optional;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private final IBlockState[] states;
+    private final Optional<T>[] values;
+    private final boolean locations;
+
+    private BlockStatePropertyCache(IBlockState[] states, Optional<T>[] values, boolean locations) {
+        this.states = states;
+        this.values = values;
+        this.locations = locations;
+    }
+
+    /**
+     * Gets whether the cached results also apply to lookups at locations.
+     *
+     * @return True if locations can use the cache
+     */
+    boolean appliesToLocations() {
+        return this.locations;
+    }
+
+    /**
+     * Gets the cached property of the given block state.
+     *
+     * @param state The block state
+     * @return The cached property, or null if the state isn't cached
+     */
+    @Nullable
+    Optional<T> get(IBlockState state) {
+        final int id = Block.BLOCK_STATE_IDS.get(state);
+        // States sharing the id of another state aren't cached
+        if (id >= 0 && id < this.states.length && this.states[id] == state) {
+            return this.values[id];
+        }
+        return null;
+    }
+
+}
@@ -25,25 +25,67 @@
 package org.spongepowered.common.data.property;
 
 import com.google.common.collect.ImmutableList;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import org.spongepowered.api.data.Property;
 import org.spongepowered.api.data.property.PropertyHolder;
 import org.spongepowered.api.data.property.PropertyStore;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
+import org.spongepowered.common.data.property.store.common.AbstractBlockPropertyStore;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public class PropertyStoreDelegate<T extends Property<?, ?>> implements PropertyStore<T> {
 
     private final ImmutableList<PropertyStore<T>> propertyStores;
+    @Nullable private BlockStatePropertyCache<T> blockStateCache;
 
     public PropertyStoreDelegate(ImmutableList<PropertyStore<T>> propertyStores) {
         this.propertyStores = propertyStores;
     }
 
+    /**
+     * Computes the property of every block state up front, if all the stores
+     * are block property stores that only depend on the block state.
+     */
+    @SuppressWarnings("unchecked")
+    void cacheBlockStates() {
+        final List<AbstractBlockPropertyStore<T>> blockStores = new ArrayList<>(this.propertyStores.size());
+        boolean locations = true;
+        for (PropertyStore<T> propertyStore : this.propertyStores) {
+            if (!(propertyStore instanceof AbstractBlockPropertyStore) || !((AbstractBlockPropertyStore<T>) propertyStore).isStateOnly()) {
+                return;
+            }
+            final AbstractBlockPropertyStore<T> blockStore = (AbstractBlockPropertyStore<T>) propertyStore;
+            locations &= blockStore.isStateOnlyForLocations();
+            blockStores.add(blockStore);
+        }
+        this.blockStateCache = BlockStatePropertyCache.create(blockStores, locations);
+    }
+
     @Override
     public Optional<T> getFor(PropertyHolder propertyHolder) {
+        final BlockStatePropertyCache<T> cache = this.blockStateCache;
+        if (cache != null) {
+            IBlockState state = null;
+            if (propertyHolder instanceof Location) {
+                state = (IBlockState) ((Location<?>) propertyHolder).getBlock();
+            } else if (propertyHolder instanceof IBlockState) {
+                state = (IBlockState) propertyHolder;
+            } else if (propertyHolder instanceof Block) {
+                state = ((Block) propertyHolder).getDefaultState();
+            }
+            final Optional<T> cached = state == null ? null : cache.get(state);
+            if (cached != null) {
+                return cached;
+            }
+        }
         for (PropertyStore<T> propertyStore : this.propertyStores) {
             final Optional<T> optional = propertyStore.getFor(propertyHolder);
             if (optional.isPresent()) {
@@ -55,6 +97,13 @@ public Optional<T> getFor(PropertyHolder propertyHolder) {
 
     @Override
     public Optional<T> getFor(Location<World> location) {
+        final BlockStatePropertyCache<T> cache = this.blockStateCache;
+        if (cache != null && cache.appliesToLocations()) {
+            final Optional<T> cached = cache.get((IBlockState) location.getBlock());
+            if (cached != null) {
+                return cached;
+            }
+        }
         for (PropertyStore<T> propertyStore : this.propertyStores) {
             final Optional<T> optional = propertyStore.getFor(location);
             if (optional.isPresent()) {
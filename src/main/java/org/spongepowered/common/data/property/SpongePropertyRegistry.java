@@ -59,6 +59,7 @@ public void completeRegistration() {
             Collections.sort(entry.getValue(), ComparatorUtil.PROPERTY_STORE_COMPARATOR);
             propertyStoreBuilder.addAll(entry.getValue());
             final PropertyStoreDelegate<?> delegate = new PropertyStoreDelegate(propertyStoreBuilder.build());
+            delegate.cacheBlockStates();
             this.delegateMap.put(entry.getKey(), delegate);
         }
         this.propertyStoreMap.clear();
@@ -35,15 +35,42 @@
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.Optional;
 
 public abstract class AbstractBlockPropertyStore<T extends Property<?, ?>> extends AbstractSpongePropertyStore<T> {
 
     private final boolean checksItemStack;
+    private final boolean stateOnly;
+    private final boolean stateOnlyForLocations;
 
     protected AbstractBlockPropertyStore(boolean checksItemStack) {
         this.checksItemStack = checksItemStack;
+        this.stateOnly = !DataUtil.isOverridden(getClass(), AbstractBlockPropertyStore.class, "getFor", PropertyHolder.class);
+        this.stateOnlyForLocations = this.stateOnly
+                && !DataUtil.isOverridden(getClass(), AbstractBlockPropertyStore.class, "getFor", Location.class);
+    }
+
+    /**
+     * Gets whether the property of a block state, block or location holder
+     * only depends on the block state, so that it can be computed once per
+     * block state.
+     *
+     * @return True if the property only depends on the block state
+     */
+    public boolean isStateOnly() {
+        return this.stateOnly;
+    }
+
+    /**
+     * Gets whether {@link #getFor(Location)} only depends on the block state
+     * at the location, and not on the world around it.
+     *
+     * @return True if the property at a location only depends on the block state
+     */
+    public boolean isStateOnlyForLocations() {
+        return this.stateOnlyForLocations;
     }
 
     /**
@@ -0,0 +1,211 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import co.aikar.timings.SpongeTimings;
+import co.aikar.timings.TimingsManager;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
+import org.spongepowered.common.interfaces.data.IMixinDataHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Offers, gets and removes a {@link Key} on many {@link DataHolder}s at
+ * once. The processor of the key is looked up once per call and timings
+ * are only started once, the processors themselves are still resolved per
+ * holder class by their delegates.
+ *
+ * <p>Only holders that dispatch their data like
+ * {@link org.spongepowered.common.mixin.core.data.MixinDataHolder}, see
+ * {@link IMixinDataHolder}, are handed to the processor directly. All other
+ * holders, such as locations, have their own offer, get and remove.</p>
+ *
+ * <p>The statuses of offers and removals are returned as the ordinals of
+ * their {@link DataTransactionResult.Type}, one byte per holder, see
+ * {@link #getType(byte)}.</p>
+ */
+public final class BulkDataOperations {
+
+    private static final DataTransactionResult.Type[] TYPES = DataTransactionResult.Type.values();
+
+    /**
+     * Gets the transaction result type of a status returned by this class.
+     *
+     * @param status The status
+     * @return The transaction result type
+     */
+    public static DataTransactionResult.Type getType(byte status) {
+        return TYPES[status];
+    }
+
+    /**
+     * Offers the value to all the holders. No replaced or successful values
+     * are built for the holders.
+     *
+     * @param holders The holders
+     * @param key The key
+     * @param value The value
+     * @param <E> The type of value
+     * @return The status of each holder
+     */
+    public static <E> byte[] offer(List<? extends DataHolder> holders, Key<? extends BaseValue<E>> key, E value) {
+        return offer(holders, key, value, null);
+    }
+
+    /**
+     * Offers the value to all the holders.
+     *
+     * @param holders The holders
+     * @param key The key
+     * @param value The value
+     * @param results The builder to absorb the full result of each holder into,
+     *     if the replaced values are needed to undo the offers
+     * @param <E> The type of value
+     * @return The status of each holder
+     */
+    public static <E> byte[] offer(List<? extends DataHolder> holders, Key<? extends BaseValue<E>> key, E value,
+            @Nullable DataTransactionResult.Builder results) {
+        checkNotNull(holders, "holders");
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
+        SpongeTimings.dataOfferKey.startTimingIfSync();
+        final byte[] statuses = new byte[holders.size()];
+        final ValueProcessor<E, ? extends BaseValue<E>> processor = DataUtil.getBaseValueProcessor(key).orElse(null);
+        for (int i = 0; i < statuses.length; i++) {
+            final DataHolder holder = holders.get(i);
+            final DataTransactionResult.Type type;
+            if (results != null) {
+                final DataTransactionResult result;
+                if (!(holder instanceof IMixinDataHolder)) {
+                    result = holder.offer(key, value);
+                } else if (processor != null) {
+                    result = processor.offerToStore(holder, value);
+                } else if (holder instanceof IMixinCustomDataHolder) {
+                    result = ((IMixinCustomDataHolder) holder).offerCustom(key, value);
+                } else {
+                    result = DataTransactionResult.failNoData();
+                }
+                results.absorbResult(result);
+                type = result.getType();
+            } else if (!(holder instanceof IMixinDataHolder)) {
+                type = holder.offer(key, value).getType();
+            } else if (processor != null) {
+                type = processor.offerValue(holder, value);
+            } else if (holder instanceof IMixinCustomDataHolder) {
+                type = ((IMixinCustomDataHolder) holder).offerCustom(key, value).getType();
+            } else {
+                type = DataTransactionResult.Type.FAILURE;
+            }
+            statuses[i] = (byte) type.ordinal();
+        }
+        SpongeTimings.dataOfferKey.stopTimingIfSync();
+        TimingsManager.DATA_GROUP_HANDLER.stopTimingIfSync();
+        return statuses;
+    }
+
+    /**
+     * Gets the value of the key from all the holders.
+     *
+     * @param holders The holders
+     * @param key The key
+     * @param <E> The type of value
+     * @return The value of each holder, null where the holder has no value
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> List<E> get(List<? extends DataHolder> holders, Key<? extends BaseValue<E>> key) {
+        checkNotNull(holders, "holders");
+        checkNotNull(key, "key");
+        TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
+        SpongeTimings.dataGetByKey.startTimingIfSync();
+        final Object[] values = new Object[holders.size()];
+        final ValueProcessor<E, ? extends BaseValue<E>> processor = DataUtil.getBaseValueProcessor(key).orElse(null);
+        for (int i = 0; i < values.length; i++) {
+            final DataHolder holder = holders.get(i);
+            final Optional<E> value;
+            if (!(holder instanceof IMixinDataHolder)) {
+                value = holder.get(key);
+            } else if (processor != null) {
+                value = processor.getValueFromContainer(holder);
+            } else if (holder instanceof IMixinCustomDataHolder) {
+                value = ((IMixinCustomDataHolder) holder).getCustom(key);
+            } else {
+                value = Optional.empty();
+            }
+            values[i] = value.orElse(null);
+        }
+        SpongeTimings.dataGetByKey.stopTimingIfSync();
+        TimingsManager.DATA_GROUP_HANDLER.stopTimingIfSync();
+        return (List<E>) Arrays.asList(values);
+    }
+
+    /**
+     * Removes the key from all the holders.
+     *
+     * @param holders The holders
+     * @param key The key
+     * @return The status of each holder
+     */
+    public static byte[] remove(List<? extends DataHolder> holders, Key<?> key) {
+        checkNotNull(holders, "holders");
+        checkNotNull(key, "key");
+        TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
+        SpongeTimings.dataRemoveKey.startTimingIfSync();
+        final byte[] statuses = new byte[holders.size()];
+        final ValueProcessor<?, ?> processor = DataUtil.getWildValueProcessor(key).orElse(null);
+        for (int i = 0; i < statuses.length; i++) {
+            final DataHolder holder = holders.get(i);
+            final DataTransactionResult result;
+            if (!(holder instanceof IMixinDataHolder)) {
+                result = holder.remove(key);
+            } else if (processor != null) {
+                result = processor.removeFrom(holder);
+            } else if (holder instanceof IMixinCustomDataHolder) {
+                result = ((IMixinCustomDataHolder) holder).removeCustom(key);
+            } else {
+                result = DataTransactionResult.failNoData();
+            }
+            statuses[i] = (byte) result.getType().ordinal();
+        }
+        SpongeTimings.dataRemoveKey.stopTimingIfSync();
+        TimingsManager.DATA_GROUP_HANDLER.stopTimingIfSync();
+        return statuses;
+    }
+
+    private BulkDataOperations() {
+    }
+
+}
@@ -46,6 +46,7 @@
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    private final SupportedProcessorCache<Tuple<DataProcessor<M, I>, Timing>> supported;
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -53,6 +54,8 @@ public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
             builder.add(new Tuple<>(processor, SpongeTimingsFactory.ofSafe(SpongeImpl.getPlugin(), processor.getClass().getCanonicalName())));
         }
         this.processors = builder.build();
+        this.supported = new SupportedProcessorCache<>(this.processors, tuple -> tuple.getFirst().hasClassBasedSupport(),
+                (tuple, dataHolder) -> tuple.getFirst().supports((DataHolder) dataHolder));
     }
 
     @Override
@@ -64,11 +67,13 @@ public int getPriority() {
     public boolean supports(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        final SupportedProcessorCache.Supported<Tuple<DataProcessor<M, I>, Timing>> supported = this.supported.get(dataHolder);
+        for (int i = 0; i < supported.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = supported.get(i);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (!supported.requiresCheck(i) || tuple.getFirst().supports(dataHolder)) {
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
                 }
@@ -90,11 +95,13 @@ public boolean supports(EntityType entityType) {
     public Optional<M> from(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        final SupportedProcessorCache.Supported<Tuple<DataProcessor<M, I>, Timing>> supported = this.supported.get(dataHolder);
+        for (int i = 0; i < supported.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = supported.get(i);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (!supported.requiresCheck(i) || tuple.getFirst().supports(dataHolder)) {
                 final Optional<M> optional = tuple.getFirst().from(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -115,11 +122,13 @@ public Optional<M> from(DataHolder dataHolder) {
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        final SupportedProcessorCache.Supported<Tuple<DataProcessor<M, I>, Timing>> supported = this.supported.get(dataHolder);
+        for (int i = 0; i < supported.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = supported.get(i);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (!supported.requiresCheck(i) || tuple.getFirst().supports(dataHolder)) {
                 final Optional<M> optional = tuple.getFirst().fill(dataHolder, manipulator, overlap);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -159,11 +168,13 @@ public Optional<M> fill(DataContainer container, M m) {
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        final SupportedProcessorCache.Supported<Tuple<DataProcessor<M, I>, Timing>> supported = this.supported.get(dataHolder);
+        for (int i = 0; i < supported.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = supported.get(i);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (!supported.requiresCheck(i) || tuple.getFirst().supports(dataHolder)) {
                 final DataTransactionResult result = tuple.getFirst().set(dataHolder, manipulator, function);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     if (callingFromMinecraftThread) {
@@ -203,11 +214,13 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
     public DataTransactionResult remove(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        final SupportedProcessorCache.Supported<Tuple<DataProcessor<M, I>, Timing>> supported = this.supported.get(dataHolder);
+        for (int i = 0; i < supported.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = supported.get(i);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (!supported.requiresCheck(i) || tuple.getFirst().supports(dataHolder)) {
                 final DataTransactionResult result = tuple.getFirst().remove(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
@@ -228,11 +241,13 @@ public DataTransactionResult remove(DataHolder dataHolder) {
     public Optional<M> createFrom(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        final SupportedProcessorCache.Supported<Tuple<DataProcessor<M, I>, Timing>> supported = this.supported.get(dataHolder);
+        for (int i = 0; i < supported.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = supported.get(i);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
+            if (!supported.requiresCheck(i) || tuple.getFirst().supports(dataHolder)) {
                 final Optional<M> optional = tuple.getFirst().createFrom(dataHolder);
                 if (callingFromMinecraftThread) {
                     tuple.getSecond().stopTiming();
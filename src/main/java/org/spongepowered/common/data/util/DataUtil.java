@@ -424,4 +424,28 @@ public static Optional<NbtValueProcessor> getRawNbtProcessor(NbtDataType dataTyp
         return (Optional<DataRegistration<?, ?>>) (Optional<?>) SpongeManipulatorRegistry.getInstance().getRegistrationFor(id);
     }
 
+    /**
+     * Checks whether a method of the base class is overridden by the given
+     * class or any of its superclasses below the base class. Bridge methods
+     * count, so overriding a generic method with a narrower parameter type
+     * is detected through its erasure.
+     *
+     * @param type The class to check
+     * @param base The class declaring the method
+     * @param name The name of the method
+     * @param parameterTypes The erased parameter types of the method
+     * @return True if the method is overridden
+     */
+    public static boolean isOverridden(Class<?> type, Class<?> base, String name, Class<?>... parameterTypes) {
+        for (Class<?> clazz = type; clazz != null && clazz != base; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignored) {
+                // Keep looking in the superclass
+            }
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Remembers, per holder class, which processors of a delegate can support
+ * the holder. Processors with class based support are checked once per
+ * class and then either dropped or kept without further checks. The other
+ * processors are kept in place and still have to be asked for every holder,
+ * so the processors are tried in the same order as without the cache.
+ *
+ * @param <P> The type of processor
+ */
+public final class SupportedProcessorCache<P> {
+
+    private final ImmutableList<P> processors;
+    private final Predicate<P> classBased;
+    private final BiPredicate<P, Object> supports;
+    private final Map<Class<?>, Supported<P>> byClass = new ConcurrentHashMap<>();
+
+    public SupportedProcessorCache(ImmutableList<P> processors, Predicate<P> classBased, BiPredicate<P, Object> supports) {
+        this.processors = processors;
+        this.classBased = classBased;
+        this.supports = supports;
+    }
+
+    /**
+     * Gets the processors that may support the holder.
+     *
+     * @param holder The holder
+     * @return The processors that may support the holder
+     */
+    public Supported<P> get(Object holder) {
+        final Class<?> holderClass = holder.getClass();
+        Supported<P> supported = this.byClass.get(holderClass);
+        if (supported == null) {
+            // Not computeIfAbsent, checking support may look up other holders of the same delegate
+            supported = resolve(holder);
+            this.byClass.put(holderClass, supported);
+        }
+        return supported;
+    }
+
+    private Supported<P> resolve(Object holder) {
+        final List<P> candidates = new ArrayList<>(this.processors.size());
+        final List<Boolean> checks = new ArrayList<>(this.processors.size());
+        for (P processor : this.processors) {
+            if (!this.classBased.test(processor)) {
+                candidates.add(processor);
+                checks.add(true);
+            } else if (this.supports.test(processor, holder)) {
+                candidates.add(processor);
+                checks.add(false);
+            }
+        }
+        final boolean[] requiresCheck = new boolean[checks.size()];
+        for (int i = 0; i < requiresCheck.length; i++) {
+            requiresCheck[i] = checks.get(i);
+        }
+        return new Supported<>(candidates, requiresCheck);
+    }
+
+    public static final class Supported<P> {
+
+        private final List<P> processors;
+        private final boolean[] requiresCheck;
+
+        Supported(List<P> processors, boolean[] requiresCheck) {
+            this.processors = processors;
+            this.requiresCheck = requiresCheck;
+        }
+
+        public int size() {
+            return this.processors.size();
+        }
+
+        public P get(int index) {
+            return this.processors.get(index);
+        }
+
+        /**
+         * Gets whether the processor at the index still has to be asked
+         * whether it supports the holder.
+         *
+         * @param index The index of the processor
+         * @return True if support has to be checked for each holder
+         */
+        public boolean requiresCheck(int index) {
+            return this.requiresCheck[index];
+        }
+    }
+}
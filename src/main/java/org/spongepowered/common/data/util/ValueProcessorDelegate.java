@@ -44,11 +44,12 @@
 public final class ValueProcessorDelegate<E, V extends BaseValue<E>> implements ValueProcessor<E, V> {
 
     private final Key<V> key;
-    private final ImmutableList<ValueProcessor<E, V>> processors;
+    private final SupportedProcessorCache<ValueProcessor<E, V>> supported;
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
-        this.processors = processors;
+        this.supported = new SupportedProcessorCache<>(processors, ValueProcessor::hasClassBasedSupport,
+                (processor, container) -> processor.supports((ValueContainer<?>) container));
     }
 
     @Override
@@ -63,8 +64,10 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final SupportedProcessorCache.Supported<ValueProcessor<E, V>> supported = this.supported.get(container);
+        for (int i = 0; i < supported.size(); i++) {
+            final ValueProcessor<E, V> processor = supported.get(i);
+            if (!supported.requiresCheck(i) || processor.supports(container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -76,8 +79,10 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final SupportedProcessorCache.Supported<ValueProcessor<E, V>> supported = this.supported.get(container);
+        for (int i = 0; i < supported.size(); i++) {
+            final ValueProcessor<E, V> processor = supported.get(i);
+            if (!supported.requiresCheck(i) || processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -89,8 +94,10 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final SupportedProcessorCache.Supported<ValueProcessor<E, V>> supported = this.supported.get(container);
+        for (int i = 0; i < supported.size(); i++) {
+            final ValueProcessor<E, V> processor = supported.get(i);
+            if (!supported.requiresCheck(i) || processor.supports(container)) {
                 return true;
             }
         }
@@ -99,16 +106,19 @@ public boolean supports(ValueContainer<?> container) {
 
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final SupportedProcessorCache.Supported<ValueProcessor<E, V>> supported = this.supported.get(container);
+        for (int i = 0; i < supported.size(); i++) {
+            final ValueProcessor<E, V> processor = supported.get(i);
+            if (!supported.requiresCheck(i) || processor.supports(container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (int i = 0; i < supported.size(); i++) {
+            final ValueProcessor<E, V> processor = supported.get(i);
+            if (!supported.requiresCheck(i) || processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     V mutable = optional.get();
@@ -120,10 +130,27 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
         return DataTransactionResult.failNoData();
     }
 
+    @Override
+    public DataTransactionResult.Type offerValue(ValueContainer<?> container, E value) {
+        final SupportedProcessorCache.Supported<ValueProcessor<E, V>> supported = this.supported.get(container);
+        for (int i = 0; i < supported.size(); i++) {
+            final ValueProcessor<E, V> processor = supported.get(i);
+            if (!supported.requiresCheck(i) || processor.supports(container)) {
+                final DataTransactionResult.Type type = processor.offerValue(container, value);
+                if (type != DataTransactionResult.Type.FAILURE) {
+                    return type;
+                }
+            }
+        }
+        return DataTransactionResult.Type.FAILURE;
+    }
+
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final SupportedProcessorCache.Supported<ValueProcessor<E, V>> supported = this.supported.get(container);
+        for (int i = 0; i < supported.size(); i++) {
+            final ValueProcessor<E, V> processor = supported.get(i);
+            if (!supported.requiresCheck(i) || processor.supports(container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
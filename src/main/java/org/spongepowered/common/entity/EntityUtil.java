@@ -114,7 +114,9 @@
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.registry.type.entity.ProfessionRegistryModule;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.WorldTickThread;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -159,6 +161,16 @@ public boolean apply(Entity entity) {
     @Nullable
     public static Entity transferEntityToDimension(IMixinEntity mixinEntity, int toSuggestedDimension) {
         final Entity entity = toNative(mixinEntity);
+        if (WorldTickThread.isWorldTickThread()) {
+            // The target world may be ticking on another thread, move the entity once all worlds are done
+            final net.minecraft.world.World fromWorld = entity.world;
+            ParallelWorldTicker.runAfterWorldTicks(() -> {
+                if (!entity.isDead && entity.world == fromWorld) {
+                    transferEntityToDimension(mixinEntity, toSuggestedDimension);
+                }
+            });
+            return null;
+        }
         // handle portal event
         MoveEntityEvent.Teleport.Portal event = handleDisplaceEntityPortalEvent(entity, toSuggestedDimension, null);
         if (event == null || event.isCancelled()) {
@@ -194,11 +206,22 @@ public static Entity transferEntityToDimension(IMixinEntity mixinEntity, int toS
      *
      * @param mixinEntityPlayerMP The player being teleported
      * @param suggestedDimensionId The suggested dimension
-     * @return The player object, not re-created
+     * @return The player object, not re-created, or null if called from a
+     *     world tick thread, in which case the transfer is deferred until
+     *     all worlds have finished ticking
      */
     @Nullable
     public static Entity teleportPlayerToDimension(IMixinEntityPlayerMP mixinEntityPlayerMP, int suggestedDimensionId) {
         final EntityPlayerMP entityPlayerMP = toNative(mixinEntityPlayerMP);
+        if (WorldTickThread.isWorldTickThread()) {
+            final net.minecraft.world.World fromWorld = entityPlayerMP.world;
+            ParallelWorldTicker.runAfterWorldTicks(() -> {
+                if (!entityPlayerMP.isDead && entityPlayerMP.world == fromWorld) {
+                    teleportPlayerToDimension(mixinEntityPlayerMP, suggestedDimensionId);
+                }
+            });
+            return null;
+        }
         boolean sameDimension = entityPlayerMP.dimension == suggestedDimensionId;
         // If leaving The End via End's Portal
         // Sponge Start - Check the provider, not the world's dimension
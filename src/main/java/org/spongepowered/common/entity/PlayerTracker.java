@@ -24,32 +24,13 @@
  */
 package org.spongepowered.common.entity;
 
-public class PlayerTracker {
+public final class PlayerTracker {
 
     public enum Type {
         OWNER,
         NOTIFIER
     }
 
-    public int ownerIndex;
-    public int notifierIndex;
-
-    public PlayerTracker() {
-        this.ownerIndex = -1;
-        this.notifierIndex = -1;
-    }
-
-    public PlayerTracker(int index, Type type) {
-        if (type == Type.OWNER) {
-            this.ownerIndex = index;
-            this.notifierIndex = -1;
-        } else {
-            this.notifierIndex = index;
-            this.ownerIndex = -1;
-        }
-    }
-
-    public void setNotifier(int notifierIndex) {
-        this.notifierIndex = notifierIndex;
+    private PlayerTracker() {
     }
 }
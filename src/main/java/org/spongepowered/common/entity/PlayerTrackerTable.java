@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+
+/**
+ * The block owners and notifiers tracked within a chunk.
+ *
+ * <p>Positions are the packed chunk positions used by the chunk tracker,
+ * a {@code short} for blocks at y 255 and below and an {@code int} for
+ * blocks above. Each position maps to a single {@code long} holding the
+ * owner index in its upper half and the notifier index in its lower half,
+ * both indices into the world's player unique id table. An index of -1
+ * means no player is tracked.</p>
+ */
+public final class PlayerTrackerTable {
+
+    public static final int NO_PLAYER = -1;
+    public static final long EMPTY = pack(NO_PLAYER, NO_PLAYER);
+
+    private final Short2LongOpenHashMap shortPositions = new Short2LongOpenHashMap();
+    private final Int2LongOpenHashMap intPositions = new Int2LongOpenHashMap();
+
+    public PlayerTrackerTable() {
+        this.shortPositions.defaultReturnValue(EMPTY);
+        this.intPositions.defaultReturnValue(EMPTY);
+    }
+
+    public static long pack(int ownerIndex, int notifierIndex) {
+        return ((long) ownerIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    public static int getOwner(long tracker) {
+        return (int) (tracker >> 32);
+    }
+
+    public static int getNotifier(long tracker) {
+        return (int) tracker;
+    }
+
+    public long get(short pos) {
+        return this.shortPositions.get(pos);
+    }
+
+    public long get(int pos) {
+        return this.intPositions.get(pos);
+    }
+
+    public void set(short pos, int ownerIndex, int notifierIndex) {
+        if (ownerIndex == NO_PLAYER && notifierIndex == NO_PLAYER) {
+            this.shortPositions.remove(pos);
+        } else {
+            this.shortPositions.put(pos, pack(ownerIndex, notifierIndex));
+        }
+    }
+
+    public void set(int pos, int ownerIndex, int notifierIndex) {
+        if (ownerIndex == NO_PLAYER && notifierIndex == NO_PLAYER) {
+            this.intPositions.remove(pos);
+        } else {
+            this.intPositions.put(pos, pack(ownerIndex, notifierIndex));
+        }
+    }
+
+    public void setOwner(short pos, int ownerIndex) {
+        set(pos, ownerIndex, getNotifier(get(pos)));
+    }
+
+    public void setOwner(int pos, int ownerIndex) {
+        set(pos, ownerIndex, getNotifier(get(pos)));
+    }
+
+    public void setNotifier(short pos, int notifierIndex) {
+        set(pos, getOwner(get(pos)), notifierIndex);
+    }
+
+    public void setNotifier(int pos, int notifierIndex) {
+        set(pos, getOwner(get(pos)), notifierIndex);
+    }
+
+    public void remove(short pos) {
+        this.shortPositions.remove(pos);
+    }
+
+    public void remove(int pos) {
+        this.intPositions.remove(pos);
+    }
+
+    public Short2LongMap getShortPositions() {
+        return this.shortPositions;
+    }
+
+    public Int2LongMap getIntPositions() {
+        return this.intPositions;
+    }
+
+    public int size() {
+        return this.shortPositions.size() + this.intPositions.size();
+    }
+
+    public boolean isEmpty() {
+        return this.shortPositions.isEmpty() && this.intPositions.isEmpty();
+    }
+
+    /**
+     * Encodes the tracked positions as two flat arrays of
+     * {@code position, owner, notifier} triples.
+     *
+     * @return The short keyed and int keyed triples
+     */
+    public int[][] toArrays() {
+        final int[] shorts = new int[this.shortPositions.size() * 3];
+        int i = 0;
+        for (Short2LongMap.Entry entry : this.shortPositions.short2LongEntrySet()) {
+            shorts[i++] = entry.getShortKey();
+            shorts[i++] = getOwner(entry.getLongValue());
+            shorts[i++] = getNotifier(entry.getLongValue());
+        }
+        final int[] ints = new int[this.intPositions.size() * 3];
+        i = 0;
+        for (Int2LongMap.Entry entry : this.intPositions.int2LongEntrySet()) {
+            ints[i++] = entry.getIntKey();
+            ints[i++] = getOwner(entry.getLongValue());
+            ints[i++] = getNotifier(entry.getLongValue());
+        }
+        return new int[][] {shorts, ints};
+    }
+
+    /**
+     * Reads positions written by {@link #toArrays()}.
+     *
+     * @param shorts The short keyed triples
+     * @param ints The int keyed triples
+     */
+    public void readArrays(int[] shorts, int[] ints) {
+        for (int i = 0; i + 2 < shorts.length; i += 3) {
+            set((short) shorts[i], shorts[i + 1], shorts[i + 2]);
+        }
+        for (int i = 0; i + 2 < ints.length; i += 3) {
+            set(ints[i], ints[i + 1], ints[i + 2]);
+        }
+    }
+
+}
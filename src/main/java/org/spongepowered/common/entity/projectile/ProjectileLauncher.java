@@ -78,6 +78,7 @@
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.interfaces.data.IMixinDataHolder;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 
@@ -98,13 +99,13 @@ public static <T extends Projectile> Optional<T> launch(Class<T> projectileClass
         Optional<T> projectile = logic.launch(source);
         projectile.ifPresent(t -> {
             if (vel != null) {
-                t.offer(Keys.VELOCITY, vel);
+                ((IMixinDataHolder) t).offerValue(Keys.VELOCITY, vel);
             }
             t.setShooter(source);
         });
         if (projectile.isPresent()) {
             if (vel != null) {
-                projectile.get().offer(Keys.VELOCITY, vel);
+                ((IMixinDataHolder) projectile.get()).offerValue(Keys.VELOCITY, vel);
             }
             projectile.get().setShooter(source);
         }
@@ -47,6 +47,7 @@
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -339,20 +340,26 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
 
     @SuppressWarnings("unchecked")
     protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
-            CauseTracker.getInstance().getCurrentContext().activeContainer(handler.getPlugin());
-            try {
-                handler.getTimingsHandler().startTimingIfSync();
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
+        // Listeners expect to be called from one thread at a time
+        ParallelWorldTicker.lockEvents();
+        try {
+            for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+                CauseTracker.getInstance().getCurrentContext().activeContainer(handler.getPlugin());
+                try {
+                    handler.getTimingsHandler().startTimingIfSync();
+                    if (event instanceof AbstractEvent) {
+                        ((AbstractEvent) event).currentOrder = handler.getOrder();
+                    }
+                    handler.handle(event);
+                } catch (Throwable e) {
+                    this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+                } finally {
+                    handler.getTimingsHandler().stopTimingIfSync();
+                    CauseTracker.getInstance().getCurrentContext().activeContainer(null);
                 }
-                handler.handle(event);
-            } catch (Throwable e) {
-                this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
-            } finally {
-                handler.getTimingsHandler().stopTimingIfSync();
-                CauseTracker.getInstance().getCurrentContext().activeContainer(null);
             }
+        } finally {
+            ParallelWorldTicker.unlockEvents();
         }
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
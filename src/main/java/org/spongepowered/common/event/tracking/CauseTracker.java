@@ -41,10 +41,12 @@
 import net.minecraft.util.ReportedException;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.EnumSkyBlock;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.util.Booleans;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.SpongeEventFactory;
@@ -56,6 +58,7 @@
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.block.TileEntityCapture;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.phase.TrackingPhase;
@@ -63,6 +66,8 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.WorldTickThread;
+import org.spongepowered.common.world.lighting.DeferredLightUpdates;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -109,19 +114,43 @@ public final class CauseTracker {
 
     public final boolean isVerbose = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().isVerbose();
     public final boolean verboseErrors = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().verboseErrors();
+    public final boolean deferLighting = SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+            && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useDeferredLighting();
+
+    // The number of block capturing phases on the stack, light checks are deferred while above 0
+    private int lightingDeferralDepth = 0;
+    private final List<IMixinWorldServer> worldsWithDeferredLighting = new ArrayList<>();
+    // The tile entity data of snapshots captured by block capturing phases, written once such a phase is completed
+    private final List<TileEntityCapture> pendingTileCaptures = new ArrayList<>();
 
     @SuppressWarnings("ConstantConditions")
-    private CauseTracker() {
-        // We cannot have two instances ever. ever ever.
-        checkState(INSTANCE == null, "More than one CauseTracker instance is being created!!! Two cannot exist at once!");
+    private CauseTracker(boolean worldThread) {
+        // We cannot have two main thread instances ever. ever ever.
+        checkState(worldThread || INSTANCE == null, "More than one CauseTracker instance is being created!!! Two cannot exist at once!");
     }
 
-    private static final CauseTracker INSTANCE = new CauseTracker();
+    private static final CauseTracker INSTANCE = new CauseTracker(false);
 
     public static CauseTracker getInstance() {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof WorldTickThread) {
+            // Each world tick thread tracks the phases of the world it is ticking
+            return ((WorldTickThread) thread).getCauseTracker();
+        }
         return checkNotNull(INSTANCE, "CauseTracker instance was illegally set to null!");
     }
 
+    /**
+     * Creates the tracker owned by a {@link WorldTickThread}. Only world
+     * tick threads may hold a tracker other than the main one.
+     *
+     * @return The new tracker
+     */
+    public static CauseTracker createWorldThreadTracker() {
+        checkState(Thread.currentThread() instanceof WorldTickThread, "Only world tick threads may create their own CauseTracker!");
+        return new CauseTracker(true);
+    }
+
     // ----------------- STATE ACCESS ----------------------------------
 
     public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
@@ -143,6 +172,9 @@ public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
         }
 
         this.stack.push(state, phaseContext);
+        if (this.deferLighting && state.getPhase().requiresBlockCapturing(state)) {
+            this.lightingDeferralDepth++;
+        }
     }
 
     /**
@@ -178,7 +210,9 @@ public void abortCurrentPhase(Throwable t) {
         // Since an exception occured during the main phase code, we don't know what state we're in.
         // Therefore, we skip running the normal unwind functions that completePhase calls,
         // and simply op the phase from the stack.
-        this.stack.pop();
+        this.popPhase();
+        this.capturePendingTileData();
+        this.processDeferredLighting();
     }
 
     public void completePhase(IPhaseState prevState) {
@@ -198,7 +232,7 @@ public void completePhase(IPhaseState prevState) {
             // The phase on the top of the stack was most likely never completed.
             // Since we don't know when and where completePhase was intended to be called for it,
             // we simply pop it to allow processing to continue (somewhat) as normal
-            this.stack.pop();
+            this.popPhase();
 
         }
 
@@ -207,7 +241,7 @@ public void completePhase(IPhaseState prevState) {
             // and resulting in a "runaway" phase state accumulation.
             printRunnawayPhaseCompletion(state);
         }
-        this.stack.pop();
+        this.popPhase();
         // If pop is called, the Deque will already throw an exception if there is no element
         // so it's an error properly handled.
         final TrackingPhase phase = state.getPhase();
@@ -237,6 +271,97 @@ public void completePhase(IPhaseState prevState) {
         } catch (Exception | NoClassDefFoundError e) {
             printMessageWithCaughtException("Exception Post Dispatching Phase", "Something happened when trying to post dispatch state", state, context, e);
         }
+        if (phase.requiresBlockCapturing(state)) {
+            this.capturePendingTileData();
+        }
+        this.processDeferredLighting();
+    }
+
+    private void popPhase() {
+        final PhaseData data = this.stack.pop();
+        if (this.deferLighting && data.state.getPhase().requiresBlockCapturing(data.state)) {
+            this.lightingDeferralDepth--;
+        }
+    }
+
+    // ----------------- TILE ENTITY DATA ----------------------------------
+
+    /**
+     * Registers the tile entity data of a captured block snapshot to be
+     * written once the current block capturing phase is completed, so the
+     * snapshot never sees changes made after its phase.
+     *
+     * @param capture The capture of the tile entity data
+     */
+    public void addPendingTileCapture(TileEntityCapture capture) {
+        this.pendingTileCaptures.add(capture);
+    }
+
+    private void capturePendingTileData() {
+        if (this.pendingTileCaptures.isEmpty()) {
+            return;
+        }
+        for (TileEntityCapture capture : this.pendingTileCaptures) {
+            capture.capture();
+        }
+        this.pendingTileCaptures.clear();
+    }
+
+    // ----------------- LIGHTING ----------------------------------
+
+    /**
+     * Defers a light check until no block capturing phase is left on the
+     * stack.
+     *
+     * @param mixinWorld The world
+     * @param lightType The light type
+     * @param pos The position
+     * @return True if the check was deferred, false if it should run now
+     */
+    public boolean deferLightCheck(IMixinWorldServer mixinWorld, EnumSkyBlock lightType, BlockPos pos) {
+        if (this.lightingDeferralDepth == 0 || pos.getY() < 0 || pos.getY() > 255 || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return false;
+        }
+        final DeferredLightUpdates deferredLightUpdates = mixinWorld.getDeferredLightUpdates();
+        if (deferredLightUpdates.isEmpty()) {
+            this.worldsWithDeferredLighting.add(mixinWorld);
+        }
+        deferredLightUpdates.add(lightType, pos);
+        return true;
+    }
+
+    /**
+     * Starts deferring light checks outside of a phase, such as for a bulk
+     * edit of a block volume. Must be followed by
+     * {@link #completeLightingDeferral()} if true is returned.
+     *
+     * @return True if light checks are being deferred
+     */
+    public boolean startLightingDeferral() {
+        if (!this.deferLighting || !Sponge.isServerAvailable() || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return false;
+        }
+        this.lightingDeferralDepth++;
+        return true;
+    }
+
+    public void completeLightingDeferral() {
+        this.lightingDeferralDepth--;
+        this.processDeferredLighting();
+    }
+
+    private void processDeferredLighting() {
+        if (this.lightingDeferralDepth != 0 || this.worldsWithDeferredLighting.isEmpty()) {
+            return;
+        }
+        for (IMixinWorldServer mixinWorld : this.worldsWithDeferredLighting) {
+            try {
+                mixinWorld.getDeferredLightUpdates().process();
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Failed to process deferred light updates", e);
+            }
+        }
+        this.worldsWithDeferredLighting.clear();
     }
 
     private void printRunnawayPhaseCompletion(IPhaseState state) {
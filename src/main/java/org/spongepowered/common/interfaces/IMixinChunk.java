@@ -36,9 +36,9 @@
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.EntityUniverse;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -49,9 +49,7 @@
 
 public interface IMixinChunk {
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    PlayerTrackerTable getTrackedPlayerPositions();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
@@ -69,9 +67,7 @@ public interface IMixinChunk {
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void setTrackedPlayerPositions(PlayerTrackerTable trackedPlayerPositions);
 
     void setNeighbor(Direction direction, Chunk neighbor);
 
@@ -110,4 +106,19 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
     boolean isChunkLoaded();
 
     boolean isQueuedForUnload();
+
+    /**
+     * Gets a bitmask of the sections whose blocks or light changed since
+     * the chunk was last saved, bit {@code n} representing the section at
+     * {@code y = n << 4}.
+     *
+     * @return The dirty sections
+     */
+    int getDirtySections();
+
+    boolean hasDirtyEntities();
+
+    boolean hasDirtyTileEntities();
+
+    void clearDirtyState();
 }
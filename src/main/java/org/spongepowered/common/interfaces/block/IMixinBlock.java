@@ -121,6 +121,14 @@ public interface IMixinBlock {
 
     boolean hasCollideWithStateLogic();
 
+    /**
+     * Gets whether the collision boxes of this block only depend on its
+     * state and position, so they can be reused for any colliding entity.
+     *
+     * @return True if the collision boxes can be cached
+     */
+    boolean hasCachableCollisionShape();
+
     // Timings
     Timing getTimingsHandler();
 
@@ -32,6 +32,7 @@
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.entity.spawn.SpawnType;
+import org.spongepowered.common.block.TileEntityCapture;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
@@ -109,4 +110,19 @@ default SpawnType getTickedSpawnType() {
     @Nullable IMixinChunk getActiveChunk();
 
     void setActiveChunk(IMixinChunk chunk);
+
+    /**
+     * Gets the capture of this tile entity's data for block snapshots. The
+     * same capture is returned until the data of this tile entity changes.
+     *
+     * @return The capture of the tile entity data
+     */
+    TileEntityCapture getSnapshotCapture();
+
+    /**
+     * Writes the data of this tile entity for block snapshots that haven't
+     * captured it yet. Must be called before the data of this tile entity
+     * changes.
+     */
+    void captureSnapshotData();
 }
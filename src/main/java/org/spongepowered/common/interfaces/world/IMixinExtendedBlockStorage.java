@@ -0,0 +1,48 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces.world;
+
+public interface IMixinExtendedBlockStorage {
+
+    /**
+     * Gets whether the positions of the randomly ticking blocks in this
+     * section are tracked, which is the case while there are only a few.
+     *
+     * @return True if {@link #getRandomlyTickingPosition(int)} can be used
+     */
+    boolean isTrackingRandomlyTickingBlocks();
+
+    /**
+     * Maps a random sample of the section to the position of a randomly
+     * ticking block. Each tracked block has the same chance of being picked
+     * as when sampling the whole section.
+     *
+     * @param sample A random index in the section, between 0 and 4095
+     * @return The index of the picked block, as y << 8 | z << 4 | x, or -1
+     *     if the sample missed every randomly ticking block
+     */
+    int getRandomlyTickingPosition(int sample);
+
+}
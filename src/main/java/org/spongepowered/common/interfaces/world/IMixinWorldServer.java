@@ -26,6 +26,7 @@
 
 import co.aikar.timings.WorldTimingsHandler;
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -44,6 +45,8 @@
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
+import org.spongepowered.common.world.lighting.AsyncLightingQueue;
+import org.spongepowered.common.world.lighting.DeferredLightUpdates;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -82,6 +85,20 @@ default boolean forceSpawnEntity(Entity entity) {
 
     SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag);
 
+    /**
+     * Creates a snapshot of a block about to be changed by a block capturing
+     * phase. Unlike {@link #createSpongeBlockSnapshot}, the tile entity data
+     * is only written when the snapshot needs it, before the tile entity
+     * changes, or at the latest once the capturing phase is completed.
+     *
+     * @param state The block state
+     * @param extended The extended block state
+     * @param pos The position
+     * @param updateFlag The update flag
+     * @return The snapshot
+     */
+    SpongeBlockSnapshot createCapturedBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag);
+
     SpongeWorldGenerator createWorldGenerator(DataContainer settings);
 
     SpongeWorldGenerator createWorldGenerator(String settings);
@@ -96,10 +113,16 @@ default boolean forceSpawnEntity(Entity entity) {
 
     boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos);
 
-    boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors);
+    boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors, LongSet changedPositions);
 
     ExecutorService getLightingExecutor();
 
+    AsyncLightingQueue getLightingQueue();
+
+    DeferredLightUpdates getDeferredLightUpdates();
+
+    void invalidateCollisionShapes(BlockPos pos);
+
     WorldTimingsHandler getTimingsHandler();
 
     int getChunkGCTickInterval();
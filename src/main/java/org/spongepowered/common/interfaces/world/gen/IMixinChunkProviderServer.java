@@ -28,6 +28,7 @@
 
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.world.ChunkUnloadReason;
 
 public interface IMixinChunkProviderServer {
 
@@ -44,4 +45,23 @@ public interface IMixinChunkProviderServer {
     long getChunkUnloadDelay();
 
     WorldServer getWorld();
+
+    void queueUnload(Chunk chunk, ChunkUnloadReason reason);
+
+    boolean isUnloadScheduled(Chunk chunk);
+
+    int getScheduledUnloadCount();
+
+    long getChunkUnloadCount(ChunkUnloadReason reason);
+
+    /**
+     * Sets whether the next {@link net.minecraft.world.gen.ChunkProviderServer#saveChunks(boolean)}
+     * call is an auto-save, which queues modified chunks to be saved over
+     * the following ticks instead of saving them immediately.
+     *
+     * @param autoSaving Whether an auto-save is in progress
+     */
+    void setAutoSaving(boolean autoSaving);
+
+    int getQueuedAutoSaveCount();
 }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.concurrentchecks;
 
+import net.minecraft.entity.Entity;
 import net.minecraft.util.ClassInheritanceMultiMap;
 import org.spongepowered.api.Platform;
 import org.spongepowered.asm.mixin.Mixin;
@@ -32,6 +33,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.ServerUtils;
 
 @Mixin(ClassInheritanceMultiMap.class)
 public class MixinClassInheritanceMultiMap {
@@ -39,7 +41,7 @@ public class MixinClassInheritanceMultiMap {
     @Inject(method = "addForClass", at = @At("HEAD"), cancellable = true)
     public void onAddForClass(Object entity, Class<?> parentClass, CallbackInfo ci) {
         // This class gets used on the client, but we only care about the server
-        if (!(SpongeImpl.getGame().getPlatform().getExecutionType() == Platform.Type.CLIENT) && !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!(SpongeImpl.getGame().getPlatform().getExecutionType() == Platform.Type.CLIENT) && !isOwningThread(entity)) {
             Thread.dumpStack();
             SpongeImpl.getLogger().error("Detected attempt to add entity '" + entity + "' to ClassInheritanceMultiMap asynchronously.\n"
                     + " This is very bad as it can cause ConcurrentModificationException's during a server tick.\n"
@@ -50,7 +52,7 @@ public void onAddForClass(Object entity, Class<?> parentClass, CallbackInfo ci)
 
     @Inject(method = "remove", at = @At("HEAD"), cancellable = true)
     public void onRemove(Object entity, CallbackInfoReturnable<Boolean> cir) {
-        if (!(SpongeImpl.getGame().getPlatform().getExecutionType() == Platform.Type.CLIENT) && !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!(SpongeImpl.getGame().getPlatform().getExecutionType() == Platform.Type.CLIENT) && !isOwningThread(entity)) {
             Thread.dumpStack();
             SpongeImpl.getLogger().error("Detected attempt to remove entity '" + entity + "' from ClassInheritanceMultiMap asynchronously.\n"
                     + " This is very bad as it can cause ConcurrentModificationException's during a server tick.\n"
@@ -59,4 +61,9 @@ public void onRemove(Object entity, CallbackInfoReturnable<Boolean> cir) {
         }
     }
 
+    private static boolean isOwningThread(Object entity) {
+        // Worlds ticking in parallel change the maps of their own chunks
+        return ServerUtils.isCallingFromWorldThread(entity instanceof Entity ? ((Entity) entity).world : null);
+    }
+
 }
@@ -89,6 +89,7 @@
 import org.spongepowered.common.registry.type.BlockTypeRegistryModule;
 import org.spongepowered.common.text.translation.SpongeTranslation;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.CollisionShapeCache;
 
 import java.util.Collection;
 import java.util.List;
@@ -104,6 +105,7 @@ public abstract class MixinBlock implements BlockType, IMixinBlock {
     private final boolean isVanilla = getClass().getName().startsWith("net.minecraft.");
     private boolean hasCollideLogic;
     private boolean hasCollideWithStateLogic;
+    private boolean hasCachableCollisionShape;
     // Only needed for blocks that do not fire ChangeBlockEvent.Pre
     private boolean requiresBlockCapture = true;
     private static boolean canCaptureItems = true;
@@ -151,6 +153,9 @@ public void onConstruction(CallbackInfo ci) {
             // ignore
         }
 
+        // addCollisionBoxToList
+        this.hasCachableCollisionShape = CollisionShapeCache.isCachable(((Block) (Object) this).getClass());
+
         Block block = (Block) (Object) this;
         if (block instanceof BlockLeaves || block instanceof BlockLog || block instanceof BlockGrass || block instanceof BlockLiquid) {
             this.requiresBlockCapture = false;
@@ -356,6 +361,11 @@ public boolean hasCollideWithStateLogic() {
         return this.hasCollideWithStateLogic;
     }
 
+    @Override
+    public boolean hasCachableCollisionShape() {
+        return this.hasCachableCollisionShape;
+    }
+
     @Override
     public Timing getTimingsHandler() {
         if (this.timing == null) {
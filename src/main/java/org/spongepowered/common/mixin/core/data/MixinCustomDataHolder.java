@@ -39,6 +39,7 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.entity.player.SpongeUser;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
 
 import java.util.Iterator;
@@ -57,6 +58,7 @@ public abstract class MixinCustomDataHolder implements IMixinCustomDataHolder {
     @SuppressWarnings("rawtypes")
     @Override
     public DataTransactionResult offerCustom(DataManipulator<?, ?> manipulator, MergeFunction function) {
+        captureTileSnapshotData();
         @Nullable DataManipulator<?, ?> existingManipulator = null;
         for (DataManipulator<?, ?> existing : this.manipulators) {
             if (manipulator.getClass().isInstance(existing)) {
@@ -89,6 +91,7 @@ public DataTransactionResult offerCustom(DataManipulator<?, ?> manipulator, Merg
 
     @Override
     public DataTransactionResult removeCustom(Class<? extends DataManipulator<?, ?>> customClass) {
+        captureTileSnapshotData();
         @Nullable DataManipulator<?, ?> manipulator = null;
         for (DataManipulator<?, ?> existing : this.manipulators) {
             if (customClass.isInstance(existing)) {
@@ -140,6 +143,7 @@ public <E, V extends BaseValue<E>> Optional<V> getCustomValue(Key<V> key) {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public <E> DataTransactionResult offerCustom(Key<? extends BaseValue<E>> key, E value) {
+        captureTileSnapshotData();
         for (DataManipulator<?, ?> manipulator : this.manipulators) {
             if (manipulator.supports(key)) {
                 final DataTransactionResult.Builder builder = DataTransactionResult.builder();
@@ -154,6 +158,7 @@ public <E> DataTransactionResult offerCustom(Key<? extends BaseValue<E>> key, E
 
     @Override
     public DataTransactionResult removeCustom(Key<?> key) {
+        captureTileSnapshotData();
         final Iterator<DataManipulator<?, ?>> iterator = this.manipulators.iterator();
         while (iterator.hasNext()) {
             final DataManipulator<?, ?> manipulator = iterator.next();
@@ -169,6 +174,12 @@ public DataTransactionResult removeCustom(Key<?> key) {
         return DataTransactionResult.failNoData();
     }
 
+    private void captureTileSnapshotData() {
+        if (this instanceof IMixinTileEntity) {
+            ((IMixinTileEntity) this).captureSnapshotData();
+        }
+    }
+
     @Override
     public void addFailedData(ImmutableList<DataView> failedData) {
         this.failedData.addAll(failedData);
@@ -51,6 +51,7 @@
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
+import org.spongepowered.common.interfaces.data.IMixinDataHolder;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -59,7 +60,7 @@
 import java.util.stream.Collectors;
 
 @Mixin(value = {TileEntity.class, Entity.class, ItemStack.class, SpongeUser.class}, priority = 999)
-public abstract class MixinDataHolder implements DataHolder {
+public abstract class MixinDataHolder implements DataHolder, IMixinDataHolder {
 
     @SuppressWarnings("unchecked")
     @Override
@@ -175,6 +176,24 @@ public <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E value)
         return DataTransactionResult.failNoData();
     }
 
+    @Override
+    public <E> DataTransactionResult.Type offerValue(Key<? extends BaseValue<E>> key, E value) {
+        TimingsManager.DATA_GROUP_HANDLER.startTimingIfSync();
+        SpongeTimings.dataOfferKey.startTimingIfSync();
+        final Optional<ValueProcessor<E, ? extends BaseValue<E>>> optional = DataUtil.getBaseValueProcessor(key);
+        final DataTransactionResult.Type type;
+        if (optional.isPresent()) {
+            type = optional.get().offerValue(this, value);
+        } else if (this instanceof IMixinCustomDataHolder) {
+            type = ((IMixinCustomDataHolder) this).offerCustom(key, value).getType();
+        } else {
+            type = DataTransactionResult.Type.FAILURE;
+        }
+        SpongeTimings.dataOfferKey.stopTimingIfSync();
+        TimingsManager.DATA_GROUP_HANDLER.stopTimingIfSync();
+        return type;
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public DataTransactionResult offer(DataManipulator<?, ?> valueContainer, MergeFunction function) {
@@ -35,6 +35,7 @@
 import org.spongepowered.common.interfaces.IMixinScore;
 import org.spongepowered.common.interfaces.IMixinScoreboard;
 import org.spongepowered.common.scoreboard.SpongeScore;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 @Mixin(Score.class)
 public abstract class MixinScore implements IMixinScore {
@@ -63,7 +64,12 @@ public void onSetScorePoints(int points, CallbackInfo ci) {
             ci.cancel();
             return;
         }
-        this.spongeScore.setScore(points);
+        ParallelWorldTicker.lockScoreboard();
+        try {
+            this.spongeScore.setScore(points);
+        } finally {
+            ParallelWorldTicker.unlockScoreboard();
+        }
         ci.cancel();
     }
 
@@ -55,8 +55,11 @@
 import org.spongepowered.common.scoreboard.SpongeScore;
 import org.spongepowered.common.scoreboard.SpongeScoreboardConstants;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.world.ParallelWorldTicker;
+import org.spongepowered.common.world.WorldTickThread;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -261,12 +264,40 @@ public void removeTeam(ScorePlayerTeam team) {
 
     @Override
     public Score getOrCreateScore(String name, ScoreObjective objective) {
-        return ((SpongeScore) ((IMixinScoreObjective) objective).getSpongeObjective().getOrCreateScore(SpongeTexts.fromLegacy(name)))
-                .getScoreFor(objective);
+        ParallelWorldTicker.lockScoreboard();
+        try {
+            return ((SpongeScore) ((IMixinScoreObjective) objective).getSpongeObjective().getOrCreateScore(SpongeTexts.fromLegacy(name)))
+                    .getScoreFor(objective);
+        } finally {
+            ParallelWorldTicker.unlockScoreboard();
+        }
+    }
+
+    @Override
+    public Collection<ScoreObjective> getObjectivesFromCriteria(IScoreCriteria criteria) {
+        if (!WorldTickThread.isWorldTickThread()) {
+            return super.getObjectivesFromCriteria(criteria);
+        }
+        // World tick threads get a copy, the backing list may change while they iterate it
+        ParallelWorldTicker.lockScoreboard();
+        try {
+            return new ArrayList<>(super.getObjectivesFromCriteria(criteria));
+        } finally {
+            ParallelWorldTicker.unlockScoreboard();
+        }
     }
 
     @Override
     public void removeObjectiveFromEntity(String name, ScoreObjective objective) {
+        ParallelWorldTicker.lockScoreboard();
+        try {
+            this.removeObjectiveFromEntity0(name, objective);
+        } finally {
+            ParallelWorldTicker.unlockScoreboard();
+        }
+    }
+
+    private void removeObjectiveFromEntity0(String name, @Nullable ScoreObjective objective) {
         if (objective != null) {
             SpongeObjective spongeObjective = ((IMixinScoreObjective) objective).getSpongeObjective();
             Optional<org.spongepowered.api.scoreboard.Score> score = spongeObjective.getScore(SpongeTexts.fromLegacy(name));
@@ -112,6 +112,7 @@
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
@@ -171,6 +172,7 @@ public abstract class MixinMinecraftServer implements Server, ConsoleSource, IMi
     private boolean enableSaving = true;
     private GameProfileManager profileManager;
     private MessageChannel broadcastChannel = MessageChannel.TO_ALL;
+    @Nullable private ParallelWorldTicker parallelWorldTicker;
 
     @SuppressWarnings("unchecked")
     @Override
@@ -321,19 +323,24 @@ public void shutdown(Text kickMessage) {
     public void onServerStopping(CallbackInfo ci) {
         ((MinecraftServer) (Object) this).getPlayerProfileCache().save();
 
+        if (this.parallelWorldTicker != null) {
+            this.parallelWorldTicker.shutdown();
+            this.parallelWorldTicker = null;
+        }
+
         if (this.worlds != null && SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations() &&
                 SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
             for (WorldServer world : this.worlds) {
-                ((IMixinWorldServer) world).getLightingExecutor().shutdown();
+                ((IMixinWorldServer) world).getLightingQueue().shutdown();
             }
 
             for (WorldServer world : this.worlds) {
                 try {
-                    ((IMixinWorldServer) world).getLightingExecutor().awaitTermination(1, TimeUnit.SECONDS);
+                    ((IMixinWorldServer) world).getLightingQueue().awaitTermination(1, TimeUnit.SECONDS);
                 } catch (InterruptedException e) {
                     e.printStackTrace();
                 } finally {
-                    ((IMixinWorldServer) world).getLightingExecutor().shutdownNow();
+                    ((IMixinWorldServer) world).getLightingQueue().shutdownNow();
                 }
             }
         }
@@ -620,6 +627,36 @@ public void onUpdateTimeLightAndEntitiesHead(CallbackInfo ci) {
                 }
             }
         }
+
+        if (SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+                && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelWorldTicking()) {
+            if (this.parallelWorldTicker == null) {
+                this.parallelWorldTicker = new ParallelWorldTicker();
+            }
+            // Worlds ticked here are skipped by the redirects below when the level loop reaches them
+            this.parallelWorldTicker.tickWorlds(this.worlds, getAllowNether());
+        }
+    }
+
+    @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;tick()V"))
+    private void onUpdateTimeLightAndEntitiesTick(WorldServer worldServer) {
+        if (this.parallelWorldTicker == null || !this.parallelWorldTicker.wasTicked(worldServer)) {
+            worldServer.tick();
+        }
+    }
+
+    @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;updateEntities()V"))
+    private void onUpdateTimeLightAndEntitiesUpdateEntities(WorldServer worldServer) {
+        if (this.parallelWorldTicker == null || !this.parallelWorldTicker.wasTicked(worldServer)) {
+            worldServer.updateEntities();
+        }
+    }
+
+    @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/EntityTracker;tick()V"))
+    private void onUpdateTimeLightAndEntitiesTrackerTick(EntityTracker entityTracker) {
+        if (this.parallelWorldTicker == null || !this.parallelWorldTicker.wasTicked(entityTracker)) {
+            entityTracker.tick();
+        }
     }
 
     @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;getEntityTracker()Lnet/minecraft/entity/EntityTracker;"))
@@ -628,7 +665,8 @@ public EntityTracker onUpdateTimeLightAndEntitiesGetEntityTracker(WorldServer wo
         // been marked active and will not unload.
         // Note: This injection must come after Forge's post world tick event or it will cause issues with mods.
         IMixinWorldServer spongeWorld = (IMixinWorldServer) worldServer;
-        if (spongeWorld.getChunkGCTickInterval() > 0) {
+        if (spongeWorld.getChunkGCTickInterval() > 0
+                && (this.parallelWorldTicker == null || !this.parallelWorldTicker.wasTicked(worldServer))) {
             worldServer.getChunkProvider().tick();
         }
         return worldServer.getEntityTracker();
@@ -721,7 +759,8 @@ public void saveAllWorlds(boolean dontLog) {
         for (WorldServer worldserver : this.worlds) {
             if (worldserver != null) {
                 // Sponge start - check auto save interval in world config
-                if (this.isDedicatedServer() && this.isServerRunning()) {
+                final boolean autoSave = this.isDedicatedServer() && this.isServerRunning();
+                if (autoSave) {
                     final IMixinWorldServer spongeWorld = (IMixinWorldServer) worldserver;
                     final int autoSaveInterval = spongeWorld.getActiveConfig().getConfig().getWorld().getAutoSaveInterval();
                     final boolean logAutoSave = spongeWorld.getActiveConfig().getConfig().getLogging().worldAutoSaveLogging();
@@ -748,9 +787,14 @@ public void saveAllWorlds(boolean dontLog) {
                 }
                 // Sponge end
                 try {
+                    // Sponge start - let auto-saves spread chunk saving over the following ticks
+                    ((IMixinChunkProviderServer) worldserver.getChunkProvider()).setAutoSaving(autoSave);
                     WorldManager.saveWorld(worldserver, false);
                 } catch (MinecraftException ex) {
                     ex.printStackTrace();
+                } finally {
+                    ((IMixinChunkProviderServer) worldserver.getChunkProvider()).setAutoSaving(false);
+                    // Sponge end
                 }
             }
         }
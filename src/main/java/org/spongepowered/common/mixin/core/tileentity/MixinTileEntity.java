@@ -55,6 +55,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.block.SpongeTileEntityArchetypeBuilder;
+import org.spongepowered.common.block.TileEntityCapture;
 import org.spongepowered.common.data.nbt.CustomDataNbtUtil;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.util.DataQueries;
@@ -87,6 +88,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
     private User spongeOwner;
     private boolean hasSetOwner = false;
     private WeakReference<IMixinChunk> activeChunk = new WeakReference<>(null);
+    @Nullable private TileEntityCapture snapshotCapture;
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World world;
@@ -105,6 +107,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
 
     @Inject(method = "markDirty", at = @At(value = "HEAD"))
     public void onMarkDirty(CallbackInfo ci) {
+        this.captureSnapshotData();
         if (this.world != null && !this.world.isRemote) {
             // This handles transfers to this TE from a source such as a Hopper
             CauseTracker.getInstance().getCurrentPhaseData().context.getSource(TileEntity.class).ifPresent(currentTick -> {
@@ -192,6 +195,24 @@ public BlockState getBlock() {
     @Inject(method = "invalidate", at = @At("RETURN"))
     public void onSpongeInvalidate(CallbackInfo ci) {
         this.setActiveChunk(null);
+        this.captureSnapshotData();
+    }
+
+    @Override
+    public TileEntityCapture getSnapshotCapture() {
+        if (this.snapshotCapture == null) {
+            this.snapshotCapture = new TileEntityCapture((net.minecraft.tileentity.TileEntity) (Object) this);
+        }
+        return this.snapshotCapture;
+    }
+
+    @Override
+    public void captureSnapshotData() {
+        if (this.snapshotCapture != null) {
+            final TileEntityCapture capture = this.snapshotCapture;
+            this.snapshotCapture = null;
+            capture.capture();
+        }
     }
 
     /**
@@ -220,6 +241,11 @@ public void onReadFromNBT(NBTTagCompound compound, CallbackInfo ci) {
         this.readFromNbt(this.getSpongeData());
     }
 
+    @Inject(method = "Lnet/minecraft/tileentity/TileEntity;readFromNBT(Lnet/minecraft/nbt/NBTTagCompound;)V", at = @At("HEAD"))
+    private void onReadFromNBTCaptureSnapshots(NBTTagCompound compound, CallbackInfo ci) {
+        this.captureSnapshotData();
+    }
+
     /**
      * Read extra data (SpongeData) from the tile entity's NBT tag.
      *
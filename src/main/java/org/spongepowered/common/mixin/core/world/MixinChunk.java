@@ -94,6 +94,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
@@ -106,6 +107,7 @@
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMapEntry;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
@@ -142,9 +144,14 @@ public abstract class MixinChunk implements Chunk, IMixinChunk, IMixinCachable {
     private net.minecraft.world.chunk.Chunk[] neighbors = new net.minecraft.world.chunk.Chunk[4];
     private long cacheKey;
     private Cause chunkCause;
+    // Changes since the last save, used to decide which chunks an auto-save has to write
+    private int dirtySections;
+    private boolean dirtyEntities;
+    private boolean dirtyTileEntities;
     private static final Direction[] CARDINAL_DIRECTIONS = new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
 
     private static final Vector3i BIOME_SIZE = new Vector3i(SpongeChunkLayout.CHUNK_SIZE.getX(), 1, SpongeChunkLayout.CHUNK_SIZE.getZ());
+    private static final PlayerTrackerTable EMPTY_TRACKER_TABLE = new PlayerTrackerTable();
     private Vector3i chunkPos;
     private Vector3i blockMin;
     private Vector3i blockMax;
@@ -244,6 +251,7 @@ public void setIsSpawning(boolean spawning) {
 
     @Inject(method = "addEntity", at = @At("RETURN"))
     private void onChunkAddEntity(Entity entityIn, CallbackInfo ci) {
+        this.dirtyEntities = true;
         if (!entityIn.isDead) {
             ((IMixinEntity) entityIn).setActiveChunk(this);
         }
@@ -251,16 +259,19 @@ private void onChunkAddEntity(Entity entityIn, CallbackInfo ci) {
 
     @Inject(method = "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntity;validate()V"))
     private void onChunkAddTileEntity(BlockPos pos, TileEntity tileEntityIn, CallbackInfo ci) {
+        this.dirtyTileEntities = true;
         ((IMixinTileEntity) tileEntityIn).setActiveChunk(this);
     }
 
     @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
     private void onChunkRemoveEntityAtIndex(Entity entityIn, int index, CallbackInfo ci) {
+        this.dirtyEntities = true;
         ((IMixinEntity) entityIn).setActiveChunk(null);
     }
 
     @Redirect(method = "removeTileEntity", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntity;invalidate()V"))
     private void onChunkRemoveTileEntity(TileEntity tileEntityIn) {
+        this.dirtyTileEntities = true;
         ((IMixinTileEntity) tileEntityIn).setActiveChunk(null);
         tileEntityIn.invalidate();
     }
@@ -672,7 +683,20 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
         }
         // Sponge end
 
+        // Sponge Start - write the tile entity data of pending snapshots before the tile entity is broken or replaced
+        if (!this.world.isRemote) {
+            final TileEntity currentTile = this.getTileEntity(pos, EnumCreateEntityType.CHECK);
+            if (currentTile != null && (currentBlock != newBlock || SpongeImplHooks.shouldRefresh(currentTile, this.world, pos, currentState, newState))) {
+                ((IMixinTileEntity) currentTile).captureSnapshotData();
+            }
+        }
+        // Sponge End
+
         extendedblockstorage.set(xPos, yPos & 15, zPos, newState);
+        this.dirtySections |= 1 << (yPos >> 4); // Sponge - track changed sections for auto-saves
+        if (this.world instanceof IMixinWorldServer) {
+            ((IMixinWorldServer) this.world).invalidateCollisionShapes(pos); // Sponge - drop cached collision boxes
+        }
 
         // Sponge Start
         // if (block1 != block) // Sponge - Forge removes this change.
@@ -774,13 +798,8 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public PlayerTrackerTable getTrackedPlayerPositions() {
+        return EMPTY_TRACKER_TABLE;
     }
 
     @Override
@@ -804,11 +823,7 @@ public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
-    }
-
-    @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedPlayerPositions(PlayerTrackerTable trackedPositions) {
     }
 
     // Continuing the rest of the implementation
@@ -1258,6 +1273,39 @@ public void setScheduledForUnload(long scheduled) {
         this.scheduledForUnload = scheduled;
     }
 
+    // Only called by World#markChunkDirty, which tile entities use to signal changes
+    @Inject(method = "markDirty", at = @At("HEAD"))
+    private void onMarkDirty(CallbackInfo ci) {
+        this.dirtyTileEntities = true;
+    }
+
+    @Inject(method = "setLightFor", at = @At("HEAD"))
+    private void onSetLightFor(EnumSkyBlock type, BlockPos pos, int value, CallbackInfo ci) {
+        this.dirtySections |= 1 << ((pos.getY() >> 4) & 15);
+    }
+
+    @Override
+    public int getDirtySections() {
+        return this.dirtySections;
+    }
+
+    @Override
+    public boolean hasDirtyEntities() {
+        return this.dirtyEntities;
+    }
+
+    @Override
+    public boolean hasDirtyTileEntities() {
+        return this.dirtyTileEntities;
+    }
+
+    @Override
+    public void clearDirtyState() {
+        this.dirtySections = 0;
+        this.dirtyEntities = false;
+        this.dirtyTileEntities = false;
+    }
+
     @Inject(method = "generateSkylightMap", at = @At("HEAD"), cancellable = true)
     public void onGenerateSkylightMap(CallbackInfo ci) {
         if (!WorldGenConstants.lightingEnabled) {
@@ -33,6 +33,7 @@
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReport;
@@ -142,6 +143,7 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.util.ServerUtils;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
@@ -188,6 +190,9 @@ public abstract class MixinWorld implements World, IMixinWorld {
     protected boolean hasChecked = false;
     private NamedCause worldNamedCause;
     private it.unimi.dsi.fastutil.longs.LongCollection tileEntitiesChunkToBeRemoved = new it.unimi.dsi.fastutil.longs.LongOpenHashSet();
+    // Entities and tileentities removed during updateEntities, compacted out of the loaded lists in a single pass
+    private final Set<net.minecraft.entity.Entity> entitiesToRemove = Sets.newIdentityHashSet();
+    private final Set<net.minecraft.tileentity.TileEntity> tileEntitiesToRemove = Sets.newIdentityHashSet();
 
     // @formatter:off
     @Shadow @Final public boolean isRemote;
@@ -322,6 +327,19 @@ public void onGetCollisionBoxes(net.minecraft.entity.Entity entity, AxisAlignedB
         }
     }
 
+    @Redirect(method = "getCollisionBoxes(Lnet/minecraft/entity/Entity;Lnet/minecraft/util/math/AxisAlignedBB;ZLjava/util/List;)Z",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/block/state/IBlockState;addCollisionBoxToList(Lnet/minecraft/world/World;"
+                    + "Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/util/math/AxisAlignedBB;Ljava/util/List;Lnet/minecraft/entity/Entity;Z)V"))
+    private void onGetBlockCollisionBoxes(IBlockState state, net.minecraft.world.World world, BlockPos pos, AxisAlignedBB entityBox,
+            List<AxisAlignedBB> list, @Nullable net.minecraft.entity.Entity entity, boolean isActualState) {
+        addBlockCollisionBoxes(state, pos, entityBox, list, entity);
+    }
+
+    protected void addBlockCollisionBoxes(IBlockState state, BlockPos pos, AxisAlignedBB entityBox, List<AxisAlignedBB> list,
+            @Nullable net.minecraft.entity.Entity entity) {
+        state.addCollisionBoxToList((net.minecraft.world.World) (Object) this, pos, entityBox, list, entity, false);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Collection<Player> getPlayers() {
@@ -1164,6 +1182,25 @@ public boolean onAddTileEntity(List<net.minecraft.tileentity.TileEntity> list, O
         return list.add((net.minecraft.tileentity.TileEntity) tile);
     }
 
+    @Inject(method = "addTileEntity", at = @At("RETURN"))
+    private void onTileEntityAdded(net.minecraft.tileentity.TileEntity tile, CallbackInfoReturnable<Boolean> cir) {
+        // Mirrors the conditions under which the tile was added to tickableTileEntities
+        if (cir.getReturnValue() && tile instanceof ITickable && (this.isRemote || canTileUpdate(tile))) {
+            this.onTickableTileEntityAdded(tile);
+        }
+    }
+
+    @Inject(method = "removeTileEntity", at = @At("HEAD"))
+    private void onRemoveTileEntity(BlockPos pos, CallbackInfo ci) {
+        // While tiles are processed the tile is only invalidated and removed after the loop
+        if (!this.processingLoadedTiles) {
+            final net.minecraft.tileentity.TileEntity tile = this.getTileEntity(pos);
+            if (tile != null) {
+                this.onTickableTileEntityRemoved(tile);
+            }
+        }
+    }
+
     private boolean canTileUpdate(net.minecraft.tileentity.TileEntity tile) {
         TileEntity spongeTile = (TileEntity) tile;
         if (spongeTile.getType() != null && !((SpongeTileEntityType) spongeTile.getType()).canTick()) {
@@ -1273,7 +1310,7 @@ public net.minecraft.tileentity.TileEntity getTileEntity(BlockPos pos) {
             if (tileentity == null) {
                 // Sponge - Don't create tileentity async, simply check if TE exists in chunk
                 // Mods such as pixelmon call this method async, so this is a temporary workaround until fixed
-                if (!this.isRemote && !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+                if (!this.isRemote && !ServerUtils.isCallingFromWorldThread((net.minecraft.world.World) (Object) this)) {
                     return this.getChunkFromBlockCoords(pos).getTileEntity(pos, net.minecraft.world.chunk.Chunk.EnumCreateEntityType.CHECK);
                 } else {
                     tileentity = this.getChunkFromBlockCoords(pos).getTileEntity(pos, net.minecraft.world.chunk.Chunk.EnumCreateEntityType.IMMEDIATE);
@@ -1290,6 +1327,13 @@ public net.minecraft.tileentity.TileEntity getTileEntity(BlockPos pos) {
     }
 
 
+    @Inject(method = "checkLightFor", at = @At("HEAD"), cancellable = true)
+    private void onCheckLightForDefer(EnumSkyBlock lightType, BlockPos pos, CallbackInfoReturnable<Boolean> cir) {
+        if (!isFake() && CauseTracker.getInstance().deferLightCheck((IMixinWorldServer) this, lightType, pos)) {
+            cir.setReturnValue(true);
+        }
+    }
+
     /**
      * @author gabizou
      * @reason Adds a redirector to use instead of an injector to avoid duplicate chunk area loaded lookups.
@@ -1417,7 +1461,8 @@ public boolean collidesWithAnyBlock(AxisAlignedBB bbox) {
                                 }
 
                                 IBlockState iblockstate = this.getBlockState(blockpos$pooledmutableblockpos);
-                                iblockstate.addCollisionBoxToList((net.minecraft.world.World) (Object) this, blockpos$pooledmutableblockpos, bbox, list, (net.minecraft.entity.Entity) null, false);
+                                // iblockstate.addCollisionBoxToList((net.minecraft.world.World) (Object) this, blockpos$pooledmutableblockpos, bbox, list, (net.minecraft.entity.Entity) null, false); // Sponge
+                                this.addBlockCollisionBoxes(iblockstate, blockpos$pooledmutableblockpos, bbox, list, null); // Sponge - use the collision shape cache
 
                                 if (!list.isEmpty()) {
                                     boolean flag = true;
@@ -1478,7 +1523,11 @@ public void updateEntities() {
 
         this.stopEntityTickTimingStartEntityRemovalTiming(); // Sponge
         // this.profiler.endStartSection("remove"); // Sponge - Don't use the profiler
-        this.loadedEntityList.removeAll(this.unloadedEntityList);
+        // Sponge start - remove in a single pass instead of searching the list for each entity
+        //this.loadedEntityList.removeAll(this.unloadedEntityList);
+        this.entitiesToRemove.addAll(this.unloadedEntityList);
+        this.removeLoadedEntities();
+        // Sponge end
 
         for (int k = 0; k < this.unloadedEntityList.size(); ++k) {
             net.minecraft.entity.Entity entity1 = this.unloadedEntityList.get(k);
@@ -1540,17 +1589,20 @@ public void updateEntities() {
                     this.getChunkFromChunkCoords(l1, i2).removeEntity(entity2);
                 }
 
-                this.loadedEntityList.remove(i1--);
+                // Sponge - removed from loadedEntityList after the loop
+                //this.loadedEntityList.remove(i1--);
+                this.entitiesToRemove.add(entity2);
                 this.onEntityRemoved(entity2);
             }
 
             this.stopEntityRemovalTiming(); // Sponge
             // this.profiler.endSection(); // Sponge - Don't use the profiler
         }
+        this.removeLoadedEntities(); // Sponge
 
         // this.profiler.endStartSection("blockEntities"); // Sponge - Don't use the profiler
         this.processingLoadedTiles = true;
-        Iterator<net.minecraft.tileentity.TileEntity> iterator = this.tickableTileEntities.iterator();
+        Iterator<net.minecraft.tileentity.TileEntity> iterator = this.getTickingTileEntityIterator(); // Sponge - allow tileentity activation to filter
 
         while (iterator.hasNext()) {
             this.startTileTickTimer(); // Sponge
@@ -1577,8 +1629,11 @@ public void updateEntities() {
             this.stopTileEntityAndStartRemoval(); // Sponge
 
             if (tileentity.isInvalid()) {
-                iterator.remove();
-                this.loadedTileEntityList.remove(tileentity);
+                // Sponge start - removed from the tileentity lists after the loop
+                //iterator.remove();
+                //this.loadedTileEntityList.remove(tileentity);
+                this.tileEntitiesToRemove.add(tileentity);
+                // Sponge end
 
                 if (this.isBlockLoaded(tileentity.getPos())) {
                     // Sponge start - use forge hook
@@ -1594,6 +1649,14 @@ public void updateEntities() {
             this.stopTileEntityRemovelInWhile(); // Sponge
         }
 
+        // Sponge start - remove invalid tileentities in a single pass
+        if (!this.tileEntitiesToRemove.isEmpty()) {
+            this.removeTickableTileEntities(this.tileEntitiesToRemove::contains);
+            this.loadedTileEntityList.removeIf(this.tileEntitiesToRemove::contains);
+            this.tileEntitiesToRemove.clear();
+        }
+        // Sponge end
+
         // This is handled below in removeTileEntitiesForRemovedChunks
         if (false && !this.tileEntitiesToBeRemoved.isEmpty()) {
             // Sponge start - use forge hook
@@ -1646,6 +1709,13 @@ public void updateEntities() {
         // this.profiler.endSection(); // Sponge - Don't use the profiler
     }
 
+    private void removeLoadedEntities() {
+        if (!this.entitiesToRemove.isEmpty()) {
+            this.loadedEntityList.removeIf(this.entitiesToRemove::contains);
+            this.entitiesToRemove.clear();
+        }
+    }
+
     @Override
     public void markTileEntitiesInChunkForRemoval(net.minecraft.world.chunk.Chunk chunk)
     {
@@ -1676,7 +1746,7 @@ private void removeTileEntitiesForRemovedChunks()
                 }
                 return inChunk;
             };
-            this.tickableTileEntities.removeIf(isInChunk);
+            this.removeTickableTileEntities(isInChunk);
             this.loadedTileEntityList.removeIf(isInChunkDoUnload);
             this.tileEntitiesChunkToBeRemoved.clear();
         }
@@ -1686,6 +1756,24 @@ protected void entityActivationCheck() {
         // Overridden in MixinWorldServer_Activation
     }
 
+    protected Iterator<net.minecraft.tileentity.TileEntity> getTickingTileEntityIterator() {
+        // Overridden in MixinWorldServer_TileEntityActivation
+        return this.tickableTileEntities.iterator();
+    }
+
+    protected void removeTickableTileEntities(java.util.function.Predicate<net.minecraft.tileentity.TileEntity> filter) {
+        // Overridden in MixinWorldServer_TileEntityActivation
+        this.tickableTileEntities.removeIf(filter);
+    }
+
+    protected void onTickableTileEntityAdded(net.minecraft.tileentity.TileEntity tile) {
+        // Overridden in MixinWorldServer_TileEntityActivation
+    }
+
+    protected void onTickableTileEntityRemoved(net.minecraft.tileentity.TileEntity tile) {
+        // Overridden in MixinWorldServer_TileEntityActivation
+    }
+
     @Override
     public int getSeaLevel() {
         return this.seaLevel;
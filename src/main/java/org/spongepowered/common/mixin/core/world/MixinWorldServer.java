@@ -46,7 +46,6 @@
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.SPacketEffect;
 import net.minecraft.network.play.server.SPacketExplosion;
@@ -61,6 +60,7 @@
 import net.minecraft.util.ITickable;
 import net.minecraft.util.ReportedException;
 import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.DimensionType;
@@ -91,9 +91,7 @@
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.ScheduledBlockUpdate;
-import org.spongepowered.api.block.tileentity.TileEntity;
 import org.spongepowered.api.data.DataContainer;
-import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.persistence.DataFormats;
 import org.spongepowered.api.effect.sound.record.RecordType;
 import org.spongepowered.api.effect.particle.ParticleEffect;
@@ -148,6 +146,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.block.TileEntityCapture;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.data.util.DataQueries;
@@ -172,11 +171,11 @@
 import org.spongepowered.common.interfaces.block.IMixinBlock;
 import org.spongepowered.common.interfaces.block.IMixinBlockEventData;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
-import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMap;
 import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.interfaces.world.IMixinExplosion;
+import org.spongepowered.common.interfaces.world.IMixinExtendedBlockStorage;
 import org.spongepowered.common.interfaces.world.IMixinServerWorldEventHandler;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
@@ -187,14 +186,19 @@
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
+import org.spongepowered.common.util.MemoryUtil;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ChunkUnloadReason;
+import org.spongepowered.common.world.CollisionShapeCache;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeGenerationPopulator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 import org.spongepowered.common.world.gen.WorldGenConstants;
+import org.spongepowered.common.world.lighting.DeferredLightUpdates;
+import org.spongepowered.common.world.storage.SpongeMapStorage;
 import org.spongepowered.common.world.type.SpongeWorldType;
 
 import java.io.File;
@@ -225,6 +229,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private static final Vector3i BLOCK_MIN = new Vector3i(-30000000, 0, -30000000);
     private static final Vector3i BLOCK_MAX = new Vector3i(30000000, 256, 30000000).sub(1, 1, 1);
 
+    private static final int MEMORY_PRESSURE_CHECK_INTERVAL = 20;
     private static final EnumSet<EnumFacing> NOTIFY_DIRECTIONS = EnumSet.of(EnumFacing.WEST, EnumFacing.EAST, EnumFacing.DOWN, EnumFacing.UP, EnumFacing.NORTH, EnumFacing.SOUTH);
 
     private final Map<net.minecraft.entity.Entity, Vector3d> rotationUpdates = new HashMap<>();
@@ -236,8 +241,13 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private int chunkGCTickCount = 0;
     private int chunkGCLoadThreshold = 0;
     private int chunkGCTickInterval = 600;
+    private int chunkGCMemoryThreshold = 0;
     private long chunkUnloadDelay = 30000;
     private boolean weatherThunderEnabled = true;
+    private final DeferredLightUpdates deferredLightUpdates = new DeferredLightUpdates((WorldServer) (Object) this);
+    @Nullable private final CollisionShapeCache collisionShapeCache = SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+            && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useCollisionShapeCache()
+            ? new CollisionShapeCache((WorldServer) (Object) this) : null;
     private boolean weatherIceAndSnowEnabled = true;
     private int dimensionId;
 
@@ -294,6 +304,7 @@ public void onConstruct(MinecraftServer server, ISaveHandler saveHandlerIn, Worl
         // Need to set the active config before we call it.
         this.chunkGCLoadThreshold = SpongeHooks.getActiveConfig((WorldServer) (Object) this).getConfig().getWorld().getChunkLoadThreadhold();
         this.chunkGCTickInterval = this.getActiveConfig().getConfig().getWorld().getTickInterval();
+        this.chunkGCMemoryThreshold = this.getActiveConfig().getConfig().getWorld().getChunkGCMemoryThreshold();
         this.weatherIceAndSnowEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherThunder();
         this.updateEntityTick = 0;
@@ -308,7 +319,8 @@ public MapStorage onCreateMapStorage(ISaveHandler saveHandler) {
         }
 
         // if we are loading overworld, create a new mapstorage
-        return new MapStorage(saveHandler);
+        // Sponge - shared by all worlds, which may tick in parallel
+        return new SpongeMapStorage(saveHandler);
     }
 
     // The following two redirects work around the fact that 'onCreateMapStorage' causes all worlds to share a single MapStorage.
@@ -397,6 +409,7 @@ public void setActiveConfig(SpongeConfig<?> config) {
         // update cached settings
         this.chunkGCLoadThreshold = this.activeConfig.getConfig().getWorld().getChunkLoadThreadhold();
         this.chunkGCTickInterval = this.activeConfig.getConfig().getWorld().getTickInterval();
+        this.chunkGCMemoryThreshold = this.activeConfig.getConfig().getWorld().getChunkGCMemoryThreshold();
         this.weatherIceAndSnowEnabled = this.activeConfig.getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.activeConfig.getConfig().getWorld().getWeatherThunder();
         this.chunkUnloadDelay = this.activeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
@@ -708,6 +721,10 @@ protected void updateBlocks() {
                 {
                     if (extendedblockstorage != net.minecraft.world.chunk.Chunk.NULL_BLOCK_STORAGE && extendedblockstorage.needsRandomTick())
                     {
+                        // Sponge start - in sections with few randomly ticking blocks, only look up the sampled blocks that tick
+                        final IMixinExtendedBlockStorage tickSection = (IMixinExtendedBlockStorage) extendedblockstorage;
+                        final boolean sparse = tickSection.isTrackingRandomlyTickingBlocks();
+                        // Sponge end
                         for (int i1 = 0; i1 < i; ++i1)
                         {
                             this.updateLCG = this.updateLCG * 3 + 1013904223;
@@ -715,6 +732,17 @@ protected void updateBlocks() {
                             int k1 = j1 & 15;
                             int l1 = j1 >> 8 & 15;
                             int i2 = j1 >> 16 & 15;
+                            // Sponge start
+                            if (sparse) {
+                                final int index = tickSection.getRandomlyTickingPosition(i2 << 8 | l1 << 4 | k1);
+                                if (index < 0) {
+                                    continue;
+                                }
+                                k1 = index & 15;
+                                l1 = index >> 4 & 15;
+                                i2 = index >> 8;
+                            }
+                            // Sponge end
                             IBlockState iblockstate = extendedblockstorage.get(k1, i2, l1);
                             Block block = iblockstate.getBlock();
                             // this.profiler.startSection("randomTick"); // Sponge - Don't use the profiler
@@ -898,18 +926,26 @@ public void doChunkGC() {
         this.chunkGCTickCount++;
 
         ChunkProviderServer chunkProviderServer = this.getChunkProvider();
+        IMixinChunkProviderServer mixinChunkProvider = (IMixinChunkProviderServer) chunkProviderServer;
         int chunkLoadCount = this.getChunkProvider().getLoadedChunkCount();
+        final ChunkUnloadReason reason;
         if (chunkLoadCount >= this.chunkGCLoadThreshold && this.chunkGCLoadThreshold > 0) {
             chunkLoadCount = 0;
+            reason = ChunkUnloadReason.LOAD_THRESHOLD;
         } else if (this.chunkGCTickCount >= this.chunkGCTickInterval && this.chunkGCTickInterval > 0) {
             this.chunkGCTickCount = 0;
+            reason = ChunkUnloadReason.INACTIVE;
+        } else if (this.chunkGCTickCount % MEMORY_PRESSURE_CHECK_INTERVAL == 0 && this.isUnderMemoryPressure()) {
+            reason = ChunkUnloadReason.MEMORY_PRESSURE;
         } else {
             return;
         }
 
         for (net.minecraft.world.chunk.Chunk chunk : chunkProviderServer.getLoadedChunks()) {
             IMixinChunk spongeChunk = (IMixinChunk) chunk;
-            if (chunk.unloadQueued || spongeChunk.isPersistedChunk() || !this.provider.canDropChunk(chunk.x, chunk.z)) {
+            // Chunks queued for a delayed unload are moved forward when memory is low
+            if ((reason != ChunkUnloadReason.MEMORY_PRESSURE && mixinChunkProvider.isUnloadScheduled(chunk))
+                    || spongeChunk.isPersistedChunk() || !this.provider.canDropChunk(chunk.x, chunk.z)) {
                 continue;
             }
 
@@ -919,11 +955,18 @@ public void doChunkGC() {
             }
 
             // If we reach this point the chunk leaked so queue for unload
-            chunkProviderServer.queueUnload(chunk);
+            mixinChunkProvider.queueUnload(chunk, reason);
             SpongeHooks.logChunkGCQueueUnload(chunkProviderServer.world, chunk);
         }
     }
 
+    private boolean isUnderMemoryPressure() {
+        if (this.chunkGCMemoryThreshold <= 0) {
+            return false;
+        }
+        return MemoryUtil.getTenuredOccupancyAfterGc() >= this.chunkGCMemoryThreshold;
+    }
+
     @Override
     public boolean save() throws IOException {
         if (!getChunkProvider().canSave()) {
@@ -1416,6 +1459,23 @@ public void notifyNeighborsOfStateChange(BlockPos pos, Block blockType, boolean
         }
     }
 
+    @Override
+    protected void addBlockCollisionBoxes(IBlockState state, BlockPos pos, AxisAlignedBB entityBox, List<AxisAlignedBB> list,
+            @Nullable net.minecraft.entity.Entity entity) {
+        if (this.collisionShapeCache != null) {
+            this.collisionShapeCache.addCollisionBoxes(state, pos, entityBox, list, entity);
+        } else {
+            super.addBlockCollisionBoxes(state, pos, entityBox, list, entity);
+        }
+    }
+
+    @Override
+    public void invalidateCollisionShapes(BlockPos pos) {
+        if (this.collisionShapeCache != null) {
+            this.collisionShapeCache.invalidate(pos);
+        }
+    }
+
     @SuppressWarnings("Duplicates")
     @Override
     protected void onUpdateWeatherEffect(net.minecraft.entity.Entity entityIn) {
@@ -1575,6 +1635,15 @@ private boolean forceSpawnEntity(net.minecraft.entity.Entity entity, int chunkX,
 
     @Override
     public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag) {
+        return this.createSpongeBlockSnapshot(state, extended, pos, updateFlag, false);
+    }
+
+    @Override
+    public SpongeBlockSnapshot createCapturedBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag) {
+        return this.createSpongeBlockSnapshot(state, extended, pos, updateFlag, true);
+    }
+
+    private SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag, boolean lazyTileData) {
         this.builder.reset();
         this.builder.blockState((BlockState) state)
                 .extendedState((BlockState) extended)
@@ -1591,19 +1660,15 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
         if (state.getBlock() instanceof ITileEntityProvider) {
             net.minecraft.tileentity.TileEntity te = getTileEntity(pos);
             if (te != null) {
-                TileEntity tile = (TileEntity) te;
-                for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tile).getCustomManipulators()) {
-                    this.builder.add(manipulator);
-                }
-                NBTTagCompound nbt = new NBTTagCompound();
-                // Some mods like OpenComputers assert if attempting to save robot while moving
-                try {
-                    te.writeToNBT(nbt);
-                    this.builder.unsafeNbt(nbt);
-                }
-                catch(Throwable t) {
-                    // ignore
+                final TileEntityCapture capture = ((IMixinTileEntity) te).getSnapshotCapture();
+                if (lazyTileData) {
+                    // The tile entity data is written when the snapshot needs it, before the tile entity changes
+                    // or once the capturing phase is done, as ticking the tile entity may change it unnoticed
+                    CauseTracker.getInstance().addPendingTileCapture(capture);
+                } else {
+                    capture.capture();
                 }
+                this.builder.tileCapture(capture);
             }
         }
         return new SpongeBlockSnapshot(this.builder, BlockChangeFlag.ALL.setUpdateNeighbors((updateFlag & 1) != 0), updateFlag);
@@ -2096,6 +2161,11 @@ public WorldTimingsHandler getTimingsHandler() {
         return this.timings;
     }
 
+    @Override
+    public DeferredLightUpdates getDeferredLightUpdates() {
+        return this.deferredLightUpdates;
+    }
+
     /**************************** EFFECT ****************************************/
 
     @Override
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.world.IMixinExtendedBlockStorage;
+
+import java.util.Arrays;
+
+@Mixin(ExtendedBlockStorage.class)
+public abstract class MixinExtendedBlockStorage implements IMixinExtendedBlockStorage {
+
+    // Sections with more randomly ticking blocks are sampled as in vanilla
+    private static final int MAX_TRACKED_TICKING_BLOCKS = 64;
+
+    @Shadow private int blockRefCount;
+    @Shadow private int tickRefCount;
+
+    @Shadow public abstract IBlockState get(int x, int y, int z);
+
+    // Only valid while trackingTickingBlocks is set
+    private short[] tickingPositions = new short[4];
+    private int tickingCount;
+    private boolean trackingTickingBlocks = true;
+
+    @Inject(method = "set", at = @At("HEAD"))
+    private void onSet(int x, int y, int z, IBlockState state, CallbackInfo ci) {
+        if (!this.trackingTickingBlocks) {
+            return;
+        }
+        final boolean wasTicking = this.get(x, y, z).getBlock().getTickRandomly();
+        final boolean ticking = state.getBlock().getTickRandomly();
+        if (wasTicking == ticking) {
+            return;
+        }
+
+        final short position = (short) (y << 8 | z << 4 | x);
+        if (ticking) {
+            addTickingPosition(position);
+        } else {
+            for (int i = 0; i < this.tickingCount; i++) {
+                if (this.tickingPositions[i] == position) {
+                    this.tickingPositions[i] = this.tickingPositions[--this.tickingCount];
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @author sanman00 - October 19th, 2026
+     * @reason Collect the positions of randomly ticking blocks while
+     *     counting them, so sparse sections can be random ticked without
+     *     sampling every block.
+     */
+    @Overwrite
+    public void recalculateRefCounts() {
+        this.blockRefCount = 0;
+        this.tickRefCount = 0;
+        this.tickingCount = 0; // Sponge
+        this.trackingTickingBlocks = true; // Sponge
+
+        for (int i = 0; i < 16; ++i) {
+            for (int j = 0; j < 16; ++j) {
+                for (int k = 0; k < 16; ++k) {
+                    Block block = this.get(i, j, k).getBlock();
+
+                    if (block != Blocks.AIR) {
+                        ++this.blockRefCount;
+
+                        if (block.getTickRandomly()) {
+                            ++this.tickRefCount;
+                            // Sponge start
+                            if (this.trackingTickingBlocks) {
+                                addTickingPosition((short) (j << 8 | k << 4 | i));
+                            }
+                            // Sponge end
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isTrackingRandomlyTickingBlocks() {
+        if (!this.trackingTickingBlocks && this.tickRefCount <= MAX_TRACKED_TICKING_BLOCKS / 2) {
+            // Wait until the section is well below the limit to avoid rescanning it repeatedly
+            rebuildTickingPositions();
+        }
+        return this.trackingTickingBlocks;
+    }
+
+    @Override
+    public int getRandomlyTickingPosition(int sample) {
+        return sample < this.tickingCount ? this.tickingPositions[sample] : -1;
+    }
+
+    private void addTickingPosition(short position) {
+        if (this.tickingCount == MAX_TRACKED_TICKING_BLOCKS) {
+            this.trackingTickingBlocks = false;
+            return;
+        }
+        if (this.tickingCount == this.tickingPositions.length) {
+            this.tickingPositions = Arrays.copyOf(this.tickingPositions, this.tickingPositions.length * 2);
+        }
+        this.tickingPositions[this.tickingCount++] = position;
+    }
+
+    private void rebuildTickingPositions() {
+        this.tickingCount = 0;
+        this.trackingTickingBlocks = true;
+        for (int index = 0; index < 4096 && this.trackingTickingBlocks; index++) {
+            if (this.get(index & 15, index >> 8, index >> 4 & 15).getBlock().getTickRandomly()) {
+                addTickingPosition((short) index);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.world.IMixinRegionFile;
+import org.spongepowered.common.world.storage.SpongeRegionFileCache;
+import org.spongepowered.common.world.storage.compression.RegionCompression;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(RegionFile.class)
+public abstract class MixinRegionFile implements IMixinRegionFile {
+
+    @Shadow private RandomAccessFile dataFile;
+    @Shadow private List<Boolean> sectorFree;
+
+    // Only changed while holding the region file lock
+    private RegionCompression writeCompression = RegionCompression.ZLIB;
+    // Set if this region file is managed by the SpongeRegionFileCache
+    @Nullable private File cacheFile;
+    private boolean closed;
+
+    @Shadow protected abstract boolean outOfBounds(int x, int z);
+    @Shadow protected abstract int getOffset(int x, int z);
+    @Shadow protected abstract void write(int x, int z, byte[] data, int length);
+
+    /**
+     * @author sanman00 - October 19th, 2026
+     * @reason Read chunks stored with any {@link RegionCompression} instead
+     *     of only gzip and zlib.
+     *
+     * @param x The chunk x coordinate within the region
+     * @param z The chunk z coordinate within the region
+     * @return The chunk data stream, or null if the chunk is not present
+     */
+    @Nullable
+    @Overwrite
+    public synchronized DataInputStream getChunkDataInputStream(int x, int z) {
+        if (this.outOfBounds(x, z)) {
+            return null;
+        }
+        // Sponge start - this handle was evicted from the cache, read through the region file that is open now
+        if (this.closed && this.cacheFile != null) {
+            return SpongeRegionFileCache.getChunkInputStream(this.cacheFile, x, z);
+        }
+        // Sponge end
+        try {
+            final int offset = this.getOffset(x, z);
+            if (offset == 0) {
+                return null;
+            }
+            final int sectorNumber = offset >> 8;
+            final int sectorCount = offset & 255;
+            if (sectorNumber + sectorCount > this.sectorFree.size()) {
+                return null;
+            }
+            this.dataFile.seek(sectorNumber * 4096L);
+            final int length = this.dataFile.readInt();
+            if (length > 4096 * sectorCount || length <= 0) {
+                return null;
+            }
+            // Sponge start - look up the compression type instead of only accepting 1 and 2
+            final RegionCompression compression = RegionCompression.byId(this.dataFile.readByte() & 0xFF);
+            if (compression == null) {
+                return null;
+            }
+            final byte[] data = new byte[length - 1];
+            this.dataFile.readFully(data);
+            return new DataInputStream(new BufferedInputStream(compression.decompress(data, 0, data.length)));
+            // Sponge end
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Inject(method = "getChunkDataOutputStream", at = @At("HEAD"), cancellable = true)
+    private void onGetChunkDataOutputStream(int x, int z, CallbackInfoReturnable<DataOutputStream> cir) {
+        if (this.cacheFile != null && !this.outOfBounds(x, z)) {
+            // Write through the cache, which keeps the region file open until the chunk is written,
+            // even if this handle has been evicted since it was handed out
+            cir.setReturnValue(SpongeRegionFileCache.getChunkOutputStream(this.cacheFile, x, z, RegionCompression.ZLIB));
+        }
+    }
+
+    @Inject(method = "close", at = @At("HEAD"))
+    private void onClose(CallbackInfo ci) {
+        this.closed = true;
+    }
+
+    @Redirect(method = "write(I[BI)V", at = @At(value = "INVOKE", target = "Ljava/io/RandomAccessFile;writeByte(I)V"))
+    private void onWriteCompressionType(RandomAccessFile file, int type) throws IOException {
+        file.writeByte(this.writeCompression.getId());
+    }
+
+    @Override
+    public void setCacheFile(File file) {
+        this.cacheFile = file;
+    }
+
+    @Override
+    public synchronized void writeCompressed(int x, int z, byte[] data, int length, RegionCompression compression) {
+        this.writeCompression = compression;
+        try {
+            this.write(x, z, data, length);
+        } finally {
+            this.writeCompression = RegionCompression.ZLIB;
+        }
+    }
+
+}
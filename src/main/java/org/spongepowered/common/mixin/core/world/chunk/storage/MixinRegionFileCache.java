@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.common.world.storage.SpongeRegionFileCache;
+import org.spongepowered.common.world.storage.compression.RegionCompression;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+
+import javax.annotation.Nullable;
+
+@Mixin(RegionFileCache.class)
+public abstract class MixinRegionFileCache {
+
+    /**
+     * @author sanman00 - October 19th, 2026
+     * @reason Use the striped LRU handle cache instead of a map behind a
+     *     global lock that is cleared entirely once full.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The region file
+     */
+    @Overwrite
+    public static RegionFile createOrLoadRegionFile(File worldDir, int chunkX, int chunkZ) {
+        return SpongeRegionFileCache.getRegionFile(SpongeRegionFileCache.getRegionFileLocation(worldDir, chunkX, chunkZ), true);
+    }
+
+    /**
+     * @author sanman00 - October 19th, 2026
+     * @reason Use the striped LRU handle cache.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The region file, or null if it does not exist
+     */
+    @Nullable
+    @Overwrite
+    public static RegionFile getRegionFileIfExists(File worldDir, int chunkX, int chunkZ) {
+        return SpongeRegionFileCache.getRegionFile(SpongeRegionFileCache.getRegionFileLocation(worldDir, chunkX, chunkZ), false);
+    }
+
+    /**
+     * @author sanman00 - October 19th, 2026
+     * @reason Use the striped LRU handle cache.
+     */
+    @Overwrite
+    public static void clearRegionFileReferences() {
+        SpongeRegionFileCache.closeAll();
+    }
+
+    /**
+     * @author sanman00 - October 19th, 2026
+     * @reason Keep the region file open while the chunk is read, and avoid
+     *     creating region files for chunks that were never saved.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The chunk data stream, or null if the chunk does not exist
+     */
+    @Nullable
+    @Overwrite
+    public static DataInputStream getChunkInputStream(File worldDir, int chunkX, int chunkZ) {
+        return SpongeRegionFileCache.getChunkInputStream(worldDir, chunkX, chunkZ);
+    }
+
+    /**
+     * @author sanman00 - October 19th, 2026
+     * @reason Keep the region file open until the chunk is written.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The chunk output stream
+     */
+    @Overwrite
+    public static DataOutputStream getChunkOutputStream(File worldDir, int chunkX, int chunkZ) {
+        return SpongeRegionFileCache.getChunkOutputStream(worldDir, chunkX, chunkZ, RegionCompression.ZLIB);
+    }
+
+}
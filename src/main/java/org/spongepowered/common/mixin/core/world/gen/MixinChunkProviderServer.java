@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.core.world.gen;
 
+import co.aikar.timings.WorldTimingsHandler;
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.util.math.ChunkPos;
@@ -38,6 +39,7 @@
 import org.spongepowered.api.world.storage.ChunkDataStream;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.api.world.storage.WorldStorage;
+import org.spongepowered.asm.lib.Opcodes;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Mutable;
@@ -49,7 +51,6 @@
 import org.spongepowered.asm.mixin.injection.At.Shift;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
-import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
@@ -65,14 +66,18 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
+import org.spongepowered.common.util.ChunkUnloadQueue;
+import org.spongepowered.common.util.ServerUtils;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkUnloadReason;
 import org.spongepowered.common.world.SpongeEmptyChunk;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
-import java.util.Iterator;
+import java.util.ArrayDeque;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Mixin(ChunkProviderServer.class)
 public abstract class MixinChunkProviderServer implements WorldStorage, IMixinChunkProviderServer {
@@ -82,6 +87,10 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    private boolean autoSaving = false;
+    private final ChunkUnloadQueue unloadQueue = new ChunkUnloadQueue();
+    private final long[] unloadCounts = new long[ChunkUnloadReason.values().length];
+    private final ArrayDeque<Chunk> autoSaveQueue = new ArrayDeque<>();
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -95,6 +104,7 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     @Shadow public abstract Chunk provideChunk(int x, int z);
     @Shadow public abstract void saveChunkExtraData(Chunk chunkIn);
     @Shadow public abstract void saveChunkData(Chunk chunkIn);
+    @Shadow public abstract boolean canSave();
 
     @Inject(method = "<init>", at = @At("RETURN"))
     private void onConstruct(WorldServer worldObjIn, IChunkLoader chunkLoaderIn, IChunkGenerator chunkGeneratorIn, CallbackInfo ci) {
@@ -143,11 +153,48 @@ public WorldProperties getWorldProperties() {
     @Overwrite
     public void queueUnload(Chunk chunkIn)
     {
+        this.queueUnload(chunkIn, ChunkUnloadReason.REQUESTED);
+    }
+
+    @Override
+    public void queueUnload(Chunk chunkIn, ChunkUnloadReason reason) {
         if (!((IMixinChunk) chunkIn).isPersistedChunk() && this.world.provider.canDropChunk(chunkIn.x, chunkIn.z))
         {
-            // Sponge - we avoid using the queue and simply check the unloaded flag during unloads
+            // Sponge - we avoid the droppedChunksSet and schedule the chunk by the time it is due to unload
             //this.droppedChunksSet.add(Long.valueOf(ChunkPos.asLong(chunkIn.x, chunkIn.z)));
             chunkIn.unloadQueued = true;
+            final long scheduled = ((IMixinChunk) chunkIn).getScheduledForUnload();
+            final long deadline;
+            if (reason == ChunkUnloadReason.MEMORY_PRESSURE || this.chunkUnloadDelay <= 0 || scheduled == -1) {
+                deadline = System.currentTimeMillis();
+            } else {
+                deadline = scheduled + this.chunkUnloadDelay;
+            }
+            this.unloadQueue.schedule(ChunkPos.asLong(chunkIn.x, chunkIn.z), deadline, reason);
+        }
+    }
+
+    @Override
+    public boolean isUnloadScheduled(Chunk chunk) {
+        return chunk.unloadQueued && this.unloadQueue.contains(ChunkPos.asLong(chunk.x, chunk.z));
+    }
+
+    @Override
+    public int getScheduledUnloadCount() {
+        return this.unloadQueue.size();
+    }
+
+    @Override
+    public long getChunkUnloadCount(ChunkUnloadReason reason) {
+        return this.unloadCounts[reason.ordinal()];
+    }
+
+    @Redirect(method = "getLoadedChunk", at = @At(value = "FIELD", target = "Lnet/minecraft/world/chunk/Chunk;unloadQueued:Z", opcode = Opcodes.PUTFIELD))
+    private void onMarkChunkActive(Chunk chunk, boolean unloadQueued) {
+        // Only touch the queue when the chunk was actually queued, as this is called for every chunk lookup
+        if (chunk.unloadQueued) {
+            chunk.unloadQueued = false;
+            this.unloadQueue.cancel(ChunkPos.asLong(chunk.x, chunk.z));
         }
     }
 
@@ -209,7 +256,7 @@ public void onError(CallbackInfoReturnable<Chunk> ci) {
     }
 
     private boolean canDenyChunkRequest() {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!ServerUtils.isCallingFromWorldThread(this.world)) {
             return true;
         }
 
@@ -279,6 +326,10 @@ public long getChunkUnloadDelay() {
      * @reason Refactors entire method to not use the droppedChunksSet by
      * simply looping through all loaded chunks and determining whether it
      * can unload or not.
+     * @author sanman00 - October 19th, 2026
+     * @reason Only visit chunks whose unload delay has passed by polling
+     * the unload queue in deadline order instead of scanning all loaded
+     * chunks.
      *
      * @return true if unload queue was processed
      */
@@ -288,27 +339,30 @@ public boolean tick()
         if (!this.world.disableLevelSaving)
         {
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.startTiming();
-            Iterator<Chunk> iterator = this.id2ChunkMap.values().iterator();
             int chunksUnloaded = 0;
             long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.maxChunkUnloads && iterator.hasNext()) {
-                Chunk chunk = iterator.next();
-                IMixinChunk spongeChunk = (IMixinChunk) chunk;
-                if (chunk != null && chunk.unloadQueued && !spongeChunk.isPersistedChunk()) {
-                    if (this.getChunkUnloadDelay() > 0) {
-                        if ((now - spongeChunk.getScheduledForUnload()) < this.chunkUnloadDelay) {
-                            continue;
-                        }
-                        spongeChunk.setScheduledForUnload(-1);
-                    }
-                    chunk.onUnload();
-                    this.saveChunkData(chunk);
-                    this.saveChunkExtraData(chunk);
-                    iterator.remove();
-                    chunksUnloaded++;
+            while (chunksUnloaded < this.maxChunkUnloads && !this.unloadQueue.isEmpty() && this.unloadQueue.peekDeadline() <= now) {
+                final ChunkUnloadReason reason = this.unloadQueue.peekReason();
+                final long key = this.unloadQueue.poll();
+                Chunk chunk = this.id2ChunkMap.get(key);
+                // The chunk may have become active again or unloaded through other means since it was queued
+                if (chunk == null || !chunk.unloadQueued || ((IMixinChunk) chunk).isPersistedChunk()) {
+                    continue;
                 }
+                ((IMixinChunk) chunk).setScheduledForUnload(-1);
+                chunk.onUnload();
+                this.saveChunkData(chunk);
+                this.saveChunkExtraData(chunk);
+                this.id2ChunkMap.remove(key);
+                this.unloadCounts[reason.ordinal()]++;
+                chunksUnloaded++;
             }
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.stopTiming();
+
+            // Sponge - save chunks queued by the last auto-save
+            if (!this.autoSaveQueue.isEmpty()) {
+                this.processAutoSaveQueue();
+            }
         }
 
         this.chunkLoader.chunkTick();
@@ -335,7 +389,88 @@ public void onCanSave(CallbackInfoReturnable<Boolean> cir) {
     public void onSaveChunkData(Chunk chunkIn, CallbackInfo ci) {
         if (((WorldProperties)this.world.getWorldInfo()).getSerializationBehavior() == SerializationBehaviors.NONE) {
             ci.cancel();
+            return;
+        }
+        ((IMixinChunk) chunkIn).clearDirtyState();
+    }
+
+    @Inject(method = "saveChunks", at = @At("HEAD"), cancellable = true)
+    public void onSaveChunks(boolean all, CallbackInfoReturnable<Boolean> cir) {
+        if (!this.autoSaving || ((IMixinWorldServer) this.world).getActiveConfig().getConfig().getWorld().getAutoSaveTimeSlice() <= 0) {
+            return;
+        }
+        this.queueAutoSave();
+        cir.setReturnValue(true);
+    }
+
+    /**
+     * Queues all chunks that need to be saved. Chunks with changed blocks,
+     * light or tile entities are queued ahead of chunks with only entity
+     * changes so that an auto-save cut short by an unload or shutdown has
+     * already written the most important changes.
+     */
+    private void queueAutoSave() {
+        final boolean saveEntityOnlyChunks = ((IMixinWorldServer) this.world).getActiveConfig().getConfig().getWorld().getAutoSaveEntityOnlyChunks();
+        final ArrayDeque<Chunk> entityOnlyChunks = new ArrayDeque<>();
+        this.autoSaveQueue.clear();
+        for (Chunk chunk : this.id2ChunkMap.values()) {
+            if (!this.needsAutoSave(chunk, saveEntityOnlyChunks)) {
+                continue;
+            }
+            final IMixinChunk spongeChunk = (IMixinChunk) chunk;
+            if (chunk.isModified() || spongeChunk.getDirtySections() != 0 || spongeChunk.hasDirtyTileEntities()) {
+                this.autoSaveQueue.add(chunk);
+            } else {
+                entityOnlyChunks.add(chunk);
+            }
+        }
+        this.autoSaveQueue.addAll(entityOnlyChunks);
+    }
+
+    private boolean needsAutoSave(Chunk chunk, boolean saveEntityOnlyChunks) {
+        if (!chunk.needsSaving(true)) {
+            return false;
         }
+        if (saveEntityOnlyChunks || chunk.isModified()) {
+            return true;
+        }
+        return ((IMixinChunk) chunk).hasDirtyEntities();
+    }
+
+    private void processAutoSaveQueue() {
+        if (!this.canSave()) {
+            this.autoSaveQueue.clear();
+            return;
+        }
+        final WorldTimingsHandler timings = ((IMixinWorldServer) this.world).getTimingsHandler();
+        timings.doChunkAutoSave.startTiming();
+        final boolean saveEntityOnlyChunks = ((IMixinWorldServer) this.world).getActiveConfig().getConfig().getWorld().getAutoSaveEntityOnlyChunks();
+        final long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(((IMixinWorldServer) this.world).getActiveConfig().getConfig().getWorld().getAutoSaveTimeSlice());
+        Chunk chunk;
+        while ((chunk = this.autoSaveQueue.poll()) != null) {
+            // Chunks may have been unloaded, and therefore saved, since they were queued
+            if (!((IMixinChunk) chunk).isChunkLoaded() || !this.needsAutoSave(chunk, saveEntityOnlyChunks)) {
+                continue;
+            }
+            this.saveChunkExtraData(chunk);
+            this.saveChunkData(chunk);
+            chunk.setModified(false);
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        timings.doChunkAutoSave.stopTiming();
+    }
+
+    @Override
+    public void setAutoSaving(boolean autoSaving) {
+        this.autoSaving = autoSaving;
+    }
+
+    @Override
+    public int getQueuedAutoSaveCount() {
+        return this.autoSaveQueue.size();
     }
 
     @Inject(method = "flushToDisk", at = @At("HEAD"), cancellable = true)
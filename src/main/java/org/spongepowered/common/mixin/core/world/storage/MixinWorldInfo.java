@@ -28,10 +28,9 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParseException;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.scoreboard.ServerScoreboard;
@@ -89,6 +88,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -148,7 +148,9 @@ public abstract class MixinWorldInfo implements WorldProperties, IMixinWorldInfo
     private boolean generateBonusChest, isValid = true;
     private NBTTagCompound spongeRootLevelNbt = new NBTTagCompound(), spongeNbt = new NBTTagCompound();
     private NBTTagList playerUniqueIdNbt = new NBTTagList();
-    private BiMap<Integer, UUID> playerUniqueIdMap = HashBiMap.create();
+    // Index to unique id table for block tracking, indices are assigned in order
+    private UUID[] playerUniqueIds = new UUID[16];
+    private final Object2IntOpenHashMap<UUID> playerUniqueIdIndexes = new Object2IntOpenHashMap<>();
     private List<UUID> pendingUniqueIds = new ArrayList<>();
     private int trackedUniqueIdCount = 0;
     private SpongeConfig<WorldConfig> worldConfig;
@@ -762,19 +764,30 @@ public void setPropertySection(DataQuery path, DataView data) {
 
     @Override
     public int getIndexForUniqueId(UUID uuid) {
-        final Integer index = this.playerUniqueIdMap.inverse().get(uuid);
-        if (index != null) {
-            return index;
+        if (this.playerUniqueIdIndexes.containsKey(uuid)) {
+            return this.playerUniqueIdIndexes.getInt(uuid);
         }
 
-        this.playerUniqueIdMap.put(this.trackedUniqueIdCount, uuid);
         this.pendingUniqueIds.add(uuid);
-        return this.trackedUniqueIdCount++;
+        return addUniqueId(uuid);
     }
 
     @Override
     public Optional<UUID> getUniqueIdForIndex(int index) {
-        return Optional.ofNullable(this.playerUniqueIdMap.get(index));
+        if (index < 0 || index >= this.trackedUniqueIdCount) {
+            return Optional.empty();
+        }
+        return Optional.of(this.playerUniqueIds[index]);
+    }
+
+    private int addUniqueId(UUID uuid) {
+        final int index = this.trackedUniqueIdCount++;
+        if (index == this.playerUniqueIds.length) {
+            this.playerUniqueIds = Arrays.copyOf(this.playerUniqueIds, index * 2);
+        }
+        this.playerUniqueIds[index] = uuid;
+        this.playerUniqueIdIndexes.put(uuid, index);
+        return index;
     }
 
     @Override
@@ -811,6 +824,7 @@ public void readSpongeNbt(NBTTagCompound nbt) {
         this.generateBonusChest = nbt.getBoolean(NbtDataUtil.GENERATE_BONUS_CHEST);
         this.portalAgentType = PortalAgentRegistryModule.getInstance().validatePortalAgent(nbt.getString(NbtDataUtil.PORTAL_AGENT_TYPE), this.levelName);
         this.trackedUniqueIdCount = 0;
+        this.playerUniqueIdIndexes.clear();
         if (nbt.hasKey(NbtDataUtil.WORLD_SERIALIZATION_BEHAVIOR)) {
             short saveBehavior = nbt.getShort(NbtDataUtil.WORLD_SERIALIZATION_BEHAVIOR);
             if (saveBehavior == 1) {
@@ -826,9 +840,8 @@ public void readSpongeNbt(NBTTagCompound nbt) {
             for (int i = 0; i < playerIdList.tagCount(); i++) {
                 final NBTTagCompound playerId = playerIdList.getCompoundTagAt(i);
                 final UUID playerUuid = playerId.getUniqueId(NbtDataUtil.UUID);
-                final Integer playerIndex = this.playerUniqueIdMap.inverse().get(playerUuid);
-                if (playerIndex == null) {
-                    this.playerUniqueIdMap.put(this.trackedUniqueIdCount++, playerUuid);
+                if (!this.playerUniqueIdIndexes.containsKey(playerUuid)) {
+                    addUniqueId(playerUuid);
                 } else {
                     playerIdList.removeTag(i);
                 }
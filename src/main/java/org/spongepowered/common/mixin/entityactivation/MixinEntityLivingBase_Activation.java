@@ -27,6 +27,8 @@
 import net.minecraft.entity.EntityLivingBase;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
 
 @Mixin(EntityLivingBase.class)
 public abstract class MixinEntityLivingBase_Activation extends MixinEntity_Activation {
@@ -38,4 +40,24 @@ public void inactiveTick() {
         super.inactiveTick();
         ++this.idleTime;
     }
+
+    /**
+     * Scales the horizontal motion gained from the movement input of throttled
+     * entities by the number of ticks since their last full tick, so they keep
+     * moving at roughly their usual speed. The motion is scaled after
+     * moveRelative, which normalizes inputs with a magnitude above 1.
+     */
+    @Redirect(method = "travel", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/EntityLivingBase;moveRelative(FFFF)V"))
+    private void onMoveRelative(EntityLivingBase self, float strafe, float up, float forward, float friction) {
+        final int scale = this.getThrottleScale();
+        if (scale <= 1) {
+            self.moveRelative(strafe, up, forward, friction);
+            return;
+        }
+        final double motionX = this.motionX;
+        final double motionZ = this.motionZ;
+        self.moveRelative(strafe, up, forward, friction);
+        this.motionX = motionX + (this.motionX - motionX) * scale;
+        this.motionZ = motionZ + (this.motionZ - motionZ) * scale;
+    }
 }
@@ -46,9 +46,15 @@ public abstract class MixinEntity_Activation implements Entity, IModData_Activat
     public long activatedTick = Integer.MIN_VALUE;
     private int activationRange;
     private boolean refreshCache = false;
+    private long throttledTick = Integer.MIN_VALUE;
+    private int throttleRange;
+    private int throttleTickRate = 1;
+    private int throttleScale = 1;
 
     @Shadow public World world;
     @Shadow public boolean onGround;
+    @Shadow public double motionX;
+    @Shadow public double motionZ;
 
     @Shadow
     public abstract void setDead();
@@ -96,6 +102,46 @@ public void setActivationRange(int range) {
         this.activationRange = range;
     }
 
+    @Override
+    public long getThrottledTick() {
+        return this.throttledTick;
+    }
+
+    @Override
+    public void setThrottledTick(long tick) {
+        this.throttledTick = tick;
+    }
+
+    @Override
+    public int getThrottleRange() {
+        return this.throttleRange;
+    }
+
+    @Override
+    public void setThrottleRange(int range) {
+        this.throttleRange = range;
+    }
+
+    @Override
+    public int getSpongeTickRate() {
+        return this.throttleTickRate;
+    }
+
+    @Override
+    public void setSpongeTickRate(int tickRate) {
+        this.throttleTickRate = tickRate;
+    }
+
+    @Override
+    public int getThrottleScale() {
+        return this.throttleScale;
+    }
+
+    @Override
+    public void setThrottleScale(int scale) {
+        this.throttleScale = scale;
+    }
+
     @Override
     public void requiresActivationCacheRefresh(boolean flag) {
         this.refreshCache = flag;
@@ -22,25 +22,34 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.mixin.tileentityactivation;
+package org.spongepowered.common.mixin.entityactivation;
 
-import net.minecraft.world.WorldServer;
-import org.spongepowered.api.util.annotation.NonnullByDefault;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathNavigate;
+import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.mixin.plugin.entityactivation.PathSearchThrottle;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
-@NonnullByDefault
-@Mixin(value = net.minecraft.world.World.class, priority = 1006)
-public abstract class MixinWorld_TileEntityActivation {
+@Mixin(PathNavigate.class)
+public abstract class MixinPathNavigate_Activation {
 
-    private static final String PROFILER_ESS = "Lnet/minecraft/profiler/Profiler;endStartSection(Ljava/lang/String;)V";
+    @Shadow protected EntityLiving entity;
+    @Shadow protected World world;
 
-    @Inject(method = "updateEntities", at = @At(value = "INVOKE_STRING", target = PROFILER_ESS, args = "ldc=blockEntities"))
-    private void onBeginUpdateTileEntities(CallbackInfo ci) {
-        TileEntityActivation.activateTileEntities((WorldServer) (Object) this);
+    private final PathSearchThrottle pathSearchThrottle = new PathSearchThrottle();
+
+    @Inject(method = {"getPathToPos", "getPathToEntityLiving"}, at = @At("HEAD"), cancellable = true)
+    private void onGetPath(CallbackInfoReturnable<Path> cir) {
+        final int scale = ((IModData_Activation) this.entity).getThrottleScale();
+        if (!this.pathSearchThrottle.trySearch(this.world.getTotalWorldTime(), scale)) {
+            cir.setReturnValue(null);
+        }
     }
 
 }
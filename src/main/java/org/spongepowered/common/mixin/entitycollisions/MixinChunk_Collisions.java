@@ -25,10 +25,13 @@
 package org.spongepowered.common.mixin.entitycollisions;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.world.LocatableBlock;
@@ -37,18 +40,99 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.plugin.entitycollisions.EntityCollisionGrid;
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 @Mixin(net.minecraft.world.chunk.Chunk.class)
 public class MixinChunk_Collisions {
 
     @Shadow @Final private World world;
+    @Shadow @Final public int x;
+    @Shadow @Final public int z;
+    @Shadow @Final private ClassInheritanceMultiMap<Entity>[] entityLists;
+
+    private final EntityCollisionGrid[] collisionGrids = new EntityCollisionGrid[16];
+
+    @Inject(method = "addEntity", at = @At("RETURN"))
+    private void onAddEntityToCollisionGrid(Entity entityIn, CallbackInfo ci) {
+        final EntityCollisionGrid grid = this.collisionGrids[entityIn.chunkCoordY];
+        if (grid != null) {
+            grid.add(entityIn);
+        }
+    }
+
+    @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
+    private void onRemoveEntityFromCollisionGrid(Entity entityIn, int index, CallbackInfo ci) {
+        final EntityCollisionGrid grid = this.collisionGrids[MathHelper.clamp(index, 0, this.collisionGrids.length - 1)];
+        if (grid != null) {
+            grid.remove(entityIn);
+        }
+    }
+
+    @Redirect(method = "getEntitiesWithinAABBForEntity",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/util/ClassInheritanceMultiMap;iterator()Ljava/util/Iterator;"))
+    private Iterator<Entity> onIterateCollisionEntities(ClassInheritanceMultiMap<Entity> entityList, Entity entityIn, AxisAlignedBB aabb,
+            List<Entity> listToFill, Predicate<? super Entity> predicate) {
+        final List<Entity> candidates = getCollisionCandidates(entityList, aabb);
+        return candidates == null ? entityList.iterator() : candidates.iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Redirect(method = "getEntitiesOfTypeWithinAABB",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/util/ClassInheritanceMultiMap;getByClass(Ljava/lang/Class;)Ljava/lang/Iterable;"))
+    private <T> Iterable<T> onIterateCollisionEntitiesOfType(ClassInheritanceMultiMap<Entity> entityList, Class<T> entityClass,
+            Class<? extends T> entityClassIn, AxisAlignedBB aabb, List<T> listToFill, Predicate<? super T> predicate) {
+        final List<Entity> candidates = getCollisionCandidates(entityList, aabb);
+        return candidates == null ? entityList.getByClass(entityClass) : Iterables.filter(candidates, entityClass);
+    }
+
+    /**
+     * Gets the entities of the section that may intersect the box, or null
+     * if the section is too small to be worth indexing and should be
+     * iterated as is.
+     */
+    @Nullable
+    private List<Entity> getCollisionCandidates(ClassInheritanceMultiMap<Entity> entityList, AxisAlignedBB aabb) {
+        if (this.world.isRemote) {
+            return null;
+        }
+        int section = 0;
+        while (this.entityLists[section] != entityList) {
+            section++;
+        }
+        final int threshold = ((IMixinWorldServer) this.world).getActiveConfig().getConfig().getEntityCollisionCategory().getCollisionGridThreshold();
+        EntityCollisionGrid grid = this.collisionGrids[section];
+        if (grid == null) {
+            if (threshold <= 0 || entityList.size() < threshold) {
+                return null;
+            }
+            grid = new EntityCollisionGrid(this.x, this.z);
+            for (Entity entity : entityList) {
+                grid.add(entity);
+            }
+            this.collisionGrids[section] = grid;
+        } else if (threshold <= 0 || entityList.size() < threshold / 2) {
+            // Keep the grid until the section is well below the threshold to avoid rebuilding it repeatedly
+            grid.clear();
+            this.collisionGrids[section] = null;
+            return null;
+        }
+
+        final List<Entity> candidates = new ArrayList<>();
+        grid.collect(aabb, candidates);
+        return candidates;
+    }
 
     @Inject(method = "getEntitiesWithinAABBForEntity",
             at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
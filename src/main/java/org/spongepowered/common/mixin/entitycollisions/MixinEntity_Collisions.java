@@ -26,6 +26,7 @@
 
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.world.World;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityType;
@@ -41,16 +42,23 @@
 import org.spongepowered.common.entity.SpongeEntityType;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.mixin.plugin.entitycollisions.EntityCollisionGrid;
+import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_CollisionGrid;
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
 
+import javax.annotation.Nullable;
+
 @Mixin(value = net.minecraft.entity.Entity.class, priority = 1002)
-public class MixinEntity_Collisions implements IModData_Collisions {
+public class MixinEntity_Collisions implements IModData_Collisions, IModData_CollisionGrid {
 
     private int maxCollisions = 8;
     private boolean refreshCache = false;
     private SpongeEntityType spongeEntityType;
     private String entityName = "unknown";
     private String entityModId = "unknown";
+    @Nullable private EntityCollisionGrid collisionGrid;
+    private int collisionGridCell = -1;
+    private int collisionGridIndex = -1;
     @Shadow public World world;
 
     @Inject(method = "<init>", at = @At("RETURN"))
@@ -79,6 +87,36 @@ public void onEntityConstruction(World world, CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "setEntityBoundingBox", at = @At("RETURN"))
+    private void onSetEntityBoundingBox(AxisAlignedBB bb, CallbackInfo ci) {
+        if (this.collisionGrid != null) {
+            this.collisionGrid.move((net.minecraft.entity.Entity) (Object) this);
+        }
+    }
+
+    @Nullable
+    @Override
+    public EntityCollisionGrid getCollisionGrid() {
+        return this.collisionGrid;
+    }
+
+    @Override
+    public int getCollisionGridCell() {
+        return this.collisionGridCell;
+    }
+
+    @Override
+    public int getCollisionGridIndex() {
+        return this.collisionGridIndex;
+    }
+
+    @Override
+    public void setCollisionGridSlot(@Nullable EntityCollisionGrid grid, int cell, int index) {
+        this.collisionGrid = grid;
+        this.collisionGridCell = cell;
+        this.collisionGridIndex = index;
+    }
+
     @Override
     public int getMaxCollisions() {
         return this.maxCollisions;
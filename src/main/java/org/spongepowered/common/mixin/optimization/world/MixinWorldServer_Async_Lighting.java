@@ -24,7 +24,7 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -33,23 +33,25 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
+import org.spongepowered.common.world.lighting.AsyncLightingQueue;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 @Mixin(value = WorldServer.class)
 public abstract class MixinWorldServer_Async_Lighting extends MixinWorld implements IMixinWorldServer {
 
-    private ExecutorService lightExecutorService =
-            Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private final AsyncLightingQueue lightingQueue = new AsyncLightingQueue(this);
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -57,12 +59,14 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
     }
 
     @Override
-    public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecraft.world.chunk.Chunk currentChunk, List<Chunk> neighbors) {
+    public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecraft.world.chunk.Chunk currentChunk, List<Chunk> neighbors,
+            LongSet changedPositions) {
         // Sponge - This check is not needed as neighbors are checked in updateLightAsync
 //        if (!this.isAreaLoaded(pos, 17, false)) {
 //            return false;
 //        } else {
-        final IMixinChunk spongeChunk = (IMixinChunk) currentChunk;
+        final int[] lightUpdateBlockList = AsyncLightingQueue.getUpdateBlockList(); // Sponge - use the list of this worker thread
+        final BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos(); // Sponge - don't contend on the shared pool
         int i = 0;
         int j = 0;
         //this.profiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
@@ -73,12 +77,12 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
         int k1 = pos.getZ();
 
         if (l > k) {
-            this.lightUpdateBlockList[j++] = 133152;
+            lightUpdateBlockList[j++] = 133152;
         } else if (l < k) {
-            this.lightUpdateBlockList[j++] = 133152 | k << 18;
+            lightUpdateBlockList[j++] = 133152 | k << 18;
 
             while (i < j) {
-                int l1 = this.lightUpdateBlockList[i++];
+                int l1 = lightUpdateBlockList[i++];
                 int i2 = (l1 & 63) - 32 + i1;
                 int j2 = (l1 >> 6 & 63) - 32 + j1;
                 int k2 = (l1 >> 12 & 63) - 32 + k1;
@@ -87,7 +91,7 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
                 int i3 = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors); // Sponge - use thread safe method
 
                 if (i3 == l2) {
-                    this.setLightForAsync(lightType, blockpos, 0, currentChunk, neighbors); // Sponge - use thread safe method
+                    this.setLightForAsync(lightType, blockpos, 0, currentChunk, neighbors, changedPositions); // Sponge - use thread safe method
 
                     if (l2 > 0) {
                         int j3 = MathHelper.abs(i2 - i1);
@@ -95,28 +99,25 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
                         int l3 = MathHelper.abs(k2 - k1);
 
                         if (j3 + k3 + l3 < 17) {
-                            BlockPos.PooledMutableBlockPos blockpos$pooledmutableblockpos = BlockPos.PooledMutableBlockPos.retain();
-
                             for (EnumFacing enumfacing : EnumFacing.values()) {
                                 int i4 = i2 + enumfacing.getFrontOffsetX();
                                 int j4 = j2 + enumfacing.getFrontOffsetY();
                                 int k4 = k2 + enumfacing.getFrontOffsetZ();
-                                blockpos$pooledmutableblockpos.setPos(i4, j4, k4);
+                                neighborPos.setPos(i4, j4, k4);
                                 // Sponge start - get chunk safely
-                                final Chunk pooledChunk = this.getLightChunk(blockpos$pooledmutableblockpos, currentChunk, neighbors);
+                                final Chunk pooledChunk = this.getLightChunk(neighborPos, currentChunk, neighbors);
                                 if (pooledChunk == null) {
                                     continue;
                                 }
-                                int l4 = Math.max(1, pooledChunk.getBlockState(blockpos$pooledmutableblockpos).getLightOpacity());
-                                i3 = this.getLightForAsync(lightType, blockpos$pooledmutableblockpos, currentChunk, neighbors);
+                                int l4 = Math.max(1, pooledChunk.getBlockState(neighborPos).getLightOpacity());
+                                i3 = this.getLightForAsync(lightType, neighborPos, currentChunk, neighbors);
                                 // Sponge end
 
-                                if (i3 == l2 - l4 && j < this.lightUpdateBlockList.length) {
-                                    this.lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
+                                if (i3 == l2 - l4 && j < lightUpdateBlockList.length) {
+                                    lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
                                 }
                             }
 
-                            blockpos$pooledmutableblockpos.release();
                         }
                     }
                 }
@@ -129,7 +130,7 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
         //this.profiler.startSection("checkedPosition < toCheckCount"); // Sponge - don't use profiler off of main thread
 
         while (i < j) {
-            int i5 = this.lightUpdateBlockList[i++];
+            int i5 = lightUpdateBlockList[i++];
             int j5 = (i5 & 63) - 32 + i1;
             int k5 = (i5 >> 6 & 63) - 32 + j1;
             int l5 = (i5 >> 12 & 63) - 32 + k1;
@@ -138,38 +139,38 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             int j6 = this.getRawBlockLightAsync(lightType, blockpos1, currentChunk, neighbors); // Sponge - use thread safe method
 
             if (j6 != i6) {
-                this.setLightForAsync(lightType, blockpos1, j6, currentChunk, neighbors); // Sponge - use thread safe method
+                this.setLightForAsync(lightType, blockpos1, j6, currentChunk, neighbors, changedPositions); // Sponge - use thread safe method
 
                 if (j6 > i6) {
                     int k6 = Math.abs(j5 - i1);
                     int l6 = Math.abs(k5 - j1);
                     int i7 = Math.abs(l5 - k1);
-                    boolean flag = j < this.lightUpdateBlockList.length - 6;
+                    boolean flag = j < lightUpdateBlockList.length - 6;
 
                     if (k6 + l6 + i7 < 17 && flag) {
                         // Sponge start - use thread safe method getLightForAsync
                         if (this.getLightForAsync(lightType, blockpos1.west(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                            lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                         }
 
                         if (this.getLightForAsync(lightType, blockpos1.east(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                            lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                         }
 
                         if (this.getLightForAsync(lightType, blockpos1.down(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                         }
 
                         if (this.getLightForAsync(lightType, blockpos1.up(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                         }
 
                         if (this.getLightForAsync(lightType, blockpos1.north(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
                         }
 
                         if (this.getLightForAsync(lightType, blockpos1.south(), currentChunk, neighbors) < j6) {
-                            this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
                         }
                         // Sponge end
                     }
@@ -177,15 +178,7 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             }
         }
 
-        // Sponge start - Asynchronous light updates
-        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
-            spongeChunk.getPendingLightUpdates().decrementAndGet();
-            for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-                final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
-                neighbor.getPendingLightUpdates().decrementAndGet();
-            }
-        }
-        // Sponge end
+        // Sponge - the pending light updates of the chunks are released by the AsyncLightingQueue
         //this.profiler.endSection(); // Sponge - don't use profiler off of main thread
         return true;
 //        }
@@ -193,9 +186,12 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
 
     @Override
     public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos) {
-        if (this.getMinecraftServer().isServerStopped() || this.lightExecutorService.isShutdown()) {
+        if (this.getMinecraftServer().isServerStopped() || this.lightingQueue.getExecutor().isShutdown()) {
             return false;
         }
+        if (CauseTracker.getInstance().deferLightCheck(this, lightType, pos)) {
+            return true;
+        }
 
         final net.minecraft.world.chunk.Chunk chunk =
                 ((IMixinChunkProviderServer) this.chunkProvider).getLoadedChunkWithoutMarkingActive(pos.getX() >> 4, pos.getZ() >> 4);
@@ -204,44 +200,23 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos) {
             return false;
         }
 
-        spongeChunk.getPendingLightUpdates().incrementAndGet();
-        spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
-
-        List<Chunk> neighbors = spongeChunk.getNeighbors();
-        // add diagonal chunks
-        Chunk southEastChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(0)).getNeighborChunk(2);
-        Chunk southWestChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(0)).getNeighborChunk(3);
-        Chunk northEastChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(1)).getNeighborChunk(2);
-        Chunk northWestChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(1)).getNeighborChunk(3);
-        if (southEastChunk != null) {
-            neighbors.add(southEastChunk);
-        }
-        if (southWestChunk != null) {
-            neighbors.add(southWestChunk);
-        }
-        if (northEastChunk != null) {
-            neighbors.add(northEastChunk);
-        }
-        if (northWestChunk != null) {
-            neighbors.add(northWestChunk);
-        }
-
-        for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-            final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
-            neighbor.getPendingLightUpdates().incrementAndGet();
-            neighbor.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
-        }
-
-        this.lightExecutorService.execute(() -> {
-            this.checkLightAsync(lightType, pos, chunk, neighbors);
-        });
-
+        this.lightingQueue.queue(lightType, pos, chunk);
         return true;
     }
 
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void onTickFlushLightUpdates(CallbackInfo ci) {
+        this.lightingQueue.flush();
+    }
+
     @Override
     public ExecutorService getLightingExecutor() {
-        return this.lightExecutorService;
+        return this.lightingQueue.getExecutor();
+    }
+
+    @Override
+    public AsyncLightingQueue getLightingQueue() {
+        return this.lightingQueue;
     }
 
     // Thread safe methods to retrieve a chunk during async light updates
@@ -325,12 +300,18 @@ private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk cu
         }
     }
 
-    public void setLightForAsync(EnumSkyBlock type, BlockPos pos, int lightValue, Chunk currentChunk, List<Chunk> neighbors) {
+    /**
+     * Sets the light at a position. Listeners are not notified here, since
+     * this runs on the lighting workers; the position is collected instead
+     * and the {@link AsyncLightingQueue} notifies them on the server thread.
+     */
+    public void setLightForAsync(EnumSkyBlock type, BlockPos pos, int lightValue, Chunk currentChunk, List<Chunk> neighbors,
+            LongSet changedPositions) {
         if (((IMixinBlockPos) pos).isValidPosition()) {
             final Chunk chunk = this.getLightChunk(pos, currentChunk, neighbors);
             if (chunk != null && !chunk.unloadQueued) {
                 chunk.setLightFor(type, pos, lightValue);
-                this.notifyLightSet(pos);
+                changedPositions.add(pos.toLong());
             }
         }
     }
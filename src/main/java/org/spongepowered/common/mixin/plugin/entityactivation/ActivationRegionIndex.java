@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
+import java.util.Arrays;
+
+/**
+ * A per tick union of the activation regions of every player in a world.
+ *
+ * <p>Players are added once per tick, which registers them against every
+ * chunk within the widest activation range. Each chunk in the union is then
+ * visited exactly once and its entities are tested only against the players
+ * whose regions cover that chunk, grown by the entity's own activation
+ * range. A player that activates an entity is moved to the front of the
+ * chunk's candidates, as entities in the same chunk are usually activated by
+ * the same player.</p>
+ */
+public final class ActivationRegionIndex {
+
+    private static final int BOX_SIZE = 6;
+    private static final int VERTICAL_RANGE = 256;
+
+    private final Long2IntOpenHashMap chunkSlots = new Long2IntOpenHashMap();
+    private double[] playerBoxes = new double[BOX_SIZE * 16];
+    private int playerCount;
+    private long[] chunkKeys = new long[64];
+    private int[][] chunkCandidates = new int[64][];
+    private int[] chunkCandidateCounts = new int[64];
+    private int chunkCount;
+    private int maxRange;
+
+    public ActivationRegionIndex() {
+        this.chunkSlots.defaultReturnValue(-1);
+    }
+
+    /**
+     * Clears the index for a new tick.
+     *
+     * @param maxRange The widest activation range in blocks, used to
+     *     determine which chunks each player covers
+     */
+    public void reset(int maxRange) {
+        this.maxRange = Math.max(0, maxRange);
+        this.playerCount = 0;
+        this.chunkCount = 0;
+        this.chunkSlots.clear();
+    }
+
+    /**
+     * Adds a player's bounding box to the index.
+     */
+    public void addPlayer(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        final int player = this.playerCount++;
+        if (this.playerBoxes.length < this.playerCount * BOX_SIZE) {
+            this.playerBoxes = Arrays.copyOf(this.playerBoxes, this.playerBoxes.length * 2);
+        }
+        final int offset = player * BOX_SIZE;
+        this.playerBoxes[offset] = minX;
+        this.playerBoxes[offset + 1] = minY;
+        this.playerBoxes[offset + 2] = minZ;
+        this.playerBoxes[offset + 3] = maxX;
+        this.playerBoxes[offset + 4] = maxY;
+        this.playerBoxes[offset + 5] = maxZ;
+
+        final int minChunkX = floor((minX - this.maxRange) / 16.0D);
+        final int maxChunkX = floor((maxX + this.maxRange) / 16.0D);
+        final int minChunkZ = floor((minZ - this.maxRange) / 16.0D);
+        final int maxChunkZ = floor((maxZ + this.maxRange) / 16.0D);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                addCandidate(getChunkSlot(chunkX, chunkZ), player);
+            }
+        }
+    }
+
+    private int getChunkSlot(int chunkX, int chunkZ) {
+        final long key = (chunkX & 0xFFFFFFFFL) | (chunkZ & 0xFFFFFFFFL) << 32;
+        int slot = this.chunkSlots.get(key);
+        if (slot == -1) {
+            slot = this.chunkCount++;
+            if (slot == this.chunkKeys.length) {
+                final int length = slot * 2;
+                this.chunkKeys = Arrays.copyOf(this.chunkKeys, length);
+                this.chunkCandidates = Arrays.copyOf(this.chunkCandidates, length);
+                this.chunkCandidateCounts = Arrays.copyOf(this.chunkCandidateCounts, length);
+            }
+            this.chunkKeys[slot] = key;
+            this.chunkCandidateCounts[slot] = 0;
+            this.chunkSlots.put(key, slot);
+        }
+        return slot;
+    }
+
+    private void addCandidate(int slot, int player) {
+        int[] candidates = this.chunkCandidates[slot];
+        final int count = this.chunkCandidateCounts[slot];
+        if (candidates == null) {
+            candidates = this.chunkCandidates[slot] = new int[4];
+        } else if (count == candidates.length) {
+            candidates = this.chunkCandidates[slot] = Arrays.copyOf(candidates, count * 2);
+        }
+        candidates[count] = player;
+        this.chunkCandidateCounts[slot] = count + 1;
+    }
+
+    public int getPlayerCount() {
+        return this.playerCount;
+    }
+
+    /**
+     * Gets the number of distinct chunks covered by at least one player.
+     *
+     * @return The chunk count
+     */
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    public int getChunkX(int slot) {
+        return (int) this.chunkKeys[slot];
+    }
+
+    public int getChunkZ(int slot) {
+        return (int) (this.chunkKeys[slot] >>> 32);
+    }
+
+    /**
+     * Checks whether an entity bounding box in the given chunk intersects the
+     * bounding box of any covering player grown by the activation range.
+     *
+     * @param slot The chunk slot, between 0 and {@link #getChunkCount()}
+     * @param range The entity's activation range
+     * @return Whether the entity is in range of a player
+     */
+    public boolean isInRange(int slot, double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int range) {
+        final int[] candidates = this.chunkCandidates[slot];
+        final int count = this.chunkCandidateCounts[slot];
+        final double[] boxes = this.playerBoxes;
+        for (int i = 0; i < count; i++) {
+            final int offset = candidates[i] * BOX_SIZE;
+            if (boxes[offset] - range < maxX && boxes[offset + 3] + range > minX
+                    && boxes[offset + 1] - VERTICAL_RANGE < maxY && boxes[offset + 4] + VERTICAL_RANGE > minY
+                    && boxes[offset + 2] - range < maxZ && boxes[offset + 5] + range > minZ) {
+                if (i != 0) {
+                    final int first = candidates[0];
+                    candidates[0] = candidates[i];
+                    candidates[i] = first;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int floor(double value) {
+        final int i = (int) value;
+        return value < i ? i - 1 : i;
+    }
+}
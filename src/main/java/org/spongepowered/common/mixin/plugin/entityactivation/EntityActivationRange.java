@@ -27,7 +27,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -51,7 +50,6 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -73,6 +71,9 @@
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public class EntityActivationRange {
 
@@ -84,14 +85,11 @@ public class EntityActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
+    // Per thread, as worlds may activate their entities in parallel
+    private static final ThreadLocal<ActivationRegionIndex> regionIndex = ThreadLocal.withInitial(ActivationRegionIndex::new);
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
+    static Map<Byte, Integer> maxActivationRanges = new ConcurrentHashMap<>();
+    static volatile int maxThrottleRange = 0;
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -160,6 +158,7 @@ public static boolean initializeEntityActivationState(Entity entity) {
         }
 
         EntityActivationModCategory entityMod = config.getModList().get(spongeType.getModId().toLowerCase());
+        initializeEntityThrottleState(spongeEntity, config, entityMod, type, activationType);
         int defaultActivationRange = config.getDefaultRanges().get(activationTypeMappings.get(activationType));
         if (entityMod == null) {
             // use default activation range
@@ -191,6 +190,38 @@ public static boolean initializeEntityActivationState(Entity entity) {
         return false;
     }
 
+    /**
+     * Sets the range of the throttled band outside of the activation range in
+     * which an entity is ticked at a reduced rate instead of being inactive.
+     *
+     * @param spongeEntity The entity to initialize
+     * @param config The activation range config of the entity's world
+     * @param entityMod The mod overrides of the entity, if any
+     * @param type The type of the entity
+     * @param activationType The activation type of the entity
+     */
+    private static void initializeEntityThrottleState(IModData_Activation spongeEntity, EntityActivationRangeCategory config,
+            @Nullable EntityActivationModCategory entityMod, EntityType type, byte activationType) {
+        final String activationTypeName = activationTypeMappings.get(activationType);
+        Integer throttleRange = null;
+        if (entityMod != null) {
+            throttleRange = entityMod.getEntityThrottleRanges().get(type.getName().toLowerCase());
+            if (throttleRange == null) {
+                throttleRange = entityMod.getDefaultThrottleRanges().get(activationTypeName);
+            }
+        }
+        if (throttleRange == null) {
+            throttleRange = config.getThrottleRanges().get(activationTypeName);
+        }
+
+        final int range = throttleRange == null ? 0 : throttleRange;
+        spongeEntity.setThrottleRange(range);
+        spongeEntity.setSpongeTickRate(config.getThrottleTickRate());
+        if (range > maxThrottleRange) {
+            maxThrottleRange = range;
+        }
+    }
+
     /**
      * Utility method to grow an AABB without creating a new AABB or touching
      * the pool, so we can re-use ones we have.
@@ -214,6 +245,10 @@ public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>The activation regions of all players are first collected into a
+     * single index so that every loaded chunk in range of any player is only
+     * visited once, regardless of how many players overlap it.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
@@ -221,32 +256,29 @@ public static void activateEntities(World world) {
             return;
         }
 
-        for (EntityPlayer player : world.playerEntities) {
-
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.max(maxRange, maxThrottleRange);
+        maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(SpongeImpl.getServer().getTickCounter());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            int i = MathHelper.floor(maxBB.minX / 16.0D);
-            int j = MathHelper.floor(maxBB.maxX / 16.0D);
-            int k = MathHelper.floor(maxBB.minZ / 16.0D);
-            int l = MathHelper.floor(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
-                    }
-                }
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final ActivationRegionIndex index = regionIndex.get();
+        index.reset(maxRange);
+        for (EntityPlayer player : world.playerEntities) {
+            ((IModData_Activation) player).setActivatedTick(currentTick);
+            final AxisAlignedBB bb = player.getEntityBoundingBox();
+            index.addPlayer(bb.minX, bb.minY, bb.minZ, bb.maxX, bb.maxY, bb.maxZ);
+        }
+
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).getChunkProvider();
+        for (int slot = 0; slot < index.getChunkCount(); ++slot) {
+            Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive(index.getChunkX(slot), index.getChunkZ(slot));
+            if (chunk != null) {
+                activateChunkEntities(index, slot, chunk, currentTick);
             }
         }
     }
@@ -254,15 +286,20 @@ public static void activateEntities(World world) {
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param index The activation regions of this tick
+     * @param slot The slot of the chunk in the index
      * @param chunk Chunk to check for activation
+     * @param currentTick The current tick
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(ActivationRegionIndex index, int slot, Chunk chunk, long currentTick) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
+            if (chunk.getEntityLists()[i].isEmpty()) {
+                continue;
+            }
 
             for (Object o : chunk.getEntityLists()[i]) {
                 Entity entity = (Entity) o;
                 EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
-                long currentTick = SpongeImpl.getServer().getTickCounter();
                 if (type == EntityTypes.UNKNOWN) {
                     ((IModData_Activation) entity).setActivatedTick(currentTick);
                     continue;
@@ -280,48 +317,17 @@ private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
                         EntityActivationRange.initializeEntityActivationState(entity);
                         spongeEntity.requiresActivationCacheRefresh(false);
                     }
-                    // check for entity type overrides
-                    byte activationType = ((IModData_Activation) entity).getActivationType();
-                    int bbActivationRange = ((IModData_Activation) entity).getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                    // every activation type is grown by the entity's own range, which may include overrides
+                    final int bbActivationRange = spongeEntity.getActivationRange();
+                    final AxisAlignedBB bb = entity.getEntityBoundingBox();
+                    if (index.isInRange(slot, bb.minX, bb.minY, bb.minZ, bb.maxX, bb.maxY, bb.maxZ, bbActivationRange)) {
+                        spongeEntity.setActivatedTick(currentTick);
                     } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
-
-                    switch (((IModData_Activation) entity).getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                        final int throttleRange = spongeEntity.getThrottleRange();
+                        if (throttleRange > bbActivationRange
+                                && index.isInRange(slot, bb.minX, bb.minY, bb.minZ, bb.maxX, bb.maxY, bb.maxZ, throttleRange)) {
+                            spongeEntity.setThrottledTick(currentTick);
+                        }
                     }
                 }
             }
@@ -400,9 +406,17 @@ public static boolean checkIfActive(Entity entity) {
         long currentTick = SpongeImpl.getServer().getTickCounter();
         IModData_Activation spongeEntity = (IModData_Activation) entity;
         boolean isActive = spongeEntity.getActivatedTick() >= currentTick || spongeEntity.getDefaultActivationState();
+        spongeEntity.setThrottleScale(1);
 
         // Should this entity tick?
-        if (!isActive) {
+        if (!isActive && spongeEntity.getThrottledTick() >= currentTick) {
+            // In the throttled band, fully tick every few ticks. Entity ids stagger the ticks of nearby entities.
+            final int tickRate = spongeEntity.getSpongeTickRate();
+            if ((currentTick + entity.getEntityId()) % tickRate == 0) {
+                spongeEntity.setThrottleScale(tickRate);
+                isActive = true;
+            }
+        } else if (!isActive) {
             if ((currentTick - spongeEntity.getActivatedTick() - 1) % 20 == 0) {
                 // Check immunities every 20 ticks.
                 if (checkEntityImmunities(entity)) {
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+/**
+ * Limits how often a throttled entity may search for a path. An entity
+ * throttled by a scale of {@code n} may search once every
+ * {@code n * THROTTLED_SEARCH_INTERVAL} ticks, entities that are not
+ * throttled may always search.
+ */
+public final class PathSearchThrottle {
+
+    // The number of full ticks a throttled entity has to wait between path searches
+    public static final int THROTTLED_SEARCH_INTERVAL = 4;
+
+    private boolean searched;
+    private long lastSearchTime;
+
+    /**
+     * Gets whether a path search may run on the given tick, and records it
+     * as the last search if so.
+     *
+     * @param worldTime The total world time
+     * @param throttleScale The throttle scale of the entity
+     * @return Whether the search may run
+     */
+    public boolean trySearch(long worldTime, int throttleScale) {
+        if (throttleScale <= 1) {
+            return true;
+        }
+        if (this.searched && worldTime - this.lastSearchTime < (long) throttleScale * THROTTLED_SEARCH_INTERVAL) {
+            return false;
+        }
+        this.searched = true;
+        this.lastSearchTime = worldTime;
+        return true;
+    }
+}
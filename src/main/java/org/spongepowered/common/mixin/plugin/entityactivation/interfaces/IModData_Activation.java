@@ -41,6 +41,24 @@ public interface IModData_Activation {
 
     void setActivationRange(int range);
 
+    long getThrottledTick();
+
+    void setThrottledTick(long tick);
+
+    int getThrottleRange();
+
+    void setThrottleRange(int range);
+
+    /**
+     * Gets the number of ticks the current full tick stands in for. This is
+     * greater than 1 while the entity is ticked in the throttled band.
+     *
+     * @return The tick scale
+     */
+    int getThrottleScale();
+
+    void setThrottleScale(int scale);
+
     void requiresActivationCacheRefresh(boolean flag);
 
     boolean requiresActivationCacheRefresh();
@@ -0,0 +1,167 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entitycollisions;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_CollisionGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Indexes the entities of a chunk section by the horizontal position of
+ * their bounding box center, so that bounding box queries only look at
+ * the entities of nearby cells.
+ *
+ * <p>Entities are moved between cells whenever their bounding box changes.
+ * Entities outside of the chunk, which happens until the world moves them
+ * to their new chunk, are kept in the closest edge cell. A query widens
+ * the searched area by the largest half width of any indexed entity, so
+ * every entity whose bounding box may intersect the query is returned.
+ * Callers still have to test the intersection.</p>
+ */
+public final class EntityCollisionGrid {
+
+    private static final int CELL_SHIFT = 2;
+    private static final int CELLS_PER_AXIS = 16 >> CELL_SHIFT;
+
+    private final int minX;
+    private final int minZ;
+    @SuppressWarnings("unchecked")
+    private final List<Entity>[] cells = new List[CELLS_PER_AXIS * CELLS_PER_AXIS];
+    private double maxHalfWidth;
+    private int size;
+
+    public EntityCollisionGrid(int chunkX, int chunkZ) {
+        this.minX = chunkX << 4;
+        this.minZ = chunkZ << 4;
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = new ArrayList<>(4);
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void add(Entity entity) {
+        final AxisAlignedBB bb = entity.getEntityBoundingBox();
+        includeWidth(bb);
+        insert(entity, getCell(bb));
+        this.size++;
+    }
+
+    public void remove(Entity entity) {
+        final IModData_CollisionGrid slot = (IModData_CollisionGrid) entity;
+        if (slot.getCollisionGrid() != this) {
+            return;
+        }
+        detach(slot.getCollisionGridCell(), slot.getCollisionGridIndex());
+        slot.setCollisionGridSlot(null, -1, -1);
+        this.size--;
+    }
+
+    /**
+     * Updates the cell of an entity after its bounding box changed.
+     *
+     * @param entity The entity
+     */
+    public void move(Entity entity) {
+        final IModData_CollisionGrid slot = (IModData_CollisionGrid) entity;
+        final AxisAlignedBB bb = entity.getEntityBoundingBox();
+        includeWidth(bb);
+        final int cell = getCell(bb);
+        if (cell != slot.getCollisionGridCell()) {
+            detach(slot.getCollisionGridCell(), slot.getCollisionGridIndex());
+            insert(entity, cell);
+        }
+    }
+
+    public void clear() {
+        for (List<Entity> cell : this.cells) {
+            for (Entity entity : cell) {
+                ((IModData_CollisionGrid) entity).setCollisionGridSlot(null, -1, -1);
+            }
+            cell.clear();
+        }
+        this.maxHalfWidth = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Adds every entity whose bounding box may intersect the given box.
+     *
+     * @param box The box to query
+     * @param candidates The list to fill
+     */
+    public void collect(AxisAlignedBB box, List<Entity> candidates) {
+        final int minCellX = toCell(box.minX - this.maxHalfWidth - this.minX);
+        final int maxCellX = toCell(box.maxX + this.maxHalfWidth - this.minX);
+        final int minCellZ = toCell(box.minZ - this.maxHalfWidth - this.minZ);
+        final int maxCellZ = toCell(box.maxZ + this.maxHalfWidth - this.minZ);
+        for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                candidates.addAll(this.cells[cellZ * CELLS_PER_AXIS + cellX]);
+            }
+        }
+    }
+
+    private void insert(Entity entity, int cell) {
+        final List<Entity> entities = this.cells[cell];
+        ((IModData_CollisionGrid) entity).setCollisionGridSlot(this, cell, entities.size());
+        entities.add(entity);
+    }
+
+    private void detach(int cell, int index) {
+        // Swap the last entity of the cell into the freed index
+        final List<Entity> entities = this.cells[cell];
+        final Entity last = entities.remove(entities.size() - 1);
+        if (index < entities.size()) {
+            entities.set(index, last);
+            ((IModData_CollisionGrid) last).setCollisionGridSlot(this, cell, index);
+        }
+    }
+
+    private void includeWidth(AxisAlignedBB bb) {
+        // Only grows until the grid is cleared, a stale maximum just widens queries
+        final double halfWidth = Math.max(bb.maxX - bb.minX, bb.maxZ - bb.minZ) / 2;
+        if (halfWidth > this.maxHalfWidth) {
+            this.maxHalfWidth = halfWidth;
+        }
+    }
+
+    private int getCell(AxisAlignedBB bb) {
+        return toCell((bb.minZ + bb.maxZ) / 2 - this.minZ) * CELLS_PER_AXIS + toCell((bb.minX + bb.maxX) / 2 - this.minX);
+    }
+
+    private static int toCell(double localPos) {
+        if (!(localPos >= 0)) {
+            // Also catches NaN
+            return 0;
+        }
+        return localPos >= 16 ? CELLS_PER_AXIS - 1 : (int) localPos >> CELL_SHIFT;
+    }
+}
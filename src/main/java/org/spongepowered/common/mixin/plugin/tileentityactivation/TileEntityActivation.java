@@ -26,13 +26,11 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ITickable;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -44,14 +42,31 @@
 import org.spongepowered.common.data.type.SpongeTileEntityType;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
-import org.spongepowered.common.util.VecHelper;
-
-import java.util.Map;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IModData_ChunkActivation;
 
 public class TileEntityActivation {
 
+    /**
+     * Sets up the activation state and tick rate of a tickable tileentity
+     * that is added to a world.
+     *
+     * @param world The world
+     * @param tileEntity The tileentity
+     */
+    public static void initializeTileEntity(World world, TileEntity tileEntity) {
+        if (!(tileEntity instanceof ITickable) || !((IMixinWorldInfo) world.getWorldInfo()).isValid()) {
+            return;
+        }
+        final IModData_Activation spongeTile = (IModData_Activation) tileEntity;
+        spongeTile.setDefaultActivationState(initializeTileEntityActivationState(tileEntity));
+        if (!spongeTile.getDefaultActivationState()) {
+            addTileEntityToConfig(world, (SpongeTileEntityType) ((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType());
+        }
+    }
+
     /**
      * These tileentities are excluded from Activation range checks.
      *
@@ -72,6 +87,17 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
             return true;
         }
         TileEntityActivationModCategory tileEntityMod = config.getModList().get(spongeType.getModId().toLowerCase());
+        int tickRate = config.getDefaultTickRate();
+        if (tileEntityMod != null && tileEntityMod.isEnabled()) {
+            final Integer tileEntityTickRate = tileEntityMod.getTileEntityTickRateList().get(type.getName().toLowerCase());
+            if (tileEntityTickRate != null) {
+                tickRate = tileEntityTickRate;
+            } else if (tileEntityMod.getDefaultTickRate() != null) {
+                tickRate = tileEntityMod.getDefaultTickRate();
+            }
+        }
+        spongeEntity.setSpongeTickRate(Math.max(1, tickRate));
+
         int defaultActivationRange = config.getDefaultBlockRange();
         if (tileEntityMod == null) {
             // use default activation range
@@ -104,66 +130,38 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
     }
 
     /**
-    * Find what tileentities are in range of the players in the world and set
-    * active if in range.
-    *
-    * @param world The world to perform activation checks in
-    */
-    public static void activateTileEntities(WorldServer world) {
-        final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
-        for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
-            for (EntityPlayer player : playerChunkMapEntry.players) {
-                final Chunk chunk = playerChunkMapEntry.chunk;
-                if (chunk == null || chunk.unloadQueued) {
-                    continue;
-                }
-
-                activateChunkTileEntities(player, chunk);
-            }
-        }
-    }
-
-
-    /**
-     * Checks for the activation state of all tileentities in this chunk.
+     * Marks every chunk watched by a player as activated for this tick along
+     * with the distance to its nearest player. Tileentities are then checked
+     * against the state of their chunk, so the cost of activation does not
+     * depend on the number of tileentities.
      *
-     * @param chunk Chunk to check for activation
+     * @param world The world to perform activation checks in
      */
-    private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk) {
-        final Vector3i playerPos = VecHelper.toVector3i(player.getPosition());
+    public static void activateTileEntities(WorldServer world) {
         final long currentTick = SpongeImpl.getServer().getTickCounter();
-        for (Map.Entry<BlockPos, TileEntity> mapEntry : chunk.getTileEntityMap().entrySet()) {
-            final TileEntity tileEntity = mapEntry.getValue();
-            if (!(tileEntity instanceof ITickable) || ((IModData_Activation) tileEntity).getActivatedTick() == currentTick) {
-                // already activated
+        final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
+        for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
+            final Chunk chunk = playerChunkMapEntry.chunk;
+            if (chunk == null || chunk.unloadQueued || playerChunkMapEntry.players.isEmpty() || chunk.getTileEntityMap().isEmpty()) {
                 continue;
             }
 
-            final Vector3i tilePos = VecHelper.toVector3i(tileEntity.getPos());
-            if (currentTick > ((IModData_Activation) tileEntity).getActivatedTick()) {
-                if (((IModData_Activation) tileEntity).getDefaultActivationState()) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
-                    continue;
-                }
-
-                IModData_Activation spongeEntity = (IModData_Activation) tileEntity;
-                // check if activation cache needs to be updated
-                if (spongeEntity.requiresActivationCacheRefresh()) {
-                    TileEntityActivation.initializeTileEntityActivationState(tileEntity);
-                    spongeEntity.requiresActivationCacheRefresh(false);
-                }
-
-                int bbActivationRange = ((IModData_Activation) tileEntity).getActivationRange();
-                int blockDistance = Math.round(tilePos.distance(playerPos));
-                if (blockDistance <= bbActivationRange) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
-                }
+            final double minX = chunk.x << 4;
+            final double minZ = chunk.z << 4;
+            double nearestDistanceSq = Double.MAX_VALUE;
+            for (EntityPlayer player : playerChunkMapEntry.players) {
+                final double dx = Math.max(0, Math.max(minX - player.posX, player.posX - (minX + 16)));
+                final double dz = Math.max(0, Math.max(minZ - player.posZ, player.posZ - (minZ + 16)));
+                nearestDistanceSq = Math.min(nearestDistanceSq, dx * dx + dz * dz);
             }
+            ((IModData_ChunkActivation) chunk).setActivation(currentTick, nearestDistanceSq);
         }
     }
 
     /**
-     * Checks if the tileentity is active for this tick.
+     * Checks if the tileentity is active for this tick. A tileentity is active
+     * if a player watching its chunk is within its activation range of the
+     * chunk. Tick rates are applied by {@link TileEntityTickIterator}.
      *
      * @param tileEntity The tileentity to check for activity
      * @return Whether the given tileentity should be active
@@ -173,31 +171,30 @@ public static boolean checkIfActive(TileEntity tileEntity) {
             return true;
         }
 
-        final World world = tileEntity.getWorld();
         final IMixinChunk activeChunk = ((IMixinTileEntity) tileEntity).getActiveChunk();
         if (activeChunk == null) {
             // Should never happen but just in case for mods, always tick
             return true;
         }
 
-        long currentTick = SpongeImpl.getServer().getTickCounter();
-        IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
-        boolean isActive = activeChunk.isPersistedChunk() || spongeTileEntity.getActivatedTick() >= currentTick || spongeTileEntity.getDefaultActivationState();
-
-        // Should this entity tick?
-        if (!isActive) {
-            if (spongeTileEntity.getActivatedTick() == Integer.MIN_VALUE) {
-                // Has not come across a player
-                return false;
-            }
+        final IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
+        if (activeChunk.isPersistedChunk() || spongeTileEntity.getDefaultActivationState()) {
+            return true;
         }
 
-        // check tick rate
-        if (isActive && world.getWorldInfo().getWorldTotalTime() % spongeTileEntity.getSpongeTickRate() != 0L) {
-            isActive = false;
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final IModData_ChunkActivation chunkActivation = (IModData_ChunkActivation) activeChunk;
+        if (chunkActivation.getActivatedTick() != currentTick) {
+            // Not watched by any player
+            return false;
         }
 
-        return isActive;
+        final double range = spongeTileEntity.getActivationRange();
+        if (range * range >= chunkActivation.getActivationDistanceSq()) {
+            spongeTileEntity.setActivatedTick(currentTick);
+            return true;
+        }
+        return false;
     }
 
     public static void addTileEntityToConfig(World world, SpongeTileEntityType type) {
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.tileentityactivation;
+
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
+import org.spongepowered.common.util.TickIntervalBuckets;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Iterates the tickable tileentities of a world that are due this tick and
+ * active. Inactive tileentities receive their inactive tick instead of being
+ * returned, and invalid tileentities are always returned so the world can
+ * remove them once it has finished ticking.
+ */
+public final class TileEntityTickIterator implements Iterator<TileEntity> {
+
+    private final Iterator<TileEntity> due;
+    private boolean requiresRebuild;
+    @Nullable private TileEntity next;
+
+    public TileEntityTickIterator(TickIntervalBuckets<TileEntity> buckets, long tick) {
+        this.due = buckets.iterator(tick);
+    }
+
+    /**
+     * Gets whether a tileentity changed its tick rate while being iterated,
+     * in which case the buckets have to be rebuilt.
+     *
+     * @return Whether the buckets have to be rebuilt
+     */
+    public boolean requiresRebuild() {
+        return this.requiresRebuild;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.next == null && this.due.hasNext()) {
+            final TileEntity tileEntity = this.due.next();
+            if (tileEntity.isInvalid()) {
+                this.next = tileEntity;
+                break;
+            }
+
+            final IModData_Activation spongeTileEntity = (IModData_Activation) tileEntity;
+            // check if activation cache needs to be updated
+            if (spongeTileEntity.requiresActivationCacheRefresh()) {
+                final int tickRate = spongeTileEntity.getSpongeTickRate();
+                spongeTileEntity.setDefaultActivationState(TileEntityActivation.initializeTileEntityActivationState(tileEntity));
+                spongeTileEntity.requiresActivationCacheRefresh(false);
+                if (tickRate != spongeTileEntity.getSpongeTickRate()) {
+                    this.requiresRebuild = true;
+                }
+            }
+
+            if (TileEntityActivation.checkIfActive(tileEntity)) {
+                this.next = tileEntity;
+            } else {
+                spongeTileEntity.incrementSpongeTicksExisted();
+                spongeTileEntity.inactiveTick();
+            }
+        }
+        return this.next != null;
+    }
+
+    @Override
+    public TileEntity next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final TileEntity tileEntity = this.next;
+        this.next = null;
+        return tileEntity;
+    }
+}
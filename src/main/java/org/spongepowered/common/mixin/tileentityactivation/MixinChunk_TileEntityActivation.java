@@ -24,42 +24,47 @@
  */
 package org.spongepowered.common.mixin.tileentityactivation;
 
-import net.minecraft.util.ITickable;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
-import org.spongepowered.api.block.tileentity.TileEntity;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.data.type.SpongeTileEntityType;
-import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
-import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.IModData_ChunkActivation;
 
 @Mixin(Chunk.class)
-public class MixinChunk_TileEntityActivation {
+public class MixinChunk_TileEntityActivation implements IModData_ChunkActivation {
 
     @Shadow @Final private World world;
 
+    private long activatedTick = Integer.MIN_VALUE;
+    private double activationDistanceSq;
+
     @Inject(method = "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V", at = @At("RETURN"))
     public void onAddTileEntity(BlockPos pos, net.minecraft.tileentity.TileEntity tileEntityIn, CallbackInfo ci) {
         if (tileEntityIn.getWorld() == null) {
             tileEntityIn.setWorld(this.world);
         }
-        if (!(tileEntityIn instanceof ITickable)) {
-            return;
-        }
+        TileEntityActivation.initializeTileEntity(this.world, tileEntityIn);
+    }
 
-        if (((IMixinWorldInfo) this.world.getWorldInfo()).isValid()) {
-            IModData_Activation spongeTile = (IModData_Activation) tileEntityIn;
-            spongeTile.setDefaultActivationState(TileEntityActivation.initializeTileEntityActivationState(tileEntityIn));
-            if (!spongeTile.getDefaultActivationState()) {
-                TileEntityActivation.addTileEntityToConfig(this.world, (SpongeTileEntityType) ((TileEntity) tileEntityIn).getType());
-            }
-        }
+    @Override
+    public long getActivatedTick() {
+        return this.activatedTick;
+    }
+
+    @Override
+    public double getActivationDistanceSq() {
+        return this.activationDistanceSq;
+    }
+
+    @Override
+    public void setActivation(long tick, double distanceSq) {
+        this.activatedTick = tick;
+        this.activationDistanceSq = distanceSq;
     }
 }
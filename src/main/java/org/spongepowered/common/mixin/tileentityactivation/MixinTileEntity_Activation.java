@@ -97,6 +97,33 @@ public void setActivationRange(int range) {
         this.activationRange = range;
     }
 
+    @Override
+    public long getThrottledTick() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public void setThrottledTick(long tick) {
+    }
+
+    @Override
+    public int getThrottleRange() {
+        return 0;
+    }
+
+    @Override
+    public void setThrottleRange(int range) {
+    }
+
+    @Override
+    public int getThrottleScale() {
+        return 1;
+    }
+
+    @Override
+    public void setThrottleScale(int scale) {
+    }
+
     @Override
     public void requiresActivationCacheRefresh(boolean flag) {
         this.refreshCache = flag;
@@ -24,27 +24,58 @@
  */
 package org.spongepowered.common.mixin.tileentityactivation;
 
-import net.minecraft.util.ITickable;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityTickIterator;
+import org.spongepowered.common.util.TickIntervalBuckets;
+
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
 
 @Mixin(value = WorldServer.class, priority = 1300)
-public abstract class MixinWorldServer_TileEntityActivation {
-
-    // TODO 1.12-pre2 I have no fucking clue what this injection is trying to target
-    // updateTileEntity doesn't exist, and it didn't exist in 1.11 either
-    //@Inject(method = "updateTileEntity", at = @At("HEAD"), cancellable = true, remap = false)
-    public void onUpdateTileEntityHead(ITickable tile, CallbackInfo ci) {
-        final net.minecraft.tileentity.TileEntity tileEntity = (net.minecraft.tileentity.TileEntity) tile;
-        final boolean canUpdate = TileEntityActivation.checkIfActive(tileEntity);
-
-        if (!canUpdate) {
-            ((IModData_Activation) tileEntity).incrementSpongeTicksExisted();
-            ((IModData_Activation) tileEntity).inactiveTick();
-            ci.cancel();
+public abstract class MixinWorldServer_TileEntityActivation extends MixinWorld {
+
+    private final TickIntervalBuckets<TileEntity> tickBuckets = new TickIntervalBuckets<>();
+    @Nullable private TileEntityTickIterator lastTickIterator;
+
+    @Override
+    protected Iterator<TileEntity> getTickingTileEntityIterator() {
+        TileEntityActivation.activateTileEntities((WorldServer) (Object) this);
+
+        // The buckets mirror tickableTileEntities through the add and remove hooks below,
+        // they only have to be rebuilt when a tick rate changed
+        if (this.lastTickIterator != null && this.lastTickIterator.requiresRebuild()) {
+            this.tickBuckets.clear();
+            for (TileEntity tileEntity : this.tickableTileEntities) {
+                this.tickBuckets.add(tileEntity, ((IModData_Activation) tileEntity).getSpongeTickRate());
+            }
         }
+
+        this.lastTickIterator = new TileEntityTickIterator(this.tickBuckets, this.getWorldInfo().getWorldTotalTime());
+        return this.lastTickIterator;
+    }
+
+    @Override
+    protected void onTickableTileEntityAdded(TileEntity tile) {
+        // Pending tiles are added to the world before their chunk, which would set up their tick rate
+        TileEntityActivation.initializeTileEntity((WorldServer) (Object) this, tile);
+        this.tickBuckets.add(tile, ((IModData_Activation) tile).getSpongeTickRate());
+    }
+
+    @Override
+    protected void onTickableTileEntityRemoved(TileEntity tile) {
+        this.tickBuckets.remove(tile);
+    }
+
+    @Override
+    protected void removeTickableTileEntities(Predicate<TileEntity> filter) {
+        super.removeTickableTileEntities(filter);
+        this.tickBuckets.removeIf(filter);
     }
 }
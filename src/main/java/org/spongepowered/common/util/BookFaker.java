@@ -37,6 +37,7 @@
 import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.text.BookView;
+import org.spongepowered.common.interfaces.data.IMixinDataHolder;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 
 public class BookFaker {
@@ -50,9 +51,10 @@ public static void fakeBookView(BookView bookView, Player player) {
         // First we need to send a fake a Book ItemStack with the BookView's
         // contents to the player's hand
         ItemStack item = ItemStack.of(ItemTypes.WRITTEN_BOOK, 1);
-        item.offer(Keys.DISPLAY_NAME, bookView.getTitle());
-        item.offer(Keys.BOOK_AUTHOR, bookView.getAuthor());
-        item.offer(Keys.BOOK_PAGES, bookView.getPages());
+        final IMixinDataHolder dataHolder = (IMixinDataHolder) item;
+        dataHolder.offerValue(Keys.DISPLAY_NAME, bookView.getTitle());
+        dataHolder.offerValue(Keys.BOOK_AUTHOR, bookView.getAuthor());
+        dataHolder.offerValue(Keys.BOOK_PAGES, bookView.getPages());
 
         InventoryPlayer inventory = mcPlayer.inventory;
         int bookSlot = inventory.mainInventory.size() + inventory.currentItem;
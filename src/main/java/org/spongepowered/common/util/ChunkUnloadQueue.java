@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import org.spongepowered.common.world.ChunkUnloadReason;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A priority queue of chunks waiting to be unloaded, ordered by the time
+ * they are due to unload.
+ *
+ * <p>Entries are kept in a binary min-heap of parallel primitive arrays
+ * keyed by the chunk position as returned by
+ * {@link net.minecraft.util.math.ChunkPos#asLong(int, int)}, so scheduling,
+ * rescheduling and cancelling are all {@code O(log n)} without allocating
+ * an object per queued chunk.</p>
+ */
+public final class ChunkUnloadQueue {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] deadlines;
+    private long[] keys;
+    private byte[] reasons;
+    private int size;
+    private final Long2IntOpenHashMap indices = new Long2IntOpenHashMap();
+
+    public ChunkUnloadQueue() {
+        this.deadlines = new long[DEFAULT_CAPACITY];
+        this.keys = new long[DEFAULT_CAPACITY];
+        this.reasons = new byte[DEFAULT_CAPACITY];
+        this.indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Schedules the chunk to unload at the given deadline. If the chunk is
+     * already queued with a later deadline, it is moved forward to the new
+     * deadline and reason, otherwise the existing entry is kept.
+     *
+     * @param key The chunk key
+     * @param deadline The time the chunk is due to unload
+     * @param reason The reason for the unload
+     * @return True if the chunk was not queued before
+     */
+    public boolean schedule(long key, long deadline, ChunkUnloadReason reason) {
+        final int index = this.indices.get(key);
+        if (index != -1) {
+            if (deadline < this.deadlines[index]) {
+                this.deadlines[index] = deadline;
+                this.reasons[index] = (byte) reason.ordinal();
+                this.siftUp(index);
+            }
+            return false;
+        }
+        if (this.size == this.keys.length) {
+            final int capacity = this.size << 1;
+            this.deadlines = Arrays.copyOf(this.deadlines, capacity);
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.reasons = Arrays.copyOf(this.reasons, capacity);
+        }
+        final int last = this.size++;
+        this.set(last, key, deadline, (byte) reason.ordinal());
+        this.siftUp(last);
+        return true;
+    }
+
+    /**
+     * Removes the chunk from the queue.
+     *
+     * @param key The chunk key
+     * @return True if the chunk was queued
+     */
+    public boolean cancel(long key) {
+        final int index = this.indices.remove(key);
+        if (index == -1) {
+            return false;
+        }
+        this.removeAt(index);
+        return true;
+    }
+
+    public boolean contains(long key) {
+        return this.indices.containsKey(key);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public long peekDeadline() {
+        this.checkNotEmpty();
+        return this.deadlines[0];
+    }
+
+    public long peekKey() {
+        this.checkNotEmpty();
+        return this.keys[0];
+    }
+
+    public ChunkUnloadReason peekReason() {
+        this.checkNotEmpty();
+        return ChunkUnloadReason.byOrdinal(this.reasons[0]);
+    }
+
+    /**
+     * Removes the chunk due first.
+     *
+     * @return The key of the removed chunk
+     */
+    public long poll() {
+        this.checkNotEmpty();
+        final long key = this.keys[0];
+        this.indices.remove(key);
+        this.removeAt(0);
+        return key;
+    }
+
+    public void clear() {
+        this.size = 0;
+        this.indices.clear();
+    }
+
+    private void removeAt(int index) {
+        final int last = --this.size;
+        if (index != last) {
+            this.set(index, this.keys[last], this.deadlines[last], this.reasons[last]);
+            this.siftDown(index);
+            this.siftUp(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        final long key = this.keys[index];
+        final long deadline = this.deadlines[index];
+        final byte reason = this.reasons[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (this.deadlines[parent] <= deadline) {
+                break;
+            }
+            this.set(index, this.keys[parent], this.deadlines[parent], this.reasons[parent]);
+            index = parent;
+        }
+        this.set(index, key, deadline, reason);
+    }
+
+    private void siftDown(int index) {
+        final long key = this.keys[index];
+        final long deadline = this.deadlines[index];
+        final byte reason = this.reasons[index];
+        final int half = this.size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            final int right = child + 1;
+            if (right < this.size && this.deadlines[right] < this.deadlines[child]) {
+                child = right;
+            }
+            if (deadline <= this.deadlines[child]) {
+                break;
+            }
+            this.set(index, this.keys[child], this.deadlines[child], this.reasons[child]);
+            index = child;
+        }
+        this.set(index, key, deadline, reason);
+    }
+
+    private void set(int index, long key, long deadline, byte reason) {
+        this.keys[index] = key;
+        this.deadlines[index] = deadline;
+        this.reasons[index] = reason;
+        this.indices.put(key, index);
+    }
+
+    private void checkNotEmpty() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+}
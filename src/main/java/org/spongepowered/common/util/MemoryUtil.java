@@ -0,0 +1,78 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+
+import javax.annotation.Nullable;
+
+/**
+ * Measures how full the heap is with live objects.
+ *
+ * <p>The used heap reported by {@link Runtime} includes garbage that has
+ * not been collected yet, so it is high right before every collection even
+ * when little of it is live. This reads the usage of the tenured pool as
+ * measured after its last collection instead.</p>
+ */
+public final class MemoryUtil {
+
+    @Nullable private static final MemoryPoolMXBean tenuredPool = findTenuredPool();
+
+    /**
+     * Gets the occupancy of the tenured pool after its last collection.
+     * Falls back to the used heap if the collector exposes no such pool.
+     *
+     * @return The occupancy, in percent of the maximum size of the pool
+     */
+    public static int getTenuredOccupancyAfterGc() {
+        if (tenuredPool != null) {
+            final MemoryUsage usage = tenuredPool.getCollectionUsage();
+            if (usage != null) {
+                final long max = usage.getMax() > 0 ? usage.getMax() : Runtime.getRuntime().maxMemory();
+                return (int) (usage.getUsed() * 100 / max);
+            }
+        }
+        final Runtime runtime = Runtime.getRuntime();
+        return (int) ((runtime.totalMemory() - runtime.freeMemory()) * 100 / runtime.maxMemory());
+    }
+
+    // The tenured pool is the heap pool that supports both usage thresholds, which excludes eden and the survivor spaces
+    @Nullable
+    private static MemoryPoolMXBean findTenuredPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported() && pool.isCollectionUsageThresholdSupported()) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    private MemoryUtil() {
+    }
+
+}
@@ -24,8 +24,12 @@
  */
 package org.spongepowered.common.util;
 
+import net.minecraft.world.World;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldTickThread;
+
+import javax.annotation.Nullable;
 
 public class ServerUtils {
 
@@ -34,4 +38,15 @@ public static boolean isCallingFromMainThread() {
         return Sponge.isServerAvailable() && SpongeImpl.getServer().isCallingFromMinecraftThread();
     }
 
+    /**
+     * Gets whether the current thread may change the given world, which is
+     * the main thread or the world tick thread that is ticking the world.
+     *
+     * @param world The world
+     * @return True if the current thread owns the world
+     */
+    public static boolean isCallingFromWorldThread(@Nullable World world) {
+        return SpongeImpl.getServer().isCallingFromMinecraftThread() || WorldTickThread.isTicking(world);
+    }
+
 }
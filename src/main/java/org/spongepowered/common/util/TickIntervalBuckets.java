@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Groups elements that should only be visited every few ticks into buckets
+ * by their interval.
+ *
+ * <p>Each interval is split into one list per phase, and elements are
+ * spread over the phases as they are added. A tick then only visits the
+ * lists whose phase is due, so an element with an interval of {@code n} is
+ * visited once every {@code n} ticks and the cost of each interval is spread
+ * evenly over its ticks. Elements with an interval of 1 are visited first,
+ * in the order they were added.</p>
+ *
+ * @param <T> The element type
+ */
+public final class TickIntervalBuckets<T> {
+
+    private final List<Interval<T>> intervals = new ArrayList<>();
+    private int size;
+
+    /**
+     * Adds an element to the bucket of the given interval.
+     *
+     * @param element The element
+     * @param interval The number of ticks between visits, at least 1
+     */
+    public void add(T element, int interval) {
+        this.getInterval(Math.max(1, interval)).add(element);
+        this.size++;
+    }
+
+    private Interval<T> getInterval(int interval) {
+        int index = 0;
+        for (; index < this.intervals.size(); index++) {
+            final Interval<T> existing = this.intervals.get(index);
+            if (existing.interval == interval) {
+                return existing;
+            }
+            if (existing.interval > interval) {
+                break;
+            }
+        }
+        final Interval<T> created = new Interval<>(interval);
+        this.intervals.add(index, created);
+        return created;
+    }
+
+    /**
+     * Removes the first occurrence of an element from its bucket.
+     *
+     * @param element The element
+     * @return True if the element was removed
+     */
+    public boolean remove(T element) {
+        for (Interval<T> interval : this.intervals) {
+            for (List<T> phase : interval.phases) {
+                if (phase.remove(element)) {
+                    this.size--;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes every element matching the filter.
+     *
+     * @param filter The filter
+     * @return True if any element was removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        for (Interval<T> interval : this.intervals) {
+            for (List<T> phase : interval.phases) {
+                final int before = phase.size();
+                if (phase.removeIf(filter)) {
+                    this.size -= before - phase.size();
+                    removed = true;
+                }
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        this.intervals.clear();
+        this.size = 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets an iterator over the elements due on the given tick. Removing an
+     * element through the iterator removes it from its bucket.
+     *
+     * @param tick The tick
+     * @return The iterator
+     */
+    public Iterator<T> iterator(long tick) {
+        return new DueIterator(tick);
+    }
+
+    private static final class Interval<T> {
+
+        final int interval;
+        final List<T>[] phases;
+        private int nextPhase;
+
+        @SuppressWarnings("unchecked")
+        Interval(int interval) {
+            this.interval = interval;
+            this.phases = new List[interval];
+            for (int i = 0; i < interval; i++) {
+                this.phases[i] = new ArrayList<>();
+            }
+        }
+
+        void add(T element) {
+            // fill the smallest phase so removals do not leave the phases unbalanced
+            int phase = this.nextPhase;
+            for (int i = 0; i < this.interval; i++) {
+                if (this.phases[i].size() < this.phases[phase].size()) {
+                    phase = i;
+                }
+            }
+            this.phases[phase].add(element);
+            this.nextPhase = (phase + 1) % this.interval;
+        }
+
+        List<T> getDue(long tick) {
+            return this.phases[(int) (tick % this.interval)];
+        }
+    }
+
+    private final class DueIterator implements Iterator<T> {
+
+        private final long tick;
+        private int intervalIndex;
+        private Iterator<T> current;
+        private Iterator<T> lastReturned;
+
+        DueIterator(long tick) {
+            this.tick = tick;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.current == null || !this.current.hasNext()) {
+                if (this.intervalIndex >= TickIntervalBuckets.this.intervals.size()) {
+                    return false;
+                }
+                this.current = TickIntervalBuckets.this.intervals.get(this.intervalIndex++).getDue(this.tick).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.current;
+            return this.current.next();
+        }
+
+        @Override
+        public void remove() {
+            if (this.lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            this.lastReturned.remove();
+            this.lastReturned = null;
+            TickIntervalBuckets.this.size--;
+        }
+    }
+}
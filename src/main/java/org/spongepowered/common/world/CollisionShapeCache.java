@@ -0,0 +1,274 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.ImmutableSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockLilyPad;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.interfaces.block.IMixinBlock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the block collision boxes of a world per chunk section for the
+ * duration of a tick.
+ *
+ * <p>The boxes of a position are computed the first time they are asked
+ * for in a tick and kept in a flat array of bounds, so the entities moving
+ * through an area test against the same boxes and are handed the same
+ * {@link AxisAlignedBB} instances. A position is recomputed when asked for
+ * with a different state, and is dropped with its neighbours whenever a
+ * block changes, as the shapes of fences, panes and stairs depend on
+ * their neighbours. Blocks with tile entities, or whose collision boxes
+ * may depend on the colliding entity, are never cached.</p>
+ */
+public final class CollisionShapeCache {
+
+    // Intersects every box a block could add for its position
+    private static final AxisAlignedBB ANY_BOX = new AxisAlignedBB(-3.1E7D, -4096D, -3.1E7D, 3.1E7D, 4096D, 3.1E7D);
+    private static final int PURGE_INTERVAL = 200;
+    private static final byte UNCACHED = -1;
+
+    // Vanilla blocks whose collision boxes depend on the colliding entity, lily pads let boats through
+    private static final ImmutableSet<Class<?>> ENTITY_DEPENDENT_BLOCKS = ImmutableSet.of(BlockLilyPad.class);
+
+    private final WorldServer world;
+    private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+    private final List<AxisAlignedBB> scratch = new ArrayList<>();
+    private long currentTick;
+    private long lastPurgeTick;
+    // Consecutive lookups are nearly always in the same section
+    private long lastKey;
+    @Nullable private Section lastSection;
+
+    public CollisionShapeCache(WorldServer world) {
+        this.world = world;
+    }
+
+    /**
+     * Gets whether the collision boxes of a block class may be cached. They
+     * are computed without an entity, so this is only the case when they
+     * are known not to depend on the colliding entity.
+     *
+     * @param blockClass The block class
+     * @return Whether the collision boxes may be cached
+     */
+    public static boolean isCachable(Class<? extends Block> blockClass) {
+        final Class<?> declaringClass;
+        try {
+            final String mapping = SpongeImplHooks.isDeobfuscatedEnvironment() ? "addCollisionBoxToList" : "func_185477_a";
+            declaringClass = blockClass.getMethod(mapping, IBlockState.class, World.class, BlockPos.class, AxisAlignedBB.class, List.class,
+                    Entity.class, boolean.class).getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+        if (declaringClass == Block.class) {
+            return true;
+        }
+        // Mod overrides may depend on the colliding entity
+        return declaringClass.getName().startsWith("net.minecraft.") && !ENTITY_DEPENDENT_BLOCKS.contains(declaringClass);
+    }
+
+    /**
+     * Adds the collision boxes of the block that intersect the given box to
+     * the list, the same as {@link IBlockState#addCollisionBoxToList}.
+     *
+     * @param state The state of the block
+     * @param pos The position of the block
+     * @param entityBox The box to collide with
+     * @param list The list to add the boxes to
+     * @param entity The colliding entity, if any
+     */
+    public void addCollisionBoxes(IBlockState state, BlockPos pos, AxisAlignedBB entityBox, List<AxisAlignedBB> list, @Nullable Entity entity) {
+        final int y = pos.getY();
+        if (y < 0 || y >= 256 || !((IMixinBlock) state.getBlock()).hasCachableCollisionShape()) {
+            state.addCollisionBoxToList(this.world, pos, entityBox, list, entity, false);
+            return;
+        }
+
+        final Section section = getSection(pos.getX() >> 4, y >> 4, pos.getZ() >> 4);
+        final int index = getIndex(pos.getX(), y, pos.getZ());
+        if (section.states[index] != state) {
+            section.store(index, state, pos);
+        }
+        if (!section.collect(index, entityBox, list)) {
+            state.addCollisionBoxToList(this.world, pos, entityBox, list, entity, false);
+        }
+    }
+
+    /**
+     * Drops the cached boxes of a changed position and its neighbours.
+     *
+     * @param pos The position of the changed block
+     */
+    public void invalidate(BlockPos pos) {
+        final int x = pos.getX();
+        final int y = pos.getY();
+        final int z = pos.getZ();
+        invalidate(x, y, z);
+        invalidate(x - 1, y, z);
+        invalidate(x + 1, y, z);
+        invalidate(x, y - 1, z);
+        invalidate(x, y + 1, z);
+        invalidate(x, y, z - 1);
+        invalidate(x, y, z + 1);
+    }
+
+    private void invalidate(int x, int y, int z) {
+        if (y < 0 || y >= 256) {
+            return;
+        }
+        final Section section = this.sections.get(getKey(x >> 4, y >> 4, z >> 4));
+        if (section != null) {
+            section.states[getIndex(x, y, z)] = null;
+        }
+    }
+
+    private Section getSection(int sectionX, int sectionY, int sectionZ) {
+        final long tick = this.world.getTotalWorldTime();
+        if (tick != this.currentTick) {
+            this.currentTick = tick;
+            this.lastSection = null;
+            if (tick - this.lastPurgeTick >= PURGE_INTERVAL) {
+                // Drop the sections no entity has collided with for a while, such as those of unloaded chunks
+                this.lastPurgeTick = tick;
+                this.sections.values().removeIf(section -> tick - section.tick >= PURGE_INTERVAL);
+            }
+        }
+
+        final long key = getKey(sectionX, sectionY, sectionZ);
+        Section section = this.lastSection;
+        if (section == null || this.lastKey != key) {
+            section = this.sections.get(key);
+            if (section == null) {
+                section = new Section();
+                this.sections.put(key, section);
+            }
+            this.lastKey = key;
+            this.lastSection = section;
+        }
+        if (section.tick != tick) {
+            section.reset(tick);
+        }
+        return section;
+    }
+
+    private static long getKey(int sectionX, int sectionY, int sectionZ) {
+        return (sectionX & 0x3FFFFFFL) << 38 | (sectionZ & 0x3FFFFFFL) << 12 | (sectionY & 0xFFFL);
+    }
+
+    private static int getIndex(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private final class Section {
+
+        long tick = Long.MIN_VALUE;
+        final IBlockState[] states = new IBlockState[4096];
+        final int[] starts = new int[4096];
+        final byte[] counts = new byte[4096];
+        // minX, minY, minZ, maxX, maxY, maxZ of each box
+        double[] bounds = new double[6 * 64];
+        AxisAlignedBB[] boxes = new AxisAlignedBB[64];
+        int boxCount;
+
+        void reset(long tick) {
+            this.tick = tick;
+            Arrays.fill(this.states, null);
+            Arrays.fill(this.boxes, 0, this.boxCount, null);
+            this.boxCount = 0;
+        }
+
+        void store(int index, IBlockState state, BlockPos pos) {
+            this.states[index] = state;
+            if (SpongeImplHooks.hasBlockTileEntity(state.getBlock(), state)) {
+                this.counts[index] = UNCACHED;
+                return;
+            }
+
+            final List<AxisAlignedBB> found = CollisionShapeCache.this.scratch;
+            found.clear();
+            state.addCollisionBoxToList(CollisionShapeCache.this.world, pos, ANY_BOX, found, null, false);
+            if (found.size() > Byte.MAX_VALUE) {
+                this.counts[index] = UNCACHED;
+                return;
+            }
+
+            // Earlier boxes of a recomputed position are left behind until the section resets
+            ensureCapacity(this.boxCount + found.size());
+            this.starts[index] = this.boxCount;
+            this.counts[index] = (byte) found.size();
+            for (AxisAlignedBB box : found) {
+                final int offset = this.boxCount * 6;
+                this.bounds[offset] = box.minX;
+                this.bounds[offset + 1] = box.minY;
+                this.bounds[offset + 2] = box.minZ;
+                this.bounds[offset + 3] = box.maxX;
+                this.bounds[offset + 4] = box.maxY;
+                this.bounds[offset + 5] = box.maxZ;
+                this.boxes[this.boxCount++] = box;
+            }
+            found.clear();
+        }
+
+        boolean collect(int index, AxisAlignedBB entityBox, List<AxisAlignedBB> list) {
+            final int count = this.counts[index];
+            if (count == UNCACHED) {
+                return false;
+            }
+            final int start = this.starts[index];
+            for (int box = start; box < start + count; box++) {
+                final int offset = box * 6;
+                // Same test as AxisAlignedBB#intersects
+                if (entityBox.minX < this.bounds[offset + 3] && entityBox.maxX > this.bounds[offset]
+                        && entityBox.minY < this.bounds[offset + 4] && entityBox.maxY > this.bounds[offset + 1]
+                        && entityBox.minZ < this.bounds[offset + 5] && entityBox.maxZ > this.bounds[offset + 2]) {
+                    list.add(this.boxes[box]);
+                }
+            }
+            return true;
+        }
+
+        private void ensureCapacity(int size) {
+            if (size > this.boxes.length) {
+                final int length = Math.max(size, this.boxes.length * 2);
+                this.boxes = Arrays.copyOf(this.boxes, length);
+                this.bounds = Arrays.copyOf(this.bounds, length * 6);
+            }
+        }
+    }
+}
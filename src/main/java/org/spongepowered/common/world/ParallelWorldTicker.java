@@ -0,0 +1,240 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.Sets;
+import net.minecraft.crash.CrashReport;
+import net.minecraft.entity.EntityTracker;
+import net.minecraft.util.ReportedException;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+
+/**
+ * Ticks worlds on a pool of {@link WorldTickThread}s.
+ *
+ * <p>The main thread hands every world that may tick in parallel to the
+ * pool and waits for all of them before it continues. Anything a world
+ * does to another world, such as moving an entity to another dimension,
+ * is deferred with {@link #runAfterWorldTicks(Runnable)} and run on the
+ * main thread once the ticks are done. Events posted from world tick
+ * threads are serialized so listeners never run concurrently.</p>
+ */
+public final class ParallelWorldTicker {
+
+    private static final ReentrantLock eventLock = new ReentrantLock();
+    private static final ReentrantLock scoreboardLock = new ReentrantLock();
+
+    private final ExecutorService executor;
+    private final Set<WorldServer> tickedWorlds = Sets.newIdentityHashSet();
+    private final Set<EntityTracker> tickedTrackers = Sets.newIdentityHashSet();
+    private final List<WorldTickJob> jobs = new ArrayList<>();
+
+    public ParallelWorldTicker() {
+        int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelWorldTickThreads();
+        if (threads <= 0) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        }
+        final AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads,
+                target -> new WorldTickThread(target, "Sponge - World Tick Thread #" + count.incrementAndGet()));
+    }
+
+    /**
+     * Ticks the given worlds that allow it in parallel and waits for them to
+     * finish. The worlds that were ticked are skipped by the main thread for
+     * the rest of the server tick, see {@link #wasTicked(WorldServer)}.
+     *
+     * @param worlds The worlds of the server, in tick order
+     * @param allowNether Whether worlds other than the first may tick
+     */
+    public void tickWorlds(WorldServer[] worlds, boolean allowNether) {
+        this.tickedWorlds.clear();
+        this.tickedTrackers.clear();
+        this.jobs.clear();
+
+        for (int i = 0; i < worlds.length; i++) {
+            final WorldServer world = worlds[i];
+            if (world == null || (i != 0 && !allowNether)) {
+                continue;
+            }
+            if (((IMixinWorldServer) world).getActiveConfig().getConfig().getWorld().canTickInParallel()) {
+                this.jobs.add(new WorldTickJob(world));
+            }
+        }
+        if (this.jobs.size() < 2) {
+            // Nothing to gain, leave the world to the main thread
+            this.jobs.clear();
+            return;
+        }
+
+        final List<Future<?>> futures = new ArrayList<>(this.jobs.size());
+        for (WorldTickJob job : this.jobs) {
+            futures.add(this.executor.submit(job));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException("Interrupted while waiting for worlds to tick", e);
+            }
+        }
+
+        for (WorldTickJob job : this.jobs) {
+            if (job.failure != null) {
+                if (job.failure instanceof ReportedException) {
+                    throw (ReportedException) job.failure;
+                }
+                final CrashReport report = CrashReport.makeCrashReport(job.failure, "Exception ticking world");
+                job.world.addWorldInfoToCrashReport(report);
+                throw new ReportedException(report);
+            }
+        }
+
+        for (WorldTickJob job : this.jobs) {
+            this.tickedWorlds.add(job.world);
+            this.tickedTrackers.add(job.world.getEntityTracker());
+            ((IMixinWorldServer) job.world).getTimingsHandler().recordParallelTick(job.tickTime);
+        }
+        for (WorldTickJob job : this.jobs) {
+            job.deferredActions.forEach(Runnable::run);
+        }
+        this.jobs.clear();
+    }
+
+    public boolean wasTicked(WorldServer world) {
+        return this.tickedWorlds.contains(world);
+    }
+
+    public boolean wasTicked(EntityTracker tracker) {
+        return this.tickedTrackers.contains(tracker);
+    }
+
+    public void shutdown() {
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            SpongeImpl.getLogger().error("Interrupted while waiting for the world tick threads to stop", e);
+        } finally {
+            this.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the action on the main thread once all worlds have finished
+     * ticking if called from a world tick thread, otherwise runs it now.
+     *
+     * @param action The action
+     */
+    public static void runAfterWorldTicks(Runnable action) {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof WorldTickThread) {
+            ((WorldTickThread) thread).defer(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Acquires the lock that keeps world tick threads from posting events at
+     * the same time. Does nothing on other threads.
+     */
+    public static void lockEvents() {
+        if (WorldTickThread.isWorldTickThread()) {
+            eventLock.lock();
+        }
+    }
+
+    public static void unlockEvents() {
+        if (WorldTickThread.isWorldTickThread()) {
+            eventLock.unlock();
+        }
+    }
+
+    /**
+     * Acquires the lock that keeps world tick threads from touching the
+     * server scoreboard, which all worlds share, at the same time. Does
+     * nothing on other threads.
+     */
+    public static void lockScoreboard() {
+        if (WorldTickThread.isWorldTickThread()) {
+            scoreboardLock.lock();
+        }
+    }
+
+    public static void unlockScoreboard() {
+        if (WorldTickThread.isWorldTickThread()) {
+            scoreboardLock.unlock();
+        }
+    }
+
+    private static final class WorldTickJob implements Runnable {
+
+        final WorldServer world;
+        long tickTime;
+        @Nullable Throwable failure;
+        List<Runnable> deferredActions;
+
+        WorldTickJob(WorldServer world) {
+            this.world = world;
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            final WorldTickThread thread = (WorldTickThread) Thread.currentThread();
+            thread.setWorld(this.world);
+            try {
+                this.world.tick();
+                this.world.updateEntities();
+                // Same order as the main thread, see MixinMinecraftServer
+                if (((IMixinWorldServer) this.world).getChunkGCTickInterval() > 0) {
+                    this.world.getChunkProvider().tick();
+                }
+                this.world.getEntityTracker().tick();
+            } catch (Throwable t) {
+                this.failure = t;
+            } finally {
+                this.tickTime = System.nanoTime() - start;
+                thread.setWorld(null);
+                this.deferredActions = thread.drainDeferredActions();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.event.tracking.CauseTracker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A thread of the {@link ParallelWorldTicker} pool. Each thread has its own
+ * {@link CauseTracker}, so the phases of the world it is ticking do not mix
+ * with those of the main thread or of other worlds, and collects the actions
+ * that have to wait until every world has finished ticking.
+ */
+public final class WorldTickThread extends Thread {
+
+    @Nullable private CauseTracker causeTracker;
+    @Nullable private WorldServer world;
+    private final List<Runnable> deferredActions = new ArrayList<>();
+
+    WorldTickThread(Runnable target, String name) {
+        super(target, name);
+        setDaemon(true);
+    }
+
+    /**
+     * Gets whether the current thread is ticking a world in parallel.
+     *
+     * @return True if called from a world tick thread
+     */
+    public static boolean isWorldTickThread() {
+        return Thread.currentThread() instanceof WorldTickThread;
+    }
+
+    /**
+     * Gets whether the current thread is the world tick thread that is
+     * ticking the given world.
+     *
+     * @param world The world
+     * @return True if the current thread owns the world
+     */
+    public static boolean isTicking(@Nullable World world) {
+        final Thread thread = Thread.currentThread();
+        return world != null && thread instanceof WorldTickThread && ((WorldTickThread) thread).world == world;
+    }
+
+    void setWorld(@Nullable WorldServer world) {
+        this.world = world;
+    }
+
+    public CauseTracker getCauseTracker() {
+        if (this.causeTracker == null) {
+            // Created on this thread, the tracker checks who is asking for it
+            this.causeTracker = CauseTracker.createWorldThreadTracker();
+        }
+        return this.causeTracker;
+    }
+
+    void defer(Runnable action) {
+        this.deferredActions.add(action);
+    }
+
+    List<Runnable> drainDeferredActions() {
+        if (this.deferredActions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Runnable> actions = new ArrayList<>(this.deferredActions);
+        this.deferredActions.clear();
+        return actions;
+    }
+}
@@ -29,6 +29,7 @@
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.common.event.tracking.CauseTracker;
 
 /**
  *
@@ -47,13 +48,22 @@ public void fill(BlockVolumeFiller filler, Cause cause) {
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    final BlockState block = filler.produce(x, y, z);
-                    this.volume.setBlock(x, y, z, block, cause);
+        // Relight the filled area once at the end instead of after every block
+        final CauseTracker causeTracker = CauseTracker.getInstance();
+        final boolean deferLighting = causeTracker.startLightingDeferral();
+        try {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        final BlockState block = filler.produce(x, y, z);
+                        this.volume.setBlock(x, y, z, block, cause);
+                    }
                 }
             }
+        } finally {
+            if (deferLighting) {
+                causeTracker.completeLightingDeferral();
+            }
         }
     }
 }
@@ -0,0 +1,309 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the light updates of a world and hands them to the lighting
+ * workers in batches.
+ *
+ * <p>Updates are collected until the end of the world tick, or until the
+ * batch grows too large, and duplicates within a batch are dropped. Each
+ * world has a single coordinator thread so that batches, and the gap
+ * rechecks scheduled on {@link #getExecutor()}, still run in the order
+ * they were requested. The coordinator splits a batch into regions that
+ * do not share chunks and runs them on a worker pool shared by all
+ * worlds.</p>
+ */
+public final class AsyncLightingQueue {
+
+    private static final int MAX_BATCH_SIZE = 16384;
+    // Same size as World#lightUpdateBlockList
+    private static final int UPDATE_LIST_SIZE = 32768;
+    private static final ThreadLocal<int[]> updateBlockLists = ThreadLocal.withInitial(() -> new int[UPDATE_LIST_SIZE]);
+
+    private final IMixinWorldServer world;
+    private final ExecutorService coordinator;
+    private LightUpdateBatch batch = new LightUpdateBatch();
+
+    private final AtomicInteger queuedUpdates = new AtomicInteger();
+    private final LongAdder processedUpdates = new LongAdder();
+    private final LongAdder coalescedUpdates = new LongAdder();
+    private volatile long lastBatchLatency;
+    private volatile long maxBatchLatency;
+
+    public AsyncLightingQueue(IMixinWorldServer world) {
+        this.world = world;
+        this.coordinator = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    }
+
+    /**
+     * Gets the scratch list used by light propagation on the current thread,
+     * replacing the single list shared by the world.
+     *
+     * @return The light update list of the current thread
+     */
+    public static int[] getUpdateBlockList() {
+        return updateBlockLists.get();
+    }
+
+    public ExecutorService getExecutor() {
+        return this.coordinator;
+    }
+
+    /**
+     * Queues a light check at a position. The chunk and all of its
+     * neighbors must be loaded.
+     *
+     * @param lightType The light type
+     * @param pos The position
+     * @param chunk The chunk containing the position
+     */
+    public synchronized void queue(EnumSkyBlock lightType, BlockPos pos, Chunk chunk) {
+        if (this.batch.contains(lightType, pos)) {
+            this.coalescedUpdates.increment();
+            return;
+        }
+
+        final long worldTime = chunk.getWorld().getTotalWorldTime();
+        final IMixinChunk spongeChunk = (IMixinChunk) chunk;
+        final List<Chunk> neighbors = getLightNeighbors(spongeChunk);
+        spongeChunk.getPendingLightUpdates().incrementAndGet();
+        spongeChunk.setLightUpdateTime(worldTime);
+        for (Chunk neighborChunk : neighbors) {
+            final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
+            neighbor.getPendingLightUpdates().incrementAndGet();
+            neighbor.setLightUpdateTime(worldTime);
+        }
+
+        this.batch.add(lightType, pos.toImmutable(), chunk, neighbors);
+        this.queuedUpdates.incrementAndGet();
+        if (this.batch.size() >= MAX_BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Hands the updates queued so far to the lighting workers.
+     */
+    public synchronized void flush() {
+        if (this.batch.isEmpty() || this.coordinator.isShutdown()) {
+            return;
+        }
+        final LightUpdateBatch flushed = this.batch;
+        final long flushTime = System.nanoTime();
+        this.batch = new LightUpdateBatch();
+        this.coordinator.execute(() -> this.process(flushed, flushTime));
+    }
+
+    /**
+     * Runs a task on the coordinator once all updates queued so far have
+     * been applied, while no lighting workers are running for this world.
+     *
+     * @param task The task to run
+     */
+    public synchronized void execute(Runnable task) {
+        flush();
+        if (!this.coordinator.isShutdown()) {
+            this.coordinator.execute(task);
+        }
+    }
+
+    public void shutdown() {
+        flush();
+        this.coordinator.shutdown();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.coordinator.awaitTermination(timeout, unit);
+    }
+
+    public void shutdownNow() {
+        this.coordinator.shutdownNow();
+    }
+
+    public int getQueuedUpdateCount() {
+        return this.queuedUpdates.get();
+    }
+
+    public long getProcessedUpdateCount() {
+        return this.processedUpdates.sum();
+    }
+
+    public long getCoalescedUpdateCount() {
+        return this.coalescedUpdates.sum();
+    }
+
+    /**
+     * Gets the time between the last batch being flushed and all of its
+     * updates being applied.
+     *
+     * @return The latency of the last batch, in milliseconds
+     */
+    public long getLastBatchLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(this.lastBatchLatency);
+    }
+
+    public long getMaxBatchLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(this.maxBatchLatency);
+    }
+
+    private void process(LightUpdateBatch batch, long flushTime) {
+        final ExecutorService workers = WorkerPool.EXECUTOR;
+        for (List<List<LightUpdateBatch.ChunkJob>> phase : batch.getPhases()) {
+            if (phase.size() == 1 || workers == null) {
+                phase.forEach(this::processCell);
+                continue;
+            }
+            final List<CompletableFuture<Void>> cells = new ArrayList<>(phase.size());
+            for (List<LightUpdateBatch.ChunkJob> cell : phase) {
+                cells.add(CompletableFuture.runAsync(() -> this.processCell(cell), workers));
+            }
+            // A phase must be complete before the next one may touch the same chunks
+            CompletableFuture.allOf(cells.toArray(new CompletableFuture<?>[cells.size()])).join();
+        }
+        this.notifyLightSet(batch);
+        final long latency = System.nanoTime() - flushTime;
+        this.lastBatchLatency = latency;
+        if (latency > this.maxBatchLatency) {
+            this.maxBatchLatency = latency;
+        }
+    }
+
+    private void processCell(List<LightUpdateBatch.ChunkJob> cell) {
+        for (LightUpdateBatch.ChunkJob job : cell) {
+            processUpdates(EnumSkyBlock.SKY, job.skyUpdates, job);
+            processUpdates(EnumSkyBlock.BLOCK, job.blockUpdates, job);
+        }
+    }
+
+    private void processUpdates(EnumSkyBlock lightType, LongArrayList updates, LightUpdateBatch.ChunkJob job) {
+        for (int i = 0; i < updates.size(); i++) {
+            try {
+                this.world.checkLightAsync(lightType, BlockPos.fromLong(updates.getLong(i)), job.chunk, job.neighbors, job.changedPositions);
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Failed to process light update in chunk {}, {}", job.chunk.x, job.chunk.z, e);
+            } finally {
+                // Every queued update holds the chunk and its neighbors, release them even if the update failed
+                ((IMixinChunk) job.chunk).getPendingLightUpdates().decrementAndGet();
+                for (Chunk neighbor : job.neighbors) {
+                    ((IMixinChunk) neighbor).getPendingLightUpdates().decrementAndGet();
+                }
+                this.queuedUpdates.decrementAndGet();
+                this.processedUpdates.increment();
+            }
+        }
+    }
+
+    /**
+     * Notifies the world listeners of the light changes of a batch. The
+     * listeners are not thread safe, so this is done on the server thread.
+     */
+    private void notifyLightSet(LightUpdateBatch batch) {
+        final LongOpenHashSet changedPositions = new LongOpenHashSet();
+        for (LightUpdateBatch.ChunkJob job : batch.getJobs()) {
+            changedPositions.addAll(job.changedPositions);
+        }
+        notifyLightSet((World) this.world, changedPositions);
+    }
+
+    /**
+     * Notifies the world listeners of light changes made off the server
+     * thread, on the server thread.
+     *
+     * @param world The world
+     * @param changedPositions The positions whose light was set
+     */
+    static void notifyLightSet(World world, LongSet changedPositions) {
+        if (changedPositions.isEmpty()) {
+            return;
+        }
+        SpongeImpl.getServer().addScheduledTask(() -> {
+            final LongIterator iterator = changedPositions.iterator();
+            while (iterator.hasNext()) {
+                world.notifyLightSet(BlockPos.fromLong(iterator.nextLong()));
+            }
+        });
+    }
+
+    private static List<Chunk> getLightNeighbors(IMixinChunk spongeChunk) {
+        final List<Chunk> neighbors = spongeChunk.getNeighbors();
+        // add diagonal chunks
+        final Chunk southEastChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(0)).getNeighborChunk(2);
+        final Chunk southWestChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(0)).getNeighborChunk(3);
+        final Chunk northEastChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(1)).getNeighborChunk(2);
+        final Chunk northWestChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(1)).getNeighborChunk(3);
+        if (southEastChunk != null) {
+            neighbors.add(southEastChunk);
+        }
+        if (southWestChunk != null) {
+            neighbors.add(southWestChunk);
+        }
+        if (northEastChunk != null) {
+            neighbors.add(northEastChunk);
+        }
+        if (northWestChunk != null) {
+            neighbors.add(northWestChunk);
+        }
+        return neighbors;
+    }
+
+    private static final class WorkerPool {
+
+        // Null when a single thread is configured, in which case the coordinator does all the work
+        static final ExecutorService EXECUTOR;
+
+        static {
+            int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingThreads();
+            if (threads <= 0) {
+                threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+            }
+            EXECUTOR = threads == 1 ? null : Executors.newFixedThreadPool(threads,
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Worker %d").setDaemon(true).build());
+        }
+    }
+
+}
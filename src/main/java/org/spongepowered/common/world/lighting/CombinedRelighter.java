@@ -0,0 +1,283 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImplHooks;
+
+/**
+ * Relights many positions of a chunk section in one pass, instead of
+ * running a separate light check for each of them.
+ *
+ * <p>All changed positions are darkened together first, clearing any
+ * light that may have come through them. Light is then flooded back in
+ * from the edge of the darkened area and from every light source inside
+ * it. The result is the same as checking each position on its own, but
+ * the propagation shared by nearby positions is only computed once.</p>
+ *
+ * <p>Light from a section never reaches further than 15 blocks, so only
+ * the chunk of the section and the eight chunks around it are read and
+ * written.</p>
+ */
+final class CombinedRelighter {
+
+    private static final EnumFacing[] FACINGS = EnumFacing.values();
+    // Positions are packed relative to the north west corner of the 3x3 chunks
+    private static final int XZ_BITS = 6;
+    private static final int XZ_MASK = (1 << XZ_BITS) - 1;
+    private static final int Y_SHIFT = XZ_BITS * 2;
+    private static final int Y_MASK = 0xFF;
+    private static final int LEVEL_SHIFT = Y_SHIFT + 8;
+    private static final int POS_MASK = (1 << LEVEL_SHIFT) - 1;
+    private static final int SIZE = 48;
+
+    private final LightAccess access;
+    private final int minX;
+    private final int minZ;
+    private final IntArrayFIFOQueue decreaseQueue = new IntArrayFIFOQueue();
+    private final IntArrayFIFOQueue increaseQueue = new IntArrayFIFOQueue();
+    private final IntArrayList darkened = new IntArrayList();
+
+    /**
+     * Creates a relighter for the chunk at the center of the given chunks.
+     *
+     * @param world The world
+     * @param lightType The light type to relight
+     * @param chunks The 3x3 chunks around the relit chunk, indexed by {@code x + z * 3}
+     * @param changedPositions The set the positions whose light was set are added to, the
+     *     world is not notified of them so it can be done on the server thread
+     */
+    CombinedRelighter(World world, EnumSkyBlock lightType, Chunk[] chunks, LongSet changedPositions) {
+        this(chunks[4].x, chunks[4].z, new ChunkLightAccess(world, lightType, chunks, changedPositions));
+    }
+
+    /**
+     * Creates a relighter for the given chunk.
+     *
+     * @param chunkX The x coordinate of the relit chunk
+     * @param chunkZ The z coordinate of the relit chunk
+     * @param access The access to the light of the chunk and the eight around it
+     */
+    CombinedRelighter(int chunkX, int chunkZ, LightAccess access) {
+        this.access = access;
+        this.minX = (chunkX - 1) << 4;
+        this.minZ = (chunkZ - 1) << 4;
+    }
+
+    /**
+     * Relights the given positions.
+     *
+     * @param seeds The changed positions, packed with {@link #pack(int, int, int)}
+     */
+    void relight(IntArrayList seeds) {
+        for (int i = 0; i < seeds.size(); i++) {
+            final int packed = seeds.getInt(i);
+            final int level = getLight(packed);
+            if (level != 0) {
+                setLight(packed, 0);
+            }
+            this.darkened.add(packed);
+            this.decreaseQueue.enqueue(packed | level << LEVEL_SHIFT);
+        }
+
+        // Clear everything that may have been lit through the changed positions
+        while (!this.decreaseQueue.isEmpty()) {
+            final int entry = this.decreaseQueue.dequeueInt();
+            final int packed = entry & POS_MASK;
+            final int level = entry >>> LEVEL_SHIFT;
+            for (EnumFacing facing : FACINGS) {
+                final int neighbor = offset(packed, facing);
+                if (neighbor == -1) {
+                    continue;
+                }
+                final int neighborLevel = getLight(neighbor);
+                if (neighborLevel == 0) {
+                    continue;
+                }
+                if (neighborLevel < level) {
+                    setLight(neighbor, 0);
+                    this.darkened.add(neighbor);
+                    this.decreaseQueue.enqueue(neighbor | neighborLevel << LEVEL_SHIFT);
+                } else {
+                    // Lit independently, spread it back into the cleared area
+                    this.increaseQueue.enqueue(neighbor);
+                }
+            }
+        }
+
+        // Light sources inside the cleared area
+        for (int i = 0; i < this.darkened.size(); i++) {
+            final int packed = this.darkened.getInt(i);
+            final int emitted = getEmittedLight(packed);
+            if (emitted > getLight(packed)) {
+                setLight(packed, emitted);
+                this.increaseQueue.enqueue(packed);
+            }
+        }
+
+        while (!this.increaseQueue.isEmpty()) {
+            final int packed = this.increaseQueue.dequeueInt();
+            final int level = getLight(packed);
+            if (level <= 1) {
+                continue;
+            }
+            for (EnumFacing facing : FACINGS) {
+                final int neighbor = offset(packed, facing);
+                if (neighbor == -1) {
+                    continue;
+                }
+                final int opacity = getOpacity(neighbor);
+                if (opacity >= 15) {
+                    continue;
+                }
+                final int neighborLevel = level - opacity;
+                if (neighborLevel > getLight(neighbor)) {
+                    setLight(neighbor, neighborLevel);
+                    this.increaseQueue.enqueue(neighbor);
+                }
+            }
+        }
+        this.darkened.clear();
+    }
+
+    int pack(int x, int y, int z) {
+        return (x - this.minX) | (z - this.minZ) << XZ_BITS | y << Y_SHIFT;
+    }
+
+    private int offset(int packed, EnumFacing facing) {
+        final int x = (packed & XZ_MASK) + facing.getFrontOffsetX();
+        final int z = (packed >> XZ_BITS & XZ_MASK) + facing.getFrontOffsetZ();
+        final int y = (packed >> Y_SHIFT & Y_MASK) + facing.getFrontOffsetY();
+        if (x < 0 || x >= SIZE || z < 0 || z >= SIZE || y < 0 || y > Y_MASK) {
+            return -1;
+        }
+        return x | z << XZ_BITS | y << Y_SHIFT;
+    }
+
+    private int getLight(int packed) {
+        return this.access.getLight(this.minX + (packed & XZ_MASK), packed >> Y_SHIFT & Y_MASK, this.minZ + (packed >> XZ_BITS & XZ_MASK));
+    }
+
+    private void setLight(int packed, int level) {
+        this.access.setLight(this.minX + (packed & XZ_MASK), packed >> Y_SHIFT & Y_MASK, this.minZ + (packed >> XZ_BITS & XZ_MASK), level);
+    }
+
+    private int getEmittedLight(int packed) {
+        return this.access.getEmittedLight(this.minX + (packed & XZ_MASK), packed >> Y_SHIFT & Y_MASK, this.minZ + (packed >> XZ_BITS & XZ_MASK));
+    }
+
+    private int getOpacity(int packed) {
+        return this.access.getOpacity(this.minX + (packed & XZ_MASK), packed >> Y_SHIFT & Y_MASK, this.minZ + (packed >> XZ_BITS & XZ_MASK));
+    }
+
+    /**
+     * The light of one light type in the chunk being relit and the eight
+     * chunks around it.
+     */
+    interface LightAccess {
+
+        int getLight(int x, int y, int z);
+
+        void setLight(int x, int y, int z, int level);
+
+        /**
+         * Gets the light emitted at a position, which is the light of a
+         * source block or the full sky light of a position that can see the
+         * sky.
+         */
+        int getEmittedLight(int x, int y, int z);
+
+        /**
+         * Gets the light lost when entering a position, at least 1.
+         */
+        int getOpacity(int x, int y, int z);
+    }
+
+    private static final class ChunkLightAccess implements LightAccess {
+
+        private final World world;
+        private final EnumSkyBlock lightType;
+        private final Chunk[] chunks;
+        private final LongSet changedPositions;
+        private final int minChunkX;
+        private final int minChunkZ;
+        private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        ChunkLightAccess(World world, EnumSkyBlock lightType, Chunk[] chunks, LongSet changedPositions) {
+            this.world = world;
+            this.lightType = lightType;
+            this.chunks = chunks;
+            this.changedPositions = changedPositions;
+            this.minChunkX = chunks[4].x - 1;
+            this.minChunkZ = chunks[4].z - 1;
+        }
+
+        private Chunk setPos(int x, int y, int z) {
+            this.pos.setPos(x, y, z);
+            return this.chunks[(x >> 4) - this.minChunkX + ((z >> 4) - this.minChunkZ) * 3];
+        }
+
+        @Override
+        public int getLight(int x, int y, int z) {
+            return setPos(x, y, z).getLightFor(this.lightType, this.pos);
+        }
+
+        @Override
+        public void setLight(int x, int y, int z, int level) {
+            setPos(x, y, z).setLightFor(this.lightType, this.pos, level);
+            this.changedPositions.add(this.pos.toLong());
+        }
+
+        @Override
+        public int getEmittedLight(int x, int y, int z) {
+            final Chunk chunk = setPos(x, y, z);
+            if (this.lightType == EnumSkyBlock.SKY) {
+                return chunk.canSeeSky(this.pos) ? 15 : 0;
+            }
+            return SpongeImplHooks.getChunkPosLight(chunk.getBlockState(this.pos), this.world, this.pos);
+        }
+
+        // Same rules as World#getRawLight, light sources are never fully opaque
+        @Override
+        public int getOpacity(int x, int y, int z) {
+            final Chunk chunk = setPos(x, y, z);
+            final IBlockState state = chunk.getBlockState(this.pos);
+            int opacity = SpongeImplHooks.getBlockLightOpacity(state, this.world, this.pos);
+            if (opacity >= 15 && SpongeImplHooks.getChunkPosLight(state, this.world, this.pos) > 0) {
+                opacity = 1;
+            }
+            return Math.max(1, opacity);
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+/**
+ * The light checks of a world that were deferred while block changes were
+ * being captured.
+ *
+ * <p>Checks are kept as one bit per block and light type in each chunk, so
+ * a position changed many times is only checked once. Sections with only
+ * a few changed positions are checked one position at a time as usual,
+ * while sections with many are relit in a single pass by a
+ * {@link CombinedRelighter}.</p>
+ */
+public final class DeferredLightUpdates {
+
+    // The number of changed positions in a section above which it is relit in a single pass
+    private static final int COMBINED_RELIGHT_THRESHOLD = 64;
+    private static final int WORDS_PER_CHUNK = 16 * 16 * 256 / 64;
+    private static final int WORDS_PER_SECTION = WORDS_PER_CHUNK / 16;
+
+    private final WorldServer world;
+    private final Long2ObjectOpenHashMap<long[]> skyPositions = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<long[]> blockPositions = new Long2ObjectOpenHashMap<>();
+    private int size;
+
+    public DeferredLightUpdates(WorldServer world) {
+        this.world = world;
+    }
+
+    public void add(EnumSkyBlock lightType, BlockPos pos) {
+        final int y = pos.getY();
+        if (y < 0 || y > 255) {
+            return;
+        }
+        final Long2ObjectOpenHashMap<long[]> positions = lightType == EnumSkyBlock.SKY ? this.skyPositions : this.blockPositions;
+        final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        long[] bits = positions.get(chunkKey);
+        if (bits == null) {
+            bits = new long[WORDS_PER_CHUNK];
+            positions.put(chunkKey, bits);
+        }
+        final int index = y << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+        final long mask = 1L << index;
+        if ((bits[index >>> 6] & mask) == 0) {
+            bits[index >>> 6] |= mask;
+            this.size++;
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Runs all deferred light checks.
+     */
+    public void process() {
+        if (this.size == 0) {
+            return;
+        }
+        this.size = 0;
+        try {
+            process(EnumSkyBlock.SKY, this.skyPositions);
+            process(EnumSkyBlock.BLOCK, this.blockPositions);
+        } finally {
+            this.skyPositions.clear();
+            this.blockPositions.clear();
+        }
+    }
+
+    private void process(EnumSkyBlock lightType, Long2ObjectOpenHashMap<long[]> positions) {
+        for (Long2ObjectMap.Entry<long[]> entry : positions.long2ObjectEntrySet()) {
+            final long chunkKey = entry.getLongKey();
+            final int chunkX = (int) chunkKey;
+            final int chunkZ = (int) (chunkKey >> 32);
+            final long[] bits = entry.getValue();
+            Chunk[] chunks = null;
+            for (int section = 0; section < 16; section++) {
+                final int firstWord = section * WORDS_PER_SECTION;
+                int count = 0;
+                for (int word = firstWord; word < firstWord + WORDS_PER_SECTION; word++) {
+                    count += Long.bitCount(bits[word]);
+                }
+                if (count == 0) {
+                    continue;
+                }
+                if (count >= COMBINED_RELIGHT_THRESHOLD) {
+                    if (chunks == null) {
+                        chunks = getNeighborhood(chunkX, chunkZ);
+                    }
+                    if (chunks != null) {
+                        relightSection(lightType, chunks, bits, firstWord);
+                        continue;
+                    }
+                }
+                checkSection(lightType, chunkX, chunkZ, bits, firstWord);
+            }
+        }
+    }
+
+    private void checkSection(EnumSkyBlock lightType, int chunkX, int chunkZ, long[] bits, int firstWord) {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int word = firstWord; word < firstWord + WORDS_PER_SECTION; word++) {
+            long value = bits[word];
+            while (value != 0) {
+                final int index = word << 6 | Long.numberOfTrailingZeros(value);
+                value &= value - 1;
+                pos.setPos(chunkX << 4 | (index & 15), index >>> 8, chunkZ << 4 | (index >> 4 & 15));
+                this.world.checkLightFor(lightType, pos.toImmutable());
+            }
+        }
+    }
+
+    private void relightSection(EnumSkyBlock lightType, Chunk[] chunks, long[] bits, int firstWord) {
+        final LongOpenHashSet changedPositions = new LongOpenHashSet();
+        final CombinedRelighter relighter = new CombinedRelighter(this.world, lightType, chunks, changedPositions);
+        final int baseX = chunks[4].x << 4;
+        final int baseZ = chunks[4].z << 4;
+        final IntArrayList seeds = new IntArrayList();
+        for (int word = firstWord; word < firstWord + WORDS_PER_SECTION; word++) {
+            long value = bits[word];
+            while (value != 0) {
+                final int index = word << 6 | Long.numberOfTrailingZeros(value);
+                value &= value - 1;
+                seeds.add(relighter.pack(baseX | (index & 15), index >>> 8, baseZ | (index >> 4 & 15)));
+            }
+        }
+
+        final IMixinWorldServer mixinWorld = (IMixinWorldServer) this.world;
+        if (!isAsyncLighting()) {
+            relighter.relight(seeds);
+            final LongIterator iterator = changedPositions.iterator();
+            while (iterator.hasNext()) {
+                this.world.notifyLightSet(BlockPos.fromLong(iterator.nextLong()));
+            }
+            return;
+        }
+        // Light is owned by the lighting threads, keep the chunks from unloading until the relight ran
+        final long worldTime = this.world.getTotalWorldTime();
+        for (Chunk chunk : chunks) {
+            ((IMixinChunk) chunk).getPendingLightUpdates().incrementAndGet();
+            ((IMixinChunk) chunk).setLightUpdateTime(worldTime);
+        }
+        mixinWorld.getLightingQueue().execute(() -> {
+            try {
+                relighter.relight(seeds);
+                AsyncLightingQueue.notifyLightSet(this.world, changedPositions);
+            } finally {
+                for (Chunk chunk : chunks) {
+                    ((IMixinChunk) chunk).getPendingLightUpdates().decrementAndGet();
+                }
+            }
+        });
+    }
+
+    // The section's chunk and the eight around it, or null if any of them is not loaded
+    private Chunk[] getNeighborhood(int chunkX, int chunkZ) {
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) this.world.getChunkProvider();
+        final Chunk[] chunks = new Chunk[9];
+        for (int z = 0; z < 3; z++) {
+            for (int x = 0; x < 3; x++) {
+                final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive(chunkX + x - 1, chunkZ + z - 1);
+                if (chunk == null || chunk.unloadQueued) {
+                    return null;
+                }
+                chunks[x + z * 3] = chunk;
+            }
+        }
+        return chunks;
+    }
+
+    private static boolean isAsyncLighting() {
+        return SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+                && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting();
+    }
+
+}
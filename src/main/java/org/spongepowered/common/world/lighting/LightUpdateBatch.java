@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The light updates requested in a world since the last flush, grouped by
+ * the chunk they start in.
+ *
+ * <p>Each position is only kept once per light type, as checking a
+ * position twice against the same world state does nothing the first
+ * check did not already do.</p>
+ */
+final class LightUpdateBatch {
+
+    // The size, in chunks, of the cells that are handed to a single worker
+    private static final int CELL_SHIFT = 2;
+
+    private final LongOpenHashSet skyPositions = new LongOpenHashSet();
+    private final LongOpenHashSet blockPositions = new LongOpenHashSet();
+    private final Long2ObjectOpenHashMap<ChunkJob> jobs = new Long2ObjectOpenHashMap<>();
+    private int size;
+
+    boolean contains(EnumSkyBlock lightType, BlockPos pos) {
+        return getPositions(lightType).contains(pos.toLong());
+    }
+
+    /**
+     * Adds a light update.
+     *
+     * @param lightType The light type
+     * @param pos The position
+     * @param chunk The chunk containing the position
+     * @param neighbors The chunks the update may read and write besides its own
+     * @return False if the update was already in this batch
+     */
+    boolean add(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors) {
+        final long key = pos.toLong();
+        if (!getPositions(lightType).add(key)) {
+            return false;
+        }
+        final long chunkKey = ChunkPos.asLong(chunk.x, chunk.z);
+        ChunkJob job = this.jobs.get(chunkKey);
+        if (job == null) {
+            job = new ChunkJob(chunk, neighbors);
+            this.jobs.put(chunkKey, job);
+        }
+        (lightType == EnumSkyBlock.SKY ? job.skyUpdates : job.blockUpdates).add(key);
+        this.size++;
+        return true;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    Collection<ChunkJob> getJobs() {
+        return this.jobs.values();
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Splits the batch into phases that have to run one after another. The
+     * cells within a phase touch disjoint sets of chunks, so they can run in
+     * parallel, while the chunk jobs within a cell run in order.
+     *
+     * <p>A chunk job reads and writes its own chunk and the eight around
+     * it. Cells are squares of chunks coloured like a checkerboard with four
+     * colours, so two cells of the same colour are always at least a full
+     * cell apart and their neighbourhoods can not overlap.</p>
+     *
+     * @return The phases, each a list of cells
+     */
+    List<List<List<ChunkJob>>> getPhases() {
+        final List<Long2ObjectMap<List<ChunkJob>>> cellsByColor = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            cellsByColor.add(new Long2ObjectOpenHashMap<>());
+        }
+        for (ChunkJob job : this.jobs.values()) {
+            final int cellX = job.chunk.x >> CELL_SHIFT;
+            final int cellZ = job.chunk.z >> CELL_SHIFT;
+            final Long2ObjectMap<List<ChunkJob>> cells = cellsByColor.get((cellX & 1) | (cellZ & 1) << 1);
+            final long cellKey = ChunkPos.asLong(cellX, cellZ);
+            List<ChunkJob> cell = cells.get(cellKey);
+            if (cell == null) {
+                cell = new ArrayList<>();
+                cells.put(cellKey, cell);
+            }
+            cell.add(job);
+        }
+        final List<List<List<ChunkJob>>> phases = new ArrayList<>(4);
+        for (Long2ObjectMap<List<ChunkJob>> cells : cellsByColor) {
+            if (!cells.isEmpty()) {
+                phases.add(new ArrayList<>(cells.values()));
+            }
+        }
+        return phases;
+    }
+
+    private LongOpenHashSet getPositions(EnumSkyBlock lightType) {
+        return lightType == EnumSkyBlock.SKY ? this.skyPositions : this.blockPositions;
+    }
+
+    static final class ChunkJob {
+
+        final Chunk chunk;
+        final List<Chunk> neighbors;
+        final LongArrayList skyUpdates = new LongArrayList();
+        final LongArrayList blockUpdates = new LongArrayList();
+        // The positions whose light was changed, to notify the listeners of once the batch is done
+        final LongOpenHashSet changedPositions = new LongOpenHashSet();
+
+        ChunkJob(Chunk chunk, List<Chunk> neighbors) {
+            this.chunk = chunk;
+            this.neighbors = neighbors;
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.spongepowered.common.interfaces.world.IMixinRegionFile;
+import org.spongepowered.common.world.storage.compression.RegionCompression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Buffers an uncompressed chunk and writes it into its region file with
+ * the given {@link RegionCompression} once closed, then runs the close
+ * callback.
+ */
+public class CompressedChunkBuffer extends ByteArrayOutputStream {
+
+    private final IMixinRegionFile regionFile;
+    private final int x;
+    private final int z;
+    private final RegionCompression compression;
+    private final Runnable onClose;
+    private boolean closed;
+
+    public CompressedChunkBuffer(IMixinRegionFile regionFile, int x, int z, RegionCompression compression, Runnable onClose) {
+        super(8096);
+        this.regionFile = regionFile;
+        this.x = x;
+        this.z = z;
+        this.compression = compression;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            final byte[] compressed = this.compression.compress(this.buf, this.count);
+            this.regionFile.writeCompressed(this.x, this.z, compressed, compressed.length, this.compression);
+        } finally {
+            this.onClose.run();
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.spongepowered.common.world.storage.compression.RegionCompression;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read-only view of a region file backed by a memory mapping.
+ *
+ * <p>Used when scanning whole region files of a world that is not loaded,
+ * such as by a mapped {@link SpongeChunkDataStream}, so that reading every
+ * chunk of a region does not go through the seeks and the lock of a
+ * {@link net.minecraft.world.chunk.storage.RegionFile}. The header is only
+ * read once and compressed payloads without a checksum cannot be verified,
+ * so a file that is written while mapped may return the data of moved
+ * sectors. The file channel is closed once mapped; the mapping is released
+ * when this object is collected, and on some platforms keeps the file from
+ * being written until then.</p>
+ */
+public final class MappedRegionFile {
+
+    public static final int CHUNKS = 1024;
+    private static final int SECTOR_SIZE = 4096;
+
+    private final MappedByteBuffer buffer;
+    private final int[] offsets = new int[CHUNKS];
+
+    public MappedRegionFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < SECTOR_SIZE * 2 || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid region file size " + size + " for " + file);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        final IntBuffer header = this.buffer.asIntBuffer();
+        header.get(this.offsets);
+    }
+
+    /**
+     * Gets whether the chunk at the given index has been saved.
+     *
+     * @param index The chunk index, {@code x + z * 32}
+     * @return True if the chunk is present
+     */
+    public boolean hasChunk(int index) {
+        return this.offsets[index] != 0;
+    }
+
+    /**
+     * Gets the data of the chunk at the given index.
+     *
+     * @param index The chunk index, {@code x + z * 32}
+     * @return The chunk data stream, or null if the chunk is missing or invalid
+     */
+    @Nullable
+    public DataInputStream getChunkDataInputStream(int index) {
+        final int offset = this.offsets[index];
+        if (offset == 0) {
+            return null;
+        }
+        final long start = (long) (offset >> 8) * SECTOR_SIZE;
+        final int sectorCount = offset & 255;
+        if (start + 5 > this.buffer.capacity()) {
+            return null;
+        }
+        final ByteBuffer view = this.buffer.duplicate();
+        view.position((int) start);
+        final int length = view.getInt();
+        if (length <= 0 || length > SECTOR_SIZE * sectorCount || start + 4 + length > this.buffer.capacity()) {
+            return null;
+        }
+        final RegionCompression compression = RegionCompression.byId(view.get() & 0xFF);
+        if (compression == null) {
+            return null;
+        }
+        final byte[] data = new byte[length - 1];
+        view.get(data);
+        try {
+            return new DataInputStream(new BufferedInputStream(compression.decompress(data, 0, data.length)));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
@@ -25,43 +25,80 @@
 package org.spongepowered.common.world.storage;
 
 import com.google.common.collect.Sets;
-import net.minecraft.world.chunk.storage.RegionFile;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
+import org.spongepowered.common.SpongeImpl;
 
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 public class SpongeChunkDataStream implements ChunkDataStream {
 
-    private static class RegionFileItr {
+    private abstract static class RegionFileItr {
 
-        private final RegionFile file;
         public int index;
 
-        public RegionFileItr(RegionFile regionFile) {
-            this.file = regionFile;
-        }
-
         public int getNext() {
             int index = this.index;
-            int[] offsets = this.file.offsets;
-            while (index != -1 && index < offsets.length && offsets[index] == 0) {
+            while (index != -1 && index < MappedRegionFile.CHUNKS && !hasChunk(index)) {
                 index++;
             }
-            if (index >= offsets.length) {
+            if (index >= MappedRegionFile.CHUNKS) {
                 return -1;
             }
             return index;
         }
 
+        abstract boolean hasChunk(int index);
+
+        @Nullable
+        public abstract DataInputStream getStreamAt(int index);
+
+    }
+
+    // Reads through the region file cache, under the lock of the region file
+    private static final class CachedRegionFileItr extends RegionFileItr {
+
+        private final File file;
+
+        CachedRegionFileItr(File file) {
+            this.file = file;
+        }
+
+        @Override
+        boolean hasChunk(int index) {
+            return SpongeRegionFileCache.chunkExists(this.file, index & 31, index >>> 5);
+        }
+
+        @Override
         public DataInputStream getStreamAt(int index) {
-            int x = index & 31;
-            int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
+            return SpongeRegionFileCache.getChunkInputStream(this.file, index & 31, index >>> 5);
+        }
+
+    }
+
+    private static final class MappedRegionFileItr extends RegionFileItr {
+
+        private final MappedRegionFile file;
+
+        MappedRegionFileItr(MappedRegionFile file) {
+            this.file = file;
+        }
+
+        @Override
+        boolean hasChunk(int index) {
+            return this.file.hasChunk(index);
+        }
+
+        @Override
+        public DataInputStream getStreamAt(int index) {
+            return this.file.getChunkDataInputStream(index);
         }
 
     }
@@ -69,9 +106,26 @@ public DataInputStream getStreamAt(int index) {
     private final Set<Path> openedFiles = Sets.newHashSet();
     private RegionFileItr regionFileItr;
     private final Path worldDir;
+    private final boolean mapped;
 
     public SpongeChunkDataStream(Path worldDir) {
+        this(worldDir, false);
+    }
+
+    /**
+     * Creates a stream of the chunks saved in a world directory.
+     *
+     * <p>Mapped streams read each region file through a
+     * {@link MappedRegionFile}, which does not see later writes. They must
+     * only be used for worlds that are not loaded, such as by offline
+     * tools.</p>
+     *
+     * @param worldDir The world directory
+     * @param mapped Whether to read the region files through a memory mapping
+     */
+    public SpongeChunkDataStream(Path worldDir, boolean mapped) {
         this.worldDir = worldDir;
+        this.mapped = mapped;
     }
 
     private boolean itrAvailable() {
@@ -81,8 +135,19 @@ private boolean itrAvailable() {
         Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
         for (Path file : files) {
             if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
                 this.openedFiles.add(file);
+                if (!this.mapped) {
+                    this.regionFileItr = new CachedRegionFileItr(file.toFile());
+                    return true;
+                }
+                final MappedRegionFile regionFile;
+                try {
+                    regionFile = new MappedRegionFile(file);
+                } catch (IOException e) {
+                    SpongeImpl.getLogger().warn("Skipping unreadable region file {}", file, e);
+                    continue;
+                }
+                this.regionFileItr = new MappedRegionFileItr(regionFile);
                 return true;
             }
         }
@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.storage.ISaveHandler;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldSavedData;
+
+import javax.annotation.Nullable;
+
+/**
+ * The {@link MapStorage} shared by all worlds. Worlds ticking on different
+ * {@link org.spongepowered.common.world.WorldTickThread}s may load and save
+ * data concurrently, so every access is synchronized.
+ */
+public class SpongeMapStorage extends MapStorage {
+
+    public SpongeMapStorage(ISaveHandler saveHandler) {
+        super(saveHandler);
+    }
+
+    @Nullable
+    @Override
+    public synchronized WorldSavedData getOrLoadData(Class<? extends WorldSavedData> clazz, String dataIdentifier) {
+        return super.getOrLoadData(clazz, dataIdentifier);
+    }
+
+    @Override
+    public synchronized void setData(String dataIdentifier, WorldSavedData data) {
+        super.setData(dataIdentifier, data);
+    }
+
+    @Override
+    public synchronized void saveAllData() {
+        super.saveAllData();
+    }
+
+    @Override
+    public synchronized int getUniqueDataId(String key) {
+        return super.getUniqueDataId(key);
+    }
+
+}
@@ -0,0 +1,340 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinRegionFile;
+import org.spongepowered.common.world.storage.compression.RegionCompression;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Replaces the handle cache of {@link net.minecraft.world.chunk.storage.RegionFileCache}.
+ *
+ * <p>Handles are spread over a number of stripes, each with its own lock
+ * and least recently used ordering, so that lookups of different region
+ * files rarely contend. When a stripe is full, its least recently used
+ * handle that is not currently in use by a chunk read or write is closed,
+ * rather than closing every open handle at once.</p>
+ *
+ * <p>Region files are opened outside of the stripe locks, so lookups of
+ * open region files never wait for file IO. Chunk streams keep their region
+ * file pinned until they are done, including streams obtained from a
+ * {@link RegionFile} handed out by {@link #getRegionFile(File, boolean)},
+ * which go through this cache again, see
+ * {@link org.spongepowered.common.mixin.core.world.chunk.storage.MixinRegionFile}.</p>
+ */
+public final class SpongeRegionFileCache {
+
+    private static final int STRIPES = 16;
+    private static final Stripe[] stripes = new Stripe[STRIPES];
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private SpongeRegionFileCache() {
+    }
+
+    public static File getRegionFileLocation(File worldDir, int chunkX, int chunkZ) {
+        return new File(new File(worldDir, "region"), "r." + (chunkX >> 5) + "." + (chunkZ >> 5) + ".mca");
+    }
+
+    /**
+     * Gets the number of region files each stripe keeps open. The maximum
+     * number of open region files is read from the config on every call,
+     * so config reloads apply to the next region file opened.
+     *
+     * @return The capacity of a stripe
+     */
+    private static int getStripeCapacity() {
+        final int maxOpenFiles = SpongeImpl.getGlobalConfig().getConfig().getWorld().getRegionFileCacheSize();
+        return Math.max(1, (maxOpenFiles + STRIPES - 1) / STRIPES);
+    }
+
+    /**
+     * Gets the region file, opening it if necessary. The handle is not
+     * pinned, so it may be closed by a later eviction. Chunk streams of the
+     * handle pin the region file themselves, and read or write through the
+     * region file that is open at that time if this one was closed.
+     *
+     * @param file The region file
+     * @param create Whether to create the region file if it does not exist
+     * @return The region file, or null if it does not exist and should not be created
+     */
+    @Nullable
+    public static RegionFile getRegionFile(File file, boolean create) {
+        final Entry entry = acquire(file, create);
+        if (entry == null) {
+            return null;
+        }
+        release(entry);
+        return entry.regionFile;
+    }
+
+    @Nullable
+    public static DataInputStream getChunkInputStream(File worldDir, int chunkX, int chunkZ) {
+        return getChunkInputStream(getRegionFileLocation(worldDir, chunkX, chunkZ), chunkX & 31, chunkZ & 31);
+    }
+
+    /**
+     * Reads a chunk from a region file.
+     *
+     * @param file The region file
+     * @param x The chunk x coordinate within the region
+     * @param z The chunk z coordinate within the region
+     * @return The chunk data stream, or null if the chunk does not exist
+     */
+    @Nullable
+    public static DataInputStream getChunkInputStream(File file, int x, int z) {
+        final Entry entry = acquire(file, false);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            // The chunk is read into memory before the stream is returned, so the handle can be released right away
+            return entry.regionFile.getChunkDataInputStream(x, z);
+        } finally {
+            release(entry);
+        }
+    }
+
+    public static boolean chunkExists(File worldDir, int chunkX, int chunkZ) {
+        return chunkExists(getRegionFileLocation(worldDir, chunkX, chunkZ), chunkX & 31, chunkZ & 31);
+    }
+
+    /**
+     * Gets whether a chunk has been saved to a region file.
+     *
+     * @param file The region file
+     * @param x The chunk x coordinate within the region
+     * @param z The chunk z coordinate within the region
+     * @return True if the chunk exists
+     */
+    public static boolean chunkExists(File file, int x, int z) {
+        final Entry entry = acquire(file, false);
+        if (entry == null) {
+            return false;
+        }
+        try {
+            return entry.regionFile.offsets[x + z * 32] != 0;
+        } finally {
+            release(entry);
+        }
+    }
+
+    /**
+     * Gets a stream to write a chunk into its region file. The region file
+     * stays open until the stream is closed and the chunk written.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param compression The compression to store the chunk with
+     * @return The chunk output stream
+     */
+    public static DataOutputStream getChunkOutputStream(File worldDir, int chunkX, int chunkZ, RegionCompression compression) {
+        return getChunkOutputStream(getRegionFileLocation(worldDir, chunkX, chunkZ), chunkX & 31, chunkZ & 31, compression);
+    }
+
+    /**
+     * Gets a stream to write a chunk into a region file. The region file
+     * stays open until the stream is closed and the chunk written.
+     *
+     * @param file The region file
+     * @param x The chunk x coordinate within the region
+     * @param z The chunk z coordinate within the region
+     * @param compression The compression to store the chunk with
+     * @return The chunk output stream
+     */
+    public static DataOutputStream getChunkOutputStream(File file, int x, int z, RegionCompression compression) {
+        final Entry entry = acquire(file, true);
+        return new DataOutputStream(new CompressedChunkBuffer((IMixinRegionFile) entry.regionFile, x, z, compression, () -> release(entry)));
+    }
+
+    /**
+     * Closes all open region files.
+     */
+    public static void closeAll() {
+        for (Stripe stripe : stripes) {
+            final List<Entry> closing;
+            synchronized (stripe) {
+                closing = new ArrayList<>(stripe.entries.values());
+                stripe.entries.clear();
+            }
+            for (Entry entry : closing) {
+                close(entry);
+            }
+        }
+    }
+
+    public static int getOpenFileCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.entries.size();
+            }
+        }
+        return count;
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public static double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Nullable
+    private static Entry acquire(File file, boolean create) {
+        final Stripe stripe = getStripe(file);
+        Entry entry = pinCached(stripe, file);
+        if (entry != null) {
+            return entry;
+        }
+        final List<Entry> evicted = new ArrayList<>(1);
+        // Only one region file of a stripe is opened at a time, so a region file is never opened twice,
+        // but the stripe lock is not held while opening so lookups of open region files don't wait
+        synchronized (stripe.openLock) {
+            entry = pinCached(stripe, file);
+            if (entry != null) {
+                return entry;
+            }
+            if (!create && !file.exists()) {
+                return null;
+            }
+            misses.increment();
+            final File regionDir = file.getParentFile();
+            if (regionDir != null && !regionDir.exists()) {
+                regionDir.mkdirs();
+            }
+            final RegionFile regionFile = new RegionFile(file);
+            ((IMixinRegionFile) regionFile).setCacheFile(file);
+            entry = new Entry(file, regionFile);
+            entry.pins++;
+
+            final int capacity = getStripeCapacity();
+            synchronized (stripe) {
+                stripe.entries.put(file, entry);
+
+                // Evict the least recently used handles that are not in use
+                final Iterator<Entry> iterator = stripe.entries.values().iterator();
+                while (stripe.entries.size() > capacity && iterator.hasNext()) {
+                    final Entry candidate = iterator.next();
+                    if (candidate.pins == 0) {
+                        iterator.remove();
+                        evicted.add(candidate);
+                    }
+                }
+            }
+        }
+        for (Entry candidate : evicted) {
+            evictions.increment();
+            close(candidate);
+        }
+        return entry;
+    }
+
+    @Nullable
+    private static Entry pinCached(Stripe stripe, File file) {
+        synchronized (stripe) {
+            final Entry cached = stripe.entries.get(file);
+            if (cached != null) {
+                hits.increment();
+                cached.pins++;
+            }
+            return cached;
+        }
+    }
+
+    private static void release(Entry entry) {
+        final Stripe stripe = getStripe(entry.file);
+        synchronized (stripe) {
+            entry.pins--;
+        }
+    }
+
+    private static void close(Entry entry) {
+        // Region file reads and writes hold the region file's lock, wait for any in progress
+        synchronized (entry.regionFile) {
+            try {
+                entry.regionFile.close();
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to close region file " + entry.file, e);
+            }
+        }
+    }
+
+    private static Stripe getStripe(File file) {
+        return stripes[(file.hashCode() & 0x7FFFFFFF) % STRIPES];
+    }
+
+    private static final class Stripe {
+
+        final LinkedHashMap<File, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        // Held while opening a region file of this stripe
+        final Object openLock = new Object();
+    }
+
+    private static final class Entry {
+
+        final File file;
+        final RegionFile regionFile;
+        int pins;
+
+        Entry(File file, RegionFile regionFile) {
+            this.file = file;
+            this.regionFile = regionFile;
+        }
+    }
+
+}
@@ -31,7 +31,6 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.storage.IChunkLoader;
 import net.minecraft.world.chunk.storage.RegionFile;
-import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.persistence.NbtTranslator;
@@ -68,7 +67,7 @@ public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServe
         }
         File worldDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().toFile();
         return SpongeImpl.getScheduler().submitAsyncTask(() -> {
-            DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
+            DataInputStream stream = SpongeRegionFileCache.getChunkInputStream(worldDir, x, z);
             return Optional.ofNullable(readDataFromRegion(stream));
         });
     }
@@ -88,7 +87,8 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         if (!level.hasKey(NbtDataUtil.CHUNK_DATA_SECTIONS, NbtDataUtil.TAG_LIST)) {
             return null;
         }
-        return NbtTranslator.getInstance().translateFrom(level);
+        // The compound was just read and is not used elsewhere, so values are only translated when accessed
+        return NbtTranslator.getInstance().translateLazily(level);
     }
 
     public static Iterable<Path> listRegionFiles(Path worldDir) {
@@ -102,17 +102,7 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
     // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
-        File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
-        if (regionFile != null) {
-            return regionFile;
-        }
-        if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
-        }
-        regionFile = new RegionFile(file);
-        RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
-        return regionFile;
+        return SpongeRegionFileCache.getRegionFile(regionFilePath.toFile(), true);
     }
 
 }
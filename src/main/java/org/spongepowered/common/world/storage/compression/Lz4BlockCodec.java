@@ -0,0 +1,205 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.compression;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A pure java implementation of the LZ4 block format.
+ *
+ * <p>The compressed payload is prefixed with the uncompressed length as a
+ * big endian int, the remainder is a single LZ4 block. Chunk payloads are
+ * always small enough to be compressed as one block.</p>
+ */
+final class Lz4BlockCodec {
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 65535;
+    private static final int HASH_LOG = 14;
+    private static final int RUN_MASK = 15;
+    private static final int ML_MASK = 15;
+    private static final int HEADER_SIZE = 4;
+
+    private Lz4BlockCodec() {
+    }
+
+    static int maxCompressedLength(int length) {
+        return HEADER_SIZE + length + length / 255 + 16;
+    }
+
+    static byte[] compress(byte[] src, int length) {
+        final byte[] dst = new byte[maxCompressedLength(length)];
+        dst[0] = (byte) (length >>> 24);
+        dst[1] = (byte) (length >>> 16);
+        dst[2] = (byte) (length >>> 8);
+        dst[3] = (byte) length;
+        int dOff = HEADER_SIZE;
+        int anchor = 0;
+
+        if (length >= MF_LIMIT + 1) {
+            final int[] table = new int[1 << HASH_LOG];
+            Arrays.fill(table, -1);
+            final int limit = length - MF_LIMIT;
+            final int matchLimit = length - LAST_LITERALS;
+            int ip = 0;
+            while (ip < limit) {
+                final int sequence = readInt(src, ip);
+                final int hash = hash(sequence);
+                int ref = table[hash];
+                table[hash] = ip;
+                if (ref < 0 || ip - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+                    ip++;
+                    continue;
+                }
+                // Extend the match backwards into the pending literals
+                while (ip > anchor && ref > 0 && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+                int matchLength = MIN_MATCH;
+                while (ip + matchLength < matchLimit && src[ip + matchLength] == src[ref + matchLength]) {
+                    matchLength++;
+                }
+                dOff = writeSequence(src, anchor, ip - anchor, ip - ref, matchLength, dst, dOff);
+                ip += matchLength;
+                anchor = ip;
+            }
+        }
+
+        dOff = writeLastLiterals(src, anchor, length - anchor, dst, dOff);
+        return Arrays.copyOf(dst, dOff);
+    }
+
+    static byte[] decompress(byte[] src, int offset, int length) throws IOException {
+        if (length < HEADER_SIZE) {
+            throw new IOException("Truncated LZ4 block");
+        }
+        final int uncompressedLength = ((src[offset] & 0xFF) << 24) | ((src[offset + 1] & 0xFF) << 16)
+                | ((src[offset + 2] & 0xFF) << 8) | (src[offset + 3] & 0xFF);
+        if (uncompressedLength < 0) {
+            throw new IOException("Invalid LZ4 block length " + uncompressedLength);
+        }
+        final byte[] dst = new byte[uncompressedLength];
+        final int end = offset + length;
+        int ip = offset + HEADER_SIZE;
+        int op = 0;
+        try {
+            while (ip < end) {
+                final int token = src[ip++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 255);
+                }
+                System.arraycopy(src, ip, dst, op, literalLength);
+                ip += literalLength;
+                op += literalLength;
+                if (ip >= end) {
+                    break;
+                }
+                final int matchOffset = (src[ip++] & 0xFF) | ((src[ip++] & 0xFF) << 8);
+                int matchLength = token & ML_MASK;
+                if (matchLength == ML_MASK) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+                final int ref = op - matchOffset;
+                if (matchOffset == 0 || ref < 0) {
+                    throw new IOException("Invalid LZ4 match offset " + matchOffset);
+                }
+                if (matchOffset >= matchLength) {
+                    System.arraycopy(dst, ref, dst, op, matchLength);
+                } else {
+                    // Overlapping copy, has to be done byte by byte
+                    for (int i = 0; i < matchLength; i++) {
+                        dst[op + i] = dst[ref + i];
+                    }
+                }
+                op += matchLength;
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Malformed LZ4 block", e);
+        }
+        if (op != uncompressedLength) {
+            throw new IOException("LZ4 block decompressed to " + op + " bytes, expected " + uncompressedLength);
+        }
+        return dst;
+    }
+
+    private static int writeSequence(byte[] src, int literalOffset, int literalLength, int matchOffset, int matchLength, byte[] dst, int dOff) {
+        final int extraMatch = matchLength - MIN_MATCH;
+        final int tokenOff = dOff++;
+        int token = (Math.min(literalLength, RUN_MASK) << 4) | Math.min(extraMatch, ML_MASK);
+        dst[tokenOff] = (byte) token;
+        if (literalLength >= RUN_MASK) {
+            dOff = writeLength(literalLength - RUN_MASK, dst, dOff);
+        }
+        System.arraycopy(src, literalOffset, dst, dOff, literalLength);
+        dOff += literalLength;
+        dst[dOff++] = (byte) matchOffset;
+        dst[dOff++] = (byte) (matchOffset >>> 8);
+        if (extraMatch >= ML_MASK) {
+            dOff = writeLength(extraMatch - ML_MASK, dst, dOff);
+        }
+        return dOff;
+    }
+
+    private static int writeLastLiterals(byte[] src, int literalOffset, int literalLength, byte[] dst, int dOff) {
+        dst[dOff++] = (byte) (Math.min(literalLength, RUN_MASK) << 4);
+        if (literalLength >= RUN_MASK) {
+            dOff = writeLength(literalLength - RUN_MASK, dst, dOff);
+        }
+        System.arraycopy(src, literalOffset, dst, dOff, literalLength);
+        return dOff + literalLength;
+    }
+
+    private static int writeLength(int length, byte[] dst, int dOff) {
+        while (length >= 255) {
+            dst[dOff++] = (byte) 255;
+            length -= 255;
+        }
+        dst[dOff++] = (byte) length;
+        return dOff;
+    }
+
+    private static int readInt(byte[] src, int offset) {
+        return (src[offset] & 0xFF) | ((src[offset + 1] & 0xFF) << 8) | ((src[offset + 2] & 0xFF) << 16) | ((src[offset + 3] & 0xFF) << 24);
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+}
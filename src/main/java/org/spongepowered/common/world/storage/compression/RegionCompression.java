@@ -0,0 +1,168 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * The compression types a chunk may be stored with inside of a region file.
+ *
+ * <p>The id is the compression type byte written in front of every chunk
+ * payload. Vanilla only knows {@link #GZIP} and {@link #ZLIB}, the other
+ * types are only understood by Sponge and use ids that stay clear of any
+ * id vanilla may introduce.</p>
+ */
+public enum RegionCompression {
+
+    GZIP(1, "gzip") {
+        @Override
+        public InputStream decompress(byte[] data, int offset, int length) throws IOException {
+            return new GZIPInputStream(new ByteArrayInputStream(data, offset, length));
+        }
+
+        @Override
+        public byte[] compress(byte[] data, int length) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 64);
+            try (OutputStream stream = new GZIPOutputStream(out)) {
+                stream.write(data, 0, length);
+            }
+            return out.toByteArray();
+        }
+    },
+    ZLIB(2, "zlib") {
+        @Override
+        public InputStream decompress(byte[] data, int offset, int length) throws IOException {
+            return new InflaterInputStream(new ByteArrayInputStream(data, offset, length));
+        }
+
+        @Override
+        public byte[] compress(byte[] data, int length) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 64);
+            try (OutputStream stream = new DeflaterOutputStream(out)) {
+                stream.write(data, 0, length);
+            }
+            return out.toByteArray();
+        }
+    },
+    NONE(100, "none") {
+        @Override
+        public InputStream decompress(byte[] data, int offset, int length) {
+            return new ByteArrayInputStream(data, offset, length);
+        }
+
+        @Override
+        public byte[] compress(byte[] data, int length) {
+            return Arrays.copyOf(data, length);
+        }
+    },
+    LZ4(101, "lz4") {
+        @Override
+        public InputStream decompress(byte[] data, int offset, int length) throws IOException {
+            return new ByteArrayInputStream(Lz4BlockCodec.decompress(data, offset, length));
+        }
+
+        @Override
+        public byte[] compress(byte[] data, int length) {
+            return Lz4BlockCodec.compress(data, length);
+        }
+    };
+
+    private static final RegionCompression[] BY_ID = new RegionCompression[256];
+
+    static {
+        for (RegionCompression compression : values()) {
+            BY_ID[compression.id] = compression;
+        }
+    }
+
+    private final int id;
+    private final String name;
+
+    RegionCompression(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets a stream over the decompressed contents of the given data.
+     *
+     * @param data The compressed data
+     * @param offset The offset of the compressed data
+     * @param length The length of the compressed data
+     * @return The decompressed stream
+     * @throws IOException If the data is malformed
+     */
+    public abstract InputStream decompress(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     * Compresses the first {@code length} bytes of the given data.
+     *
+     * @param data The uncompressed data
+     * @param length The length of the uncompressed data
+     * @return The compressed data
+     * @throws IOException If the data could not be compressed
+     */
+    public abstract byte[] compress(byte[] data, int length) throws IOException;
+
+    @Nullable
+    public static RegionCompression byId(int id) {
+        if (id < 0 || id >= BY_ID.length) {
+            return null;
+        }
+        return BY_ID[id];
+    }
+
+    @Nullable
+    public static RegionCompression byName(String name) {
+        final String lowerName = name.toLowerCase(Locale.ENGLISH);
+        for (RegionCompression compression : values()) {
+            if (compression.name.equals(lowerName)) {
+                return compression;
+            }
+        }
+        return null;
+    }
+
+}
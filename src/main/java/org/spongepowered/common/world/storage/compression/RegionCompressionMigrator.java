@@ -0,0 +1,318 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.compression;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the chunks of region files from one {@link RegionCompression} to
+ * another, and measures the load throughput of each compression type.
+ *
+ * <p>This works directly on the region file format and does not depend on
+ * the game being loaded, so that worlds can be migrated while the server is
+ * offline. Region files are rewritten into a temporary file which replaces
+ * the original once every chunk has been converted.</p>
+ */
+public final class RegionCompressionMigrator {
+
+    private static final int SECTOR_SIZE = 4096;
+    private static final int SECTOR_INTS = SECTOR_SIZE / 4;
+    private static final int MAX_SECTORS_PER_CHUNK = 255;
+    private static final int BENCHMARK_WARMUP_ROUNDS = 10;
+    private static final int BENCHMARK_ROUNDS = 5;
+    // The game is not loaded when run from the command line, so this does not go through SpongeImpl
+    private static final Logger logger = LogManager.getLogger("Sponge");
+
+    private RegionCompressionMigrator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            logger.error("Usage: RegionCompressionMigrator <migrate|benchmark> <world directory> [compression]");
+            System.exit(1);
+            return;
+        }
+        final Path worldDir = Paths.get(args[1]);
+        if (args[0].equalsIgnoreCase("benchmark")) {
+            for (Map.Entry<RegionCompression, Throughput> entry : benchmark(worldDir).entrySet()) {
+                logger.info("{}: {}", entry.getKey().getName(), entry.getValue());
+            }
+            return;
+        }
+        final RegionCompression target = args.length > 2 ? RegionCompression.byName(args[2]) : null;
+        if (target == null) {
+            logger.error("Unknown or missing compression type, expected one of gzip, zlib, none or lz4");
+            System.exit(1);
+            return;
+        }
+        int converted = 0;
+        for (Path regionFile : listRegionFiles(worldDir)) {
+            converted += migrate(regionFile, target);
+        }
+        logger.info("Converted {} chunks to {}", converted, target.getName());
+    }
+
+    public static List<Path> listRegionFiles(Path worldDir) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        final Path regionDir = worldDir.resolve("region");
+        if (!Files.isDirectory(regionDir)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(regionDir, "*.mca")) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Rewrites every chunk of the region file with the target compression.
+     *
+     * @param regionFile The region file
+     * @param target The compression to write chunks with
+     * @return The number of converted chunks
+     * @throws IOException If the region file could not be read or written
+     */
+    public static int migrate(Path regionFile, RegionCompression target) throws IOException {
+        if (Files.size(regionFile) < 2 * SECTOR_SIZE) {
+            return 0;
+        }
+        final Path tempFile = regionFile.resolveSibling(regionFile.getFileName() + ".tmp");
+        int converted = 0;
+        try (RandomAccessFile in = new RandomAccessFile(regionFile.toFile(), "r");
+                RandomAccessFile out = new RandomAccessFile(tempFile.toFile(), "rw")) {
+            out.setLength(0);
+            final int[] offsets = new int[SECTOR_INTS];
+            final int[] timestamps = new int[SECTOR_INTS];
+            in.seek(0);
+            for (int i = 0; i < SECTOR_INTS; i++) {
+                offsets[i] = in.readInt();
+            }
+            for (int i = 0; i < SECTOR_INTS; i++) {
+                timestamps[i] = in.readInt();
+            }
+
+            final int[] newOffsets = new int[SECTOR_INTS];
+            int nextSector = 2;
+            for (int i = 0; i < SECTOR_INTS; i++) {
+                final byte[] chunk = readRawChunk(in, offsets[i]);
+                if (chunk == null) {
+                    continue;
+                }
+                int type = chunk[0] & 0xFF;
+                byte[] payload = null;
+                final RegionCompression source = RegionCompression.byId(type);
+                if (source != null && source != target) {
+                    final byte[] uncompressed = readFully(source.decompress(chunk, 1, chunk.length - 1));
+                    final byte[] compressed = target.compress(uncompressed, uncompressed.length);
+                    if (sectorsFor(compressed.length) <= MAX_SECTORS_PER_CHUNK) {
+                        payload = compressed;
+                        type = target.getId();
+                        converted++;
+                    }
+                }
+                out.seek((long) nextSector * SECTOR_SIZE);
+                final int length;
+                if (payload == null) {
+                    // Unknown type, already in the target type or too large, copy as is
+                    length = chunk.length - 1;
+                    out.writeInt(length + 1);
+                    out.write(chunk);
+                } else {
+                    length = payload.length;
+                    out.writeInt(length + 1);
+                    out.writeByte(type);
+                    out.write(payload);
+                }
+                final int sectors = sectorsFor(length);
+                newOffsets[i] = nextSector << 8 | sectors;
+                nextSector += sectors;
+            }
+
+            out.setLength((long) nextSector * SECTOR_SIZE);
+            out.seek(0);
+            for (int offset : newOffsets) {
+                out.writeInt(offset);
+            }
+            for (int timestamp : timestamps) {
+                out.writeInt(timestamp);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, regionFile, StandardCopyOption.REPLACE_EXISTING);
+        return converted;
+    }
+
+    /**
+     * Loads every chunk of the world's region files and measures how fast the
+     * chunks decompress with each of the {@link RegionCompression}s.
+     *
+     * @param worldDir The world directory
+     * @return The load throughput of each compression type
+     * @throws IOException If a region file could not be read
+     */
+    public static Map<RegionCompression, Throughput> benchmark(Path worldDir) throws IOException {
+        final List<byte[]> samples = new ArrayList<>();
+        for (Path regionFile : listRegionFiles(worldDir)) {
+            try (RandomAccessFile in = new RandomAccessFile(regionFile.toFile(), "r")) {
+                if (in.length() < 2 * SECTOR_SIZE) {
+                    continue;
+                }
+                final int[] offsets = new int[SECTOR_INTS];
+                for (int i = 0; i < SECTOR_INTS; i++) {
+                    offsets[i] = in.readInt();
+                }
+                for (int offset : offsets) {
+                    final byte[] chunk = readRawChunk(in, offset);
+                    final RegionCompression source = chunk == null ? null : RegionCompression.byId(chunk[0] & 0xFF);
+                    if (source != null) {
+                        samples.add(readFully(source.decompress(chunk, 1, chunk.length - 1)));
+                    }
+                }
+            }
+        }
+
+        final Map<RegionCompression, Throughput> results = new EnumMap<>(RegionCompression.class);
+        for (RegionCompression compression : RegionCompression.values()) {
+            final List<byte[]> compressed = new ArrayList<>(samples.size());
+            long uncompressedBytes = 0;
+            long compressedBytes = 0;
+            for (byte[] sample : samples) {
+                final byte[] data = compression.compress(sample, sample.length);
+                compressed.add(data);
+                uncompressedBytes += sample.length;
+                compressedBytes += data.length;
+            }
+            for (int i = 0; i < BENCHMARK_WARMUP_ROUNDS; i++) {
+                decompressAll(compression, compressed);
+            }
+            final long start = System.nanoTime();
+            for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+                decompressAll(compression, compressed);
+            }
+            final long elapsed = (System.nanoTime() - start) / BENCHMARK_ROUNDS;
+            results.put(compression, new Throughput(samples.size(), uncompressedBytes, compressedBytes, elapsed));
+        }
+        return results;
+    }
+
+    private static void decompressAll(RegionCompression compression, List<byte[]> compressed) throws IOException {
+        for (byte[] data : compressed) {
+            readFully(compression.decompress(data, 0, data.length));
+        }
+    }
+
+    private static byte[] readRawChunk(RandomAccessFile in, int offset) throws IOException {
+        if (offset == 0) {
+            return null;
+        }
+        final int sector = offset >> 8;
+        final int sectors = offset & 255;
+        if ((long) (sector + sectors) * SECTOR_SIZE > in.length()) {
+            return null;
+        }
+        in.seek((long) sector * SECTOR_SIZE);
+        final int length = in.readInt();
+        if (length <= 0 || length > sectors * SECTOR_SIZE) {
+            return null;
+        }
+        final byte[] chunk = new byte[length];
+        in.readFully(chunk);
+        return chunk;
+    }
+
+    private static int sectorsFor(int payloadLength) {
+        // Length int and compression type byte are stored in front of the payload
+        return (payloadLength + 5 + SECTOR_SIZE - 1) / SECTOR_SIZE;
+    }
+
+    private static byte[] readFully(InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(SECTOR_SIZE * 4);
+            final byte[] buffer = new byte[SECTOR_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public static final class Throughput {
+
+        private final int chunks;
+        private final long uncompressedBytes;
+        private final long compressedBytes;
+        private final long nanos;
+
+        Throughput(int chunks, long uncompressedBytes, long compressedBytes, long nanos) {
+            this.chunks = chunks;
+            this.uncompressedBytes = uncompressedBytes;
+            this.compressedBytes = compressedBytes;
+            this.nanos = nanos;
+        }
+
+        public int getChunks() {
+            return this.chunks;
+        }
+
+        public double getRatio() {
+            return this.uncompressedBytes == 0 ? 1 : (double) this.compressedBytes / this.uncompressedBytes;
+        }
+
+        public double getChunksPerSecond() {
+            return this.nanos == 0 ? 0 : this.chunks * 1e9 / this.nanos;
+        }
+
+        public double getMegabytesPerSecond() {
+            return this.nanos == 0 ? 0 : this.uncompressedBytes * 1e9 / this.nanos / (1024 * 1024);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d chunks, ratio %.3f, %.1f chunks/s, %.1f MB/s", this.chunks, getRatio(), getChunksPerSecond(),
+                    getMegabytesPerSecond());
+        }
+    }
+
+}
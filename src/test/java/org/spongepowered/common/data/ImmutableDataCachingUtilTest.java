@@ -0,0 +1,132 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.spongepowered.common.data.ImmutableDataCachingUtil.CacheKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ImmutableDataCachingUtilTest {
+
+    public static final class Sample {
+
+        final String kind;
+        final Object value;
+
+        public Sample(String value) {
+            this.kind = "string";
+            this.value = value;
+        }
+
+        public Sample(Integer value) {
+            this.kind = "integer";
+            this.value = value;
+        }
+    }
+
+    public static final class OtherSample {
+
+        final String value;
+
+        public OtherSample(String value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    public void testKeysCompareArguments() {
+        assertEquals(new CacheKey(Sample.class, "a", 1), new CacheKey(Sample.class, "a", 1));
+        assertEquals(new CacheKey(Sample.class, "a", 1).hashCode(), new CacheKey(Sample.class, "a", 1).hashCode());
+        assertNotEquals(new CacheKey(Sample.class, "a", 1), new CacheKey(Sample.class, "a", 2));
+        assertNotEquals(new CacheKey(Sample.class, "a"), new CacheKey(OtherSample.class, "a"));
+    }
+
+    @Test
+    public void testKeysCompareArrayContents() {
+        assertEquals(new CacheKey(Sample.class, (Object) new int[] {1, 2}), new CacheKey(Sample.class, (Object) new int[] {1, 2}));
+        assertEquals(new CacheKey(Sample.class, (Object) new String[] {"a"}), new CacheKey(Sample.class, (Object) new String[] {"a"}));
+        assertNotEquals(new CacheKey(Sample.class, (Object) new int[] {1, 2}), new CacheKey(Sample.class, (Object) new int[] {2, 1}));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testKeysAreUnaffectedByMutatedArguments() {
+        final List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        final Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        final int[] ints = {1, 2};
+        final Object[] nested = {new ArrayList<>(list)};
+
+        final Map<CacheKey, String> cache = new HashMap<>();
+        cache.put(new CacheKey(Sample.class, list, map, ints, nested), "entry");
+
+        list.add("c");
+        map.put("b", 2);
+        ints[0] = 3;
+        ((List<String>) nested[0]).clear();
+
+        // The entry is still reachable with the arguments it was stored with
+        final Map<String, Integer> original = new HashMap<>();
+        original.put("a", 1);
+        final Object[] originalNested = {Arrays.asList("a", "b")};
+        assertEquals("entry", cache.get(new CacheKey(Sample.class, Arrays.asList("a", "b"), original, new int[] {1, 2}, originalNested)));
+        assertNull(cache.get(new CacheKey(Sample.class, list, map, ints, nested)));
+    }
+
+    @Test
+    public void testConstructorsAreResolvedByArgumentTypes() throws Exception {
+        final Sample string = ImmutableDataCachingUtil.construct(Sample.class, "a");
+        final Sample integer = ImmutableDataCachingUtil.construct(Sample.class, 1);
+        assertEquals("string", string.kind);
+        assertEquals("integer", integer.kind);
+
+        // The cached constructors are reused for later arguments of the same types
+        final Sample cachedString = ImmutableDataCachingUtil.construct(Sample.class, "b");
+        final Sample cachedInteger = ImmutableDataCachingUtil.construct(Sample.class, 2);
+        assertEquals("string", cachedString.kind);
+        assertEquals("b", cachedString.value);
+        assertEquals("integer", cachedInteger.kind);
+        assertEquals(2, cachedInteger.value);
+    }
+
+    @Test
+    public void testConstructorsAreCachedPerClass() throws Exception {
+        final Sample sample = ImmutableDataCachingUtil.construct(Sample.class, "a");
+        final OtherSample other = ImmutableDataCachingUtil.construct(OtherSample.class, "a");
+        assertSame(Sample.class, sample.getClass());
+        assertSame(OtherSample.class, other.getClass());
+        assertEquals("a", other.value);
+    }
+}
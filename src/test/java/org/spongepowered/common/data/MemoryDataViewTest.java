@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class MemoryDataViewTest {
+
+    @Test
+    public void testNestedPaths() {
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        container.set(DataQuery.of("a", "b", "c"), 1);
+        container.set(DataQuery.of("a", "d"), "foo");
+
+        assertTrue(container.contains(DataQuery.of("a", "b", "c")));
+        assertFalse(container.contains(DataQuery.of("a", "b", "e")));
+        assertFalse(container.contains(DataQuery.of("a", "d", "e")));
+        assertEquals(1, container.get(DataQuery.of("a", "b", "c")).get());
+        assertEquals("foo", container.get(DataQuery.of("a", "d")).get());
+        assertEquals(DataQuery.of("a", "b"), container.getView(DataQuery.of("a", "b")).get().getCurrentPath());
+        assertFalse(container.get(DataQuery.of("a", "d", "e")).isPresent());
+
+        container.remove(DataQuery.of("a", "b", "c"));
+        assertFalse(container.contains(DataQuery.of("a", "b", "c")));
+        assertTrue(container.contains(DataQuery.of("a", "b")));
+    }
+
+    @Test
+    public void testSetReplacesValueOnPath() {
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        container.set(DataQuery.of("a"), 1);
+        container.set(DataQuery.of("a", "b"), 2);
+
+        assertTrue(container.getView(DataQuery.of("a")).isPresent());
+        assertEquals(2, container.get(DataQuery.of("a", "b")).get());
+    }
+
+    @Test
+    public void testSetTrustedKeepsValues() {
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.CLONED_ON_SET);
+        final List<Integer> list = ImmutableList.of(1, 2, 3);
+        final int[] array = {1, 2, 3};
+        container.setTrusted(DataQuery.of("a", "list"), list);
+        container.setTrusted(DataQuery.of("a", "array"), array);
+        container.set(DataQuery.of("a", "copied"), array);
+
+        assertSame(list, container.get(DataQuery.of("a", "list")).get());
+        assertSame(array, container.get(DataQuery.of("a", "array")).get());
+        assertNotSame(array, container.get(DataQuery.of("a", "copied")).get());
+        assertTrue(Arrays.equals(array, (int[]) container.get(DataQuery.of("a", "copied")).get()));
+    }
+
+}
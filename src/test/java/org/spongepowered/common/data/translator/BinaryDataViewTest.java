@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.translator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.common.data.persistence.BinaryDataFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class BinaryDataViewTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final DataContainer container = DataContainer.createNew();
+        container.set(DataQuery.of("foo", "int"), -1)
+                .set(DataQuery.of("foo", "long"), Long.MIN_VALUE)
+                .set(DataQuery.of("foo", "double"), 10.5D)
+                .set(DataQuery.of("foo", "string"), "bar")
+                .set(DataQuery.of("foo", "flag"), true)
+                .set(DataQuery.of("list"), ImmutableList.of("bar", 2, ImmutableList.of(3L)));
+
+        final BinaryDataFormat format = new BinaryDataFormat("binary", true);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        format.writeTo(output, container);
+        assertEquals(container, format.readFrom(new ByteArrayInputStream(output.toByteArray())));
+    }
+
+    @Test
+    public void testRecords() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (BinaryDataFormat.RecordWriter writer = BinaryDataFormat.openWriter(output, false)) {
+            for (int i = 0; i < 3; i++) {
+                writer.write(DataContainer.createNew()
+                        .set(DataQuery.of("index"), i)
+                        .set(DataQuery.of("array"), new int[] {i, -i}));
+            }
+        }
+
+        try (BinaryDataFormat.RecordReader reader = BinaryDataFormat.openReader(new ByteArrayInputStream(output.toByteArray()))) {
+            for (int i = 0; i < 3; i++) {
+                final DataContainer record = reader.read();
+                assertEquals(i, record.getInt(DataQuery.of("index")).get().intValue());
+                assertArrayEquals(new int[] {i, -i}, (int[]) record.get(DataQuery.of("array")).get());
+            }
+            assertNull(reader.read());
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.translator;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.common.data.persistence.DataViewJsonWriter;
+import org.spongepowered.common.data.persistence.JsonDataFormat;
+
+import java.io.IOException;
+
+public class JsonDataViewTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final DataContainer container = DataContainer.createNew();
+        container.set(DataQuery.of("foo", "int"), 1)
+                .set(DataQuery.of("foo", "long"), Long.MAX_VALUE)
+                .set(DataQuery.of("foo", "double"), 10.5D)
+                .set(DataQuery.of("foo", "string"), "bar")
+                .set(DataQuery.of("list"), ImmutableList.of(1, 2, 3));
+
+        final JsonDataFormat format = new JsonDataFormat();
+        assertEquals(container, format.read(format.write(container)));
+    }
+
+    @Test
+    public void testPrimitiveArray() throws IOException {
+        final DataContainer container = DataContainer.createNew();
+        container.set(DataQuery.of("array"), new int[] {1, 2, 3});
+
+        final DataContainer read = new JsonDataFormat().read(new JsonDataFormat().write(container));
+        assertEquals(ImmutableList.of(1, 2, 3), read.getList(DataQuery.of("array")).get());
+    }
+
+    @Test
+    public void testNestedWriter() throws IOException {
+        final DataViewJsonWriter writer = new DataViewJsonWriter();
+        writer.beginObject()
+                .name("nested").beginObject()
+                    .name("value").value(1)
+                .endObject()
+                .name("list").beginArray()
+                    .value(2)
+                    .beginObject().name("value").value(3).endObject()
+                .endArray()
+                .name("after").value(4)
+                .endObject();
+        final DataContainer result = writer.getResult();
+
+        final DataContainer element = DataContainer.createNew(DataContainer.SafetyMode.NO_DATA_CLONED);
+        element.set(DataQuery.of("value"), 3L);
+        assertEquals(1L, result.get(DataQuery.of("nested", "value")).get());
+        assertEquals(ImmutableList.of(2L, element), result.getList(DataQuery.of("list")).get());
+        assertEquals(4L, result.get(DataQuery.of("after")).get());
+    }
+
+}
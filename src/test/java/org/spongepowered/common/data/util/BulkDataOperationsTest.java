@@ -0,0 +1,153 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import co.aikar.timings.Timings;
+import co.aikar.timings.TimingsFactory;
+import com.google.common.collect.ImmutableList;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.common.interfaces.data.IMixinDataHolder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Optional;
+
+public class BulkDataOperationsTest {
+
+    @BeforeClass
+    public static void mockTimings() throws Exception {
+        final Field field = Timings.class.getDeclaredField("factory");
+        field.setAccessible(true);
+        final Field modifiersField = Field.class.getDeclaredField("modifiers");
+        modifiersField.setAccessible(true);
+        modifiersField.setInt(field, field.getModifiers() & ~Modifier.FINAL);
+        field.set(null, mock(TimingsFactory.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Key<Value<String>> key() {
+        return mock(Key.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ImmutableValue<String> value() {
+        return mock(ImmutableValue.class);
+    }
+
+    private static DataHolder holder(Key<Value<String>> key, DataTransactionResult offerResult) {
+        final DataHolder holder = mock(DataHolder.class);
+        when(holder.offer(key, "value")).thenReturn(offerResult);
+        return holder;
+    }
+
+    @Test
+    public void testOfferStatuses() {
+        final Key<Value<String>> key = key();
+        final List<DataHolder> holders = ImmutableList.of(
+                holder(key, DataTransactionResult.successNoData()),
+                holder(key, DataTransactionResult.failNoData()),
+                holder(key, DataTransactionResult.builder().result(DataTransactionResult.Type.ERROR).build()));
+
+        final byte[] statuses = BulkDataOperations.offer(holders, key, "value");
+        assertEquals(3, statuses.length);
+        assertEquals(DataTransactionResult.Type.SUCCESS, BulkDataOperations.getType(statuses[0]));
+        assertEquals(DataTransactionResult.Type.FAILURE, BulkDataOperations.getType(statuses[1]));
+        assertEquals(DataTransactionResult.Type.ERROR, BulkDataOperations.getType(statuses[2]));
+    }
+
+    @Test
+    public void testOfferAbsorbsResults() {
+        final Key<Value<String>> key = key();
+        final ImmutableValue<String> first = value();
+        final ImmutableValue<String> replaced = value();
+        final ImmutableValue<String> rejected = value();
+        final List<DataHolder> holders = ImmutableList.of(
+                holder(key, DataTransactionResult.builder().result(DataTransactionResult.Type.SUCCESS).success(first).replace(replaced).build()),
+                holder(key, DataTransactionResult.failResult(rejected)));
+
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        final byte[] statuses = BulkDataOperations.offer(holders, key, "value", builder);
+        final DataTransactionResult result = builder.build();
+        assertEquals(DataTransactionResult.Type.SUCCESS, BulkDataOperations.getType(statuses[0]));
+        assertEquals(DataTransactionResult.Type.FAILURE, BulkDataOperations.getType(statuses[1]));
+        assertEquals(ImmutableList.of(first), result.getSuccessfulData());
+        assertEquals(ImmutableList.of(replaced), result.getReplacedData());
+        assertEquals(ImmutableList.of(rejected), result.getRejectedData());
+    }
+
+    @Test
+    public void testGetAndRemove() {
+        final Key<Value<String>> key = key();
+        final DataHolder present = mock(DataHolder.class);
+        when(present.get(key)).thenReturn(Optional.of("value"));
+        when(present.remove(key)).thenReturn(DataTransactionResult.successNoData());
+        final DataHolder absent = mock(DataHolder.class);
+        when(absent.get(key)).thenReturn(Optional.empty());
+        when(absent.remove(key)).thenReturn(DataTransactionResult.failNoData());
+        final List<DataHolder> holders = ImmutableList.of(present, absent);
+
+        final List<String> values = BulkDataOperations.get(holders, key);
+        assertEquals("value", values.get(0));
+        assertNull(values.get(1));
+
+        final byte[] statuses = BulkDataOperations.remove(holders, key);
+        assertEquals(DataTransactionResult.Type.SUCCESS, BulkDataOperations.getType(statuses[0]));
+        assertEquals(DataTransactionResult.Type.FAILURE, BulkDataOperations.getType(statuses[1]));
+    }
+
+    @Test
+    public void testOnlyProcessorHoldersBypassTheirOwnMethods() {
+        final Key<Value<String>> key = key();
+        final DataHolder processorHolder = mock(DataHolder.class, withSettings().extraInterfaces(IMixinDataHolder.class));
+        final DataHolder ownHolder = holder(key, DataTransactionResult.successNoData());
+        final List<DataHolder> holders = ImmutableList.of(processorHolder, ownHolder);
+
+        final byte[] statuses = BulkDataOperations.offer(holders, key, "value");
+        verify(processorHolder, never()).offer(any(Key.class), any());
+        verify(ownHolder).offer(key, "value");
+        // No processor supports the key, so the processor holder fails without asking the holder
+        assertEquals(DataTransactionResult.Type.FAILURE, BulkDataOperations.getType(statuses[0]));
+        assertEquals(DataTransactionResult.Type.SUCCESS, BulkDataOperations.getType(statuses[1]));
+        assertNull(BulkDataOperations.get(holders, key).get(0));
+        verify(processorHolder, never()).get(any(Key.class));
+    }
+
+}
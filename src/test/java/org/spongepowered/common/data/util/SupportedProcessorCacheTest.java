@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SupportedProcessorCacheTest {
+
+    private static final class FakeProcessor {
+
+        final Class<?> holderClass;
+        final boolean classBased;
+        final AtomicInteger checks = new AtomicInteger();
+
+        FakeProcessor(Class<?> holderClass, boolean classBased) {
+            this.holderClass = holderClass;
+            this.classBased = classBased;
+        }
+
+        boolean supports(Object holder) {
+            this.checks.incrementAndGet();
+            return this.holderClass.isInstance(holder);
+        }
+    }
+
+    private static SupportedProcessorCache<FakeProcessor> cache(FakeProcessor... processors) {
+        return new SupportedProcessorCache<>(ImmutableList.copyOf(processors), processor -> processor.classBased, FakeProcessor::supports);
+    }
+
+    @Test
+    public void testDropsUnsupportedClassBasedProcessors() {
+        final FakeProcessor strings = new FakeProcessor(String.class, true);
+        final FakeProcessor integers = new FakeProcessor(Integer.class, true);
+        final SupportedProcessorCache<FakeProcessor> cache = cache(strings, integers);
+
+        final SupportedProcessorCache.Supported<FakeProcessor> supported = cache.get("a");
+        assertEquals(1, supported.size());
+        assertSame(strings, supported.get(0));
+        assertFalse(supported.requiresCheck(0));
+    }
+
+    @Test
+    public void testResolvesOncePerClass() {
+        final FakeProcessor strings = new FakeProcessor(String.class, true);
+        final SupportedProcessorCache<FakeProcessor> cache = cache(strings);
+
+        cache.get("a");
+        cache.get("b");
+        assertEquals(1, strings.checks.get());
+        assertEquals(0, cache.get(1).size());
+        assertEquals(2, strings.checks.get());
+    }
+
+    @Test
+    public void testKeepsOrderOfDynamicProcessors() {
+        final FakeProcessor first = new FakeProcessor(Integer.class, false);
+        final FakeProcessor second = new FakeProcessor(String.class, true);
+        final FakeProcessor third = new FakeProcessor(Object.class, false);
+        final SupportedProcessorCache<FakeProcessor> cache = cache(first, second, third);
+
+        final SupportedProcessorCache.Supported<FakeProcessor> supported = cache.get("a");
+        assertEquals(3, supported.size());
+        assertSame(first, supported.get(0));
+        assertSame(second, supported.get(1));
+        assertSame(third, supported.get(2));
+        assertTrue(supported.requiresCheck(0));
+        assertFalse(supported.requiresCheck(1));
+        assertTrue(supported.requiresCheck(2));
+        assertEquals(0, first.checks.get());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PlayerTrackerTableTest {
+
+    @Test
+    public void testPackRoundTrip() {
+        long packed = PlayerTrackerTable.pack(7, PlayerTrackerTable.NO_PLAYER);
+        assertEquals(7, PlayerTrackerTable.getOwner(packed));
+        assertEquals(PlayerTrackerTable.NO_PLAYER, PlayerTrackerTable.getNotifier(packed));
+        packed = PlayerTrackerTable.pack(PlayerTrackerTable.NO_PLAYER, Integer.MAX_VALUE);
+        assertEquals(PlayerTrackerTable.NO_PLAYER, PlayerTrackerTable.getOwner(packed));
+        assertEquals(Integer.MAX_VALUE, PlayerTrackerTable.getNotifier(packed));
+    }
+
+    @Test
+    public void testSetOwnerKeepsNotifier() {
+        PlayerTrackerTable table = new PlayerTrackerTable();
+        short pos = (short) 0x8F21;
+        assertEquals(PlayerTrackerTable.EMPTY, table.get(pos));
+        table.setNotifier(pos, 3);
+        table.setOwner(pos, 5);
+        assertEquals(5, PlayerTrackerTable.getOwner(table.get(pos)));
+        assertEquals(3, PlayerTrackerTable.getNotifier(table.get(pos)));
+        table.setOwner(pos, PlayerTrackerTable.NO_PLAYER);
+        table.setNotifier(pos, PlayerTrackerTable.NO_PLAYER);
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    public void testArrayRoundTrip() {
+        PlayerTrackerTable table = new PlayerTrackerTable();
+        table.set((short) -1, 1, 2);
+        table.set((short) 17, 3, PlayerTrackerTable.NO_PLAYER);
+        table.set(0x10000F, PlayerTrackerTable.NO_PLAYER, 4);
+        int[][] arrays = table.toArrays();
+
+        PlayerTrackerTable read = new PlayerTrackerTable();
+        read.readArrays(arrays[0], arrays[1]);
+        assertEquals(3, read.size());
+        assertEquals(table.get((short) -1), read.get((short) -1));
+        assertEquals(table.get((short) 17), read.get((short) 17));
+        assertEquals(table.get(0x10000F), read.get(0x10000F));
+    }
+
+}
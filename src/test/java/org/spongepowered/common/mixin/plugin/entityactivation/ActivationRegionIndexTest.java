@@ -0,0 +1,201 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class ActivationRegionIndexTest {
+
+    private static final int MAX_RANGE = 32;
+    private static final int[] RANGES = {16, 24, 32};
+
+    @Test
+    public void testChunksAreUnique() {
+        final ActivationRegionIndex index = new ActivationRegionIndex();
+        index.reset(MAX_RANGE);
+        for (int i = 0; i < 50; i++) {
+            addPlayer(index, 8, 64, 8);
+        }
+        // 32 blocks either side of a player in chunk 0 covers chunks -2 to 2
+        assertEquals(25, index.getChunkCount());
+        assertEquals(50, index.getPlayerCount());
+    }
+
+    @Test
+    public void testEntityRange() {
+        final ActivationRegionIndex index = new ActivationRegionIndex();
+        index.reset(MAX_RANGE);
+        addPlayer(index, 8, 64, 8);
+        final int slot = findSlot(index, 1, 0);
+        assertTrue(index.isInRange(slot, 20, 64, 8, 21, 65, 9, 16));
+        assertFalse(index.isInRange(slot, 30, 64, 8, 31, 65, 9, 16));
+        assertTrue(index.isInRange(slot, 30, 64, 8, 31, 65, 9, 32));
+    }
+
+    @Test
+    public void testResetClearsPlayers() {
+        final ActivationRegionIndex index = new ActivationRegionIndex();
+        index.reset(MAX_RANGE);
+        addPlayer(index, 8, 64, 8);
+        index.reset(MAX_RANGE);
+        assertEquals(0, index.getChunkCount());
+        addPlayer(index, 1000, 64, 1000);
+        for (int slot = 0; slot < index.getChunkCount(); slot++) {
+            assertFalse(index.isInRange(slot, 8, 64, 8, 9, 65, 9, 32));
+        }
+    }
+
+    @Test
+    public void testMatchesPerPlayerScanClustered() {
+        assertMatchesPerPlayerScan(createPlayers(new Random(1), 150, 48), createEntities(new Random(2), 5000, 160));
+    }
+
+    @Test
+    public void testMatchesPerPlayerScanSpread() {
+        assertMatchesPerPlayerScan(createPlayers(new Random(3), 150, 4000), createEntities(new Random(4), 20000, 4000));
+    }
+
+    private static void assertMatchesPerPlayerScan(double[][] players, double[][] entities) {
+        final Map<Long, List<double[]>> chunks = createChunks(entities);
+        final boolean[] expected = new boolean[entities.length];
+        final boolean[] actual = new boolean[entities.length];
+        activatePerPlayer(players, chunks, expected);
+        activateIndexed(new ActivationRegionIndex(), players, chunks, actual);
+        for (int i = 0; i < entities.length; i++) {
+            assertEquals("entity " + i, expected[i], actual[i]);
+        }
+    }
+
+    private static void addPlayer(ActivationRegionIndex index, double x, double y, double z) {
+        index.addPlayer(x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3);
+    }
+
+    private static int findSlot(ActivationRegionIndex index, int chunkX, int chunkZ) {
+        for (int slot = 0; slot < index.getChunkCount(); slot++) {
+            if (index.getChunkX(slot) == chunkX && index.getChunkZ(slot) == chunkZ) {
+                return slot;
+            }
+        }
+        throw new AssertionError("Chunk " + chunkX + ", " + chunkZ + " is not indexed");
+    }
+
+    private static double[][] createPlayers(Random random, int count, int spread) {
+        final double[][] players = new double[count][];
+        for (int i = 0; i < count; i++) {
+            final double x = random.nextDouble() * spread - spread / 2;
+            final double z = random.nextDouble() * spread - spread / 2;
+            players[i] = new double[] {x - 0.3, 64, z - 0.3, x + 0.3, 65.8, z + 0.3};
+        }
+        return players;
+    }
+
+    // entity boxes followed by their activation range and their index
+    private static double[][] createEntities(Random random, int count, int spread) {
+        final double[][] entities = new double[count][];
+        for (int i = 0; i < count; i++) {
+            final double x = random.nextDouble() * spread - spread / 2;
+            final double y = random.nextDouble() * 128;
+            final double z = random.nextDouble() * spread - spread / 2;
+            entities[i] = new double[] {x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3, RANGES[random.nextInt(RANGES.length)], i};
+        }
+        return entities;
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return (chunkX & 0xFFFFFFFFL) | (chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    private static int chunk(double coordinate) {
+        return (int) Math.floor(coordinate / 16.0D);
+    }
+
+    private static Map<Long, List<double[]>> createChunks(double[][] entities) {
+        final Map<Long, List<double[]>> chunks = new HashMap<>();
+        for (double[] entity : entities) {
+            chunks.computeIfAbsent(key(chunk(entity[0]), chunk(entity[2])), k -> new ArrayList<>()).add(entity);
+        }
+        return chunks;
+    }
+
+    /**
+     * The previous activation algorithm, which walks every chunk in range of
+     * each player separately.
+     */
+    private static void activatePerPlayer(double[][] players, Map<Long, List<double[]>> chunks, boolean[] result) {
+        Arrays.fill(result, false);
+        for (double[] player : players) {
+            for (int x = chunk(player[0] - MAX_RANGE); x <= chunk(player[3] + MAX_RANGE); x++) {
+                for (int z = chunk(player[2] - MAX_RANGE); z <= chunk(player[5] + MAX_RANGE); z++) {
+                    final List<double[]> chunk = chunks.get(key(x, z));
+                    if (chunk == null) {
+                        continue;
+                    }
+                    for (double[] entity : chunk) {
+                        if (result[(int) entity[7]]) {
+                            continue;
+                        }
+                        final double range = entity[6];
+                        if (player[0] - range < entity[3] && player[3] + range > entity[0]
+                                && player[1] - 256 < entity[4] && player[4] + 256 > entity[1]
+                                && player[2] - range < entity[5] && player[5] + range > entity[2]) {
+                            result[(int) entity[7]] = true;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void activateIndexed(ActivationRegionIndex index, double[][] players, Map<Long, List<double[]>> chunks,
+            boolean[] result) {
+        Arrays.fill(result, false);
+        index.reset(MAX_RANGE);
+        for (double[] player : players) {
+            index.addPlayer(player[0], player[1], player[2], player[3], player[4], player[5]);
+        }
+        for (int slot = 0; slot < index.getChunkCount(); slot++) {
+            final List<double[]> chunk = chunks.get(key(index.getChunkX(slot), index.getChunkZ(slot)));
+            if (chunk == null) {
+                continue;
+            }
+            for (double[] entity : chunk) {
+                if (index.isInRange(slot, entity[0], entity[1], entity[2], entity[3], entity[4], entity[5], (int) entity[6])) {
+                    result[(int) entity[7]] = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class PathSearchThrottleTest {
+
+    private static List<Long> searches(PathSearchThrottle throttle, long from, long to, int scale) {
+        final List<Long> searches = new ArrayList<>();
+        for (long tick = from; tick < to; tick++) {
+            if (throttle.trySearch(tick, scale)) {
+                searches.add(tick);
+            }
+        }
+        return searches;
+    }
+
+    @Test
+    public void testUnthrottledAlwaysSearches() {
+        final PathSearchThrottle throttle = new PathSearchThrottle();
+        assertEquals(10, searches(throttle, 0, 10, 1).size());
+    }
+
+    @Test
+    public void testFirstSearchIsAllowed() {
+        // Including at the start of a world, where the time is 0
+        assertTrue(new PathSearchThrottle().trySearch(0, 2));
+        assertTrue(new PathSearchThrottle().trySearch(123456789L, 4));
+    }
+
+    @Test
+    public void testThrottledSearchesEveryInterval() {
+        final PathSearchThrottle throttle = new PathSearchThrottle();
+        final int interval = 2 * PathSearchThrottle.THROTTLED_SEARCH_INTERVAL;
+        assertEquals(Arrays.asList(1000L, 1000L + interval, 1000L + 2 * interval, 1000L + 3 * interval),
+                searches(throttle, 1000, 1000 + 4 * interval, 2));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.spongepowered.common.world.ChunkUnloadReason;
+
+public class ChunkUnloadQueueTest {
+
+    @Test
+    public void testDeadlineOrder() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        for (int i = 0; i < 200; i++) {
+            queue.schedule(i, (i * 37) % 200, ChunkUnloadReason.INACTIVE);
+        }
+        long last = Long.MIN_VALUE;
+        while (!queue.isEmpty()) {
+            long deadline = queue.peekDeadline();
+            assertTrue(deadline >= last);
+            last = deadline;
+            queue.poll();
+        }
+    }
+
+    @Test
+    public void testRescheduleKeepsEarliestDeadline() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        assertTrue(queue.schedule(1, 100, ChunkUnloadReason.INACTIVE));
+        assertTrue(queue.schedule(2, 50, ChunkUnloadReason.INACTIVE));
+        assertFalse(queue.schedule(1, 200, ChunkUnloadReason.REQUESTED));
+        assertEquals(2, queue.peekKey());
+        assertFalse(queue.schedule(1, 10, ChunkUnloadReason.MEMORY_PRESSURE));
+        assertEquals(1, queue.peekKey());
+        assertEquals(10, queue.peekDeadline());
+        assertEquals(ChunkUnloadReason.MEMORY_PRESSURE, queue.peekReason());
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void testCancel() {
+        ChunkUnloadQueue queue = new ChunkUnloadQueue();
+        for (int i = 0; i < 10; i++) {
+            queue.schedule(i, 10 - i, ChunkUnloadReason.INACTIVE);
+        }
+        assertTrue(queue.cancel(9));
+        assertFalse(queue.cancel(9));
+        assertFalse(queue.contains(9));
+        assertTrue(queue.cancel(4));
+        assertEquals(8, queue.size());
+        assertEquals(8, queue.poll());
+        assertEquals(7, queue.poll());
+        assertEquals(6, queue.poll());
+        assertEquals(5, queue.poll());
+        assertEquals(3, queue.poll());
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+public class TickIntervalBucketsTest {
+
+    private static List<Integer> due(TickIntervalBuckets<Integer> buckets, long tick) {
+        final List<Integer> due = new ArrayList<>();
+        buckets.iterator(tick).forEachRemaining(due::add);
+        return due;
+    }
+
+    @Test
+    public void testEveryTickKeepsOrder() {
+        final TickIntervalBuckets<Integer> buckets = new TickIntervalBuckets<>();
+        for (int i = 0; i < 5; i++) {
+            buckets.add(i, 1);
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), due(buckets, 0));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), due(buckets, 7));
+    }
+
+    @Test
+    public void testIntervalsAreVisitedOncePerInterval() {
+        final TickIntervalBuckets<Integer> buckets = new TickIntervalBuckets<>();
+        for (int i = 0; i < 40; i++) {
+            buckets.add(i, i % 2 == 0 ? 4 : 1);
+        }
+        final int[] visits = new int[40];
+        for (long tick = 100; tick < 120; tick++) {
+            final List<Integer> due = due(buckets, tick);
+            // 20 every tick plus a quarter of the 20 with an interval of 4
+            assertEquals(25, due.size());
+            for (int element : due) {
+                visits[element]++;
+            }
+        }
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i % 2 == 0 ? 5 : 20, visits[i]);
+        }
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final TickIntervalBuckets<Integer> buckets = new TickIntervalBuckets<>();
+        for (int i = 0; i < 6; i++) {
+            buckets.add(i, i < 3 ? 1 : 2);
+        }
+        for (long tick = 0; tick < 2; tick++) {
+            final Iterator<Integer> iterator = buckets.iterator(tick);
+            while (iterator.hasNext()) {
+                if (iterator.next() >= 2) {
+                    iterator.remove();
+                }
+            }
+        }
+        assertEquals(2, buckets.size());
+        assertEquals(Arrays.asList(0, 1), due(buckets, 0));
+        assertEquals(Arrays.asList(0, 1), due(buckets, 1));
+    }
+
+    @Test
+    public void testRemove() {
+        final TickIntervalBuckets<Integer> buckets = new TickIntervalBuckets<>();
+        for (int i = 0; i < 4; i++) {
+            buckets.add(i, 2);
+        }
+        assertTrue(buckets.remove(1));
+        assertFalse(buckets.remove(1));
+        assertEquals(3, buckets.size());
+        final List<Integer> remaining = new ArrayList<>(due(buckets, 0));
+        remaining.addAll(due(buckets, 1));
+        Collections.sort(remaining);
+        assertEquals(Arrays.asList(0, 2, 3), remaining);
+    }
+
+    @Test
+    public void testRemoveIf() {
+        final TickIntervalBuckets<Integer> buckets = new TickIntervalBuckets<>();
+        for (int i = 0; i < 30; i++) {
+            buckets.add(i, i % 3 + 1);
+        }
+        buckets.removeIf(i -> i >= 10);
+        assertEquals(10, buckets.size());
+        for (long tick = 0; tick < 6; tick++) {
+            for (int element : due(buckets, tick)) {
+                assertFalse(element >= 10);
+            }
+        }
+    }
+}
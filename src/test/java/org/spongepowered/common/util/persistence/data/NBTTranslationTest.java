@@ -25,9 +25,11 @@
 package org.spongepowered.common.util.persistence.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.when;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagLongArray;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.spongepowered.api.data.DataContainer;
@@ -63,4 +65,49 @@ public void testDotContainerKeys() {
         assertEquals(container, translatedContainer);
     }
 
+    @Test
+    public void testLazyTranslation() {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("foo", "bar");
+        compound.setBoolean("flag" + NbtTranslator.BOOLEAN_IDENTIFER, true);
+        final NBTTagCompound inner = new NBTTagCompound();
+        inner.setInteger("value", 7);
+        inner.setIntArray("array", new int[] {1, 2, 3});
+        compound.setTag("inner", inner);
+
+        final DataView lazy = NbtTranslator.getInstance().translateLazily(compound);
+        assertEquals(NbtTranslator.getInstance().translateFrom(compound), lazy);
+        assertEquals(7, lazy.getInt(DataQuery.of("inner", "value")).get().intValue());
+        assertEquals(compound, NbtTranslator.getInstance().translateData(lazy));
+    }
+
+    @Test
+    public void testLazyTranslationSkipsUntranslatableTags() {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("foo", "bar");
+        compound.setTag("longs", new NBTTagLongArray(new long[] {1L, 2L}));
+
+        final DataView lazy = NbtTranslator.getInstance().translateLazily(compound);
+        assertFalse(lazy.contains(DataQuery.of("longs")));
+        assertEquals(1, lazy.getKeys(false).size());
+        assertEquals("bar", lazy.getString(DataQuery.of("foo")).get());
+    }
+
+    @Test
+    public void testLazyTranslationDoesNotModifyCompound() {
+        final NBTTagCompound compound = new NBTTagCompound();
+        final NBTTagCompound inner = new NBTTagCompound();
+        inner.setInteger("value", 7);
+        compound.setTag("inner", inner);
+        final NBTTagCompound original = compound.copy();
+
+        final DataView lazy = NbtTranslator.getInstance().translateLazily(compound);
+        lazy.set(DataQuery.of("inner", "value"), 8);
+        lazy.set(DataQuery.of("other"), "value");
+
+        assertEquals(original, compound);
+        assertEquals(8, lazy.getInt(DataQuery.of("inner", "value")).get().intValue());
+        assertEquals(8, NbtTranslator.getInstance().translateData(lazy).getCompoundTag("inner").getInteger("value"));
+    }
+
 }
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockLilyPad;
+import net.minecraft.block.BlockStairs;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.junit.Test;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+public class CollisionShapeCacheTest {
+
+    private static final class ModBlock extends Block {
+
+        ModBlock() {
+            super(Material.ROCK);
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        public void addCollisionBoxToList(IBlockState state, World worldIn, BlockPos pos, AxisAlignedBB entityBox,
+                List<AxisAlignedBB> collidingBoxes, @Nullable Entity entityIn, boolean isActualState) {
+        }
+    }
+
+    private static final class ModLilyPad extends BlockLilyPad {
+    }
+
+    @Test
+    public void testBlocksWithoutOverrideAreCachable() {
+        assertTrue(CollisionShapeCache.isCachable(Block.class));
+    }
+
+    @Test
+    public void testVanillaOverridesAreCachable() {
+        assertTrue(CollisionShapeCache.isCachable(BlockStairs.class));
+    }
+
+    @Test
+    public void testEntityDependentBlocksAreNotCachable() {
+        // Lily pads let boats through
+        assertFalse(CollisionShapeCache.isCachable(BlockLilyPad.class));
+        assertFalse(CollisionShapeCache.isCachable(ModLilyPad.class));
+    }
+
+    @Test
+    public void testModOverridesAreNotCachable() {
+        assertFalse(CollisionShapeCache.isCachable(ModBlock.class));
+    }
+}
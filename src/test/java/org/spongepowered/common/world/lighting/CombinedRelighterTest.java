@@ -0,0 +1,378 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Compares relighting many changed positions in one pass against checking
+ * each change as it happens, the way the world does without deferred
+ * lighting.
+ */
+public class CombinedRelighterTest {
+
+    // The relit chunk and the eight around it, the relit chunk is at chunk 1, 1
+    private static final int SIZE = 48;
+    private static final int HEIGHT = 64;
+    private static final int ROOF = 34;
+    private static final int[][] OFFSETS = {{0, -1, 0}, {0, 1, 0}, {0, 0, -1}, {0, 0, 1}, {-1, 0, 0}, {1, 0, 0}};
+
+    // opacity, emitted light
+    private static final int[] AIR = {0, 0};
+    private static final int[] STONE = {15, 0};
+    private static final int[] WATER = {3, 0};
+    private static final int[] TORCH = {0, 14};
+    private static final int[] GLOWSTONE = {15, 15};
+    // The world's checks darken around opaque light sources with their full opacity and can leave
+    // stale light next to them, so they are only compared against in areas without such sources
+    private static final int[][] BLOCKS = {AIR, STONE, WATER, TORCH};
+    private static final int[][] BLOCKS_WITH_GLOWSTONE = {AIR, STONE, WATER, TORCH, GLOWSTONE};
+
+    @Test
+    public void testBlockLightMatchesPerPositionChecks() {
+        for (long seed = 0; seed < 8; seed++) {
+            final TestWorld[] worlds = relight(false, BLOCKS, seed);
+            assertSameLight(worlds[0], worlds[1]);
+        }
+    }
+
+    @Test
+    public void testSkyLightMatchesPerPositionChecks() {
+        for (long seed = 0; seed < 8; seed++) {
+            final TestWorld[] worlds = relight(true, BLOCKS, seed);
+            assertSameLight(worlds[0], worlds[1]);
+        }
+    }
+
+    @Test
+    public void testLightMatchesFullRelight() {
+        for (long seed = 0; seed < 8; seed++) {
+            for (boolean sky : new boolean[] {false, true}) {
+                final TestWorld relit = relight(sky, BLOCKS_WITH_GLOWSTONE, seed)[1];
+                final TestWorld expected = relit.copy();
+                expected.floodLight();
+                assertSameLight(expected, relit);
+            }
+        }
+    }
+
+    @Test
+    public void testRelightingUnchangedPositionsKeepsLight() {
+        final TestWorld world = generate(false, BLOCKS_WITH_GLOWSTONE, new Random(42));
+        final TestWorld relit = world.copy();
+        final CombinedRelighter relighter = new CombinedRelighter(1, 1, relit);
+        final IntArrayList seeds = new IntArrayList();
+        for (int y = 16; y < 32; y++) {
+            seeds.add(relighter.pack(20, y, 20));
+        }
+        relighter.relight(seeds);
+        assertSameLight(world, relit);
+    }
+
+    /**
+     * Makes the same changes to two copies of a world. The first checks each
+     * change as it is made, the second relights all of them in one pass.
+     */
+    private static TestWorld[] relight(boolean sky, int[][] blocks, long seed) {
+        final Random random = new Random(seed);
+        final TestWorld checked = generate(sky, blocks, random);
+        final TestWorld relit = checked.copy();
+        final CombinedRelighter relighter = new CombinedRelighter(1, 1, relit);
+        final IntArrayList changed = new IntArrayList();
+
+        // Many changes in one section of the relit chunk, below the roof so the sky does not move
+        for (int i = 0; i < 200; i++) {
+            final int x = 16 + random.nextInt(16);
+            final int y = 16 + random.nextInt(16);
+            final int z = 16 + random.nextInt(16);
+            final int[] block = blocks[random.nextInt(blocks.length)];
+            checked.setBlock(x, y, z, block);
+            checked.checkLight(x, y, z);
+            relit.setBlock(x, y, z, block);
+            final int packed = relighter.pack(x, y, z);
+            if (!changed.contains(packed)) {
+                changed.add(packed);
+            }
+        }
+        relighter.relight(changed);
+        return new TestWorld[] {checked, relit};
+    }
+
+    private static TestWorld generate(boolean sky, int[][] blocks, Random random) {
+        final TestWorld world = new TestWorld(sky);
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                for (int y = 0; y < ROOF; y++) {
+                    // Mostly air, so light spreads far
+                    world.setBlock(x, y, z, random.nextInt(3) == 0 ? blocks[random.nextInt(blocks.length)] : AIR);
+                }
+                // Sky light only comes in through holes around the relit chunk
+                final boolean outside = x < 16 || x >= 32 || z < 16 || z >= 32;
+                if (!outside || random.nextInt(100) >= 5) {
+                    world.setBlock(x, ROOF, z, STONE);
+                }
+            }
+        }
+        world.updateHeightMap();
+        world.floodLight();
+        return world;
+    }
+
+    private static void assertSameLight(TestWorld expected, TestWorld actual) {
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                for (int y = 0; y < HEIGHT; y++) {
+                    if (expected.getLight(x, y, z) != actual.getLight(x, y, z)) {
+                        Assert.fail("Light differs at " + x + ", " + y + ", " + z + ": expected " + expected.getLight(x, y, z)
+                                + " but was " + actual.getLight(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * One light type of three by three chunks, with the light rules of the
+     * world.
+     */
+    private static final class TestWorld implements CombinedRelighter.LightAccess {
+
+        final boolean sky;
+        final int[] opacity = new int[SIZE * SIZE * HEIGHT];
+        final int[] emitted = new int[SIZE * SIZE * HEIGHT];
+        final int[] light = new int[SIZE * SIZE * HEIGHT];
+        final int[] heightMap = new int[SIZE * SIZE];
+
+        TestWorld(boolean sky) {
+            this.sky = sky;
+        }
+
+        TestWorld copy() {
+            final TestWorld copy = new TestWorld(this.sky);
+            System.arraycopy(this.opacity, 0, copy.opacity, 0, this.opacity.length);
+            System.arraycopy(this.emitted, 0, copy.emitted, 0, this.emitted.length);
+            System.arraycopy(this.light, 0, copy.light, 0, this.light.length);
+            System.arraycopy(this.heightMap, 0, copy.heightMap, 0, this.heightMap.length);
+            return copy;
+        }
+
+        private static int index(int x, int y, int z) {
+            if (x < 0 || x >= SIZE || y < 0 || y >= HEIGHT || z < 0 || z >= SIZE) {
+                return -1;
+            }
+            return (y * SIZE + z) * SIZE + x;
+        }
+
+        void setBlock(int x, int y, int z, int[] block) {
+            final int index = index(x, y, z);
+            this.opacity[index] = block[0];
+            this.emitted[index] = block[1];
+        }
+
+        void updateHeightMap() {
+            for (int x = 0; x < SIZE; x++) {
+                for (int z = 0; z < SIZE; z++) {
+                    int y = HEIGHT;
+                    while (y > 0 && this.opacity[index(x, y - 1, z)] == 0) {
+                        y--;
+                    }
+                    this.heightMap[z * SIZE + x] = y;
+                }
+            }
+        }
+
+        boolean canSeeSky(int x, int y, int z) {
+            return y >= this.heightMap[z * SIZE + x];
+        }
+
+        @Override
+        public int getLight(int x, int y, int z) {
+            final int index = index(x, y, z);
+            return index == -1 ? 0 : this.light[index];
+        }
+
+        @Override
+        public void setLight(int x, int y, int z, int level) {
+            final int index = index(x, y, z);
+            if (index != -1) {
+                this.light[index] = level;
+            }
+        }
+
+        @Override
+        public int getEmittedLight(int x, int y, int z) {
+            final int index = index(x, y, z);
+            if (index == -1) {
+                return 0;
+            }
+            if (this.sky) {
+                return canSeeSky(x, y, z) ? 15 : 0;
+            }
+            return this.emitted[index];
+        }
+
+        @Override
+        public int getOpacity(int x, int y, int z) {
+            final int index = index(x, y, z);
+            if (index == -1) {
+                return 15;
+            }
+            int opacity = this.opacity[index];
+            if (opacity >= 15 && this.emitted[index] > 0) {
+                opacity = 1;
+            }
+            return Math.max(1, opacity);
+        }
+
+        // World#getRawLight
+        private int getRawLight(int x, int y, int z) {
+            if (this.sky && canSeeSky(x, y, z)) {
+                return 15;
+            }
+            final int index = index(x, y, z);
+            int light = this.sky ? 0 : this.emitted[index];
+            final int opacity = getOpacity(x, y, z);
+            if (opacity >= 15) {
+                return 0;
+            }
+            if (light >= 14) {
+                return light;
+            }
+            for (int[] offset : OFFSETS) {
+                final int neighbor = getLight(x + offset[0], y + offset[1], z + offset[2]) - opacity;
+                if (neighbor > light) {
+                    light = neighbor;
+                }
+                if (light >= 14) {
+                    return light;
+                }
+            }
+            return light;
+        }
+
+        // World#checkLightFor, positions are queued relative to the checked position
+        void checkLight(int x, int y, int z) {
+            final int[] queue = new int[32768];
+            int read = 0;
+            int write = 0;
+            final int current = getLight(x, y, z);
+            final int raw = getRawLight(x, y, z);
+            if (raw > current) {
+                queue[write++] = 133152;
+            } else if (raw < current) {
+                queue[write++] = 133152 | current << 18;
+                while (read < write) {
+                    final int entry = queue[read++];
+                    final int px = (entry & 63) - 32 + x;
+                    final int py = (entry >> 6 & 63) - 32 + y;
+                    final int pz = (entry >> 12 & 63) - 32 + z;
+                    final int level = entry >> 18 & 15;
+                    if (getLight(px, py, pz) == level) {
+                        setLight(px, py, pz, 0);
+                        if (level > 0 && Math.abs(px - x) + Math.abs(py - y) + Math.abs(pz - z) < 17) {
+                            for (int[] offset : OFFSETS) {
+                                final int nx = px + offset[0];
+                                final int ny = py + offset[1];
+                                final int nz = pz + offset[2];
+                                final int index = index(nx, ny, nz);
+                                final int opacity = Math.max(1, index == -1 ? 15 : this.opacity[index]);
+                                if (getLight(nx, ny, nz) == level - opacity && write < queue.length) {
+                                    queue[write++] = nx - x + 32 | ny - y + 32 << 6 | nz - z + 32 << 12 | level - opacity << 18;
+                                }
+                            }
+                        }
+                    }
+                }
+                read = 0;
+            }
+            while (read < write) {
+                final int entry = queue[read++];
+                final int px = (entry & 63) - 32 + x;
+                final int py = (entry >> 6 & 63) - 32 + y;
+                final int pz = (entry >> 12 & 63) - 32 + z;
+                if (index(px, py, pz) == -1) {
+                    continue;
+                }
+                final int previous = getLight(px, py, pz);
+                final int computed = getRawLight(px, py, pz);
+                if (computed != previous) {
+                    setLight(px, py, pz, computed);
+                    if (computed > previous && Math.abs(px - x) + Math.abs(py - y) + Math.abs(pz - z) < 17 && write < queue.length - 6) {
+                        for (int[] offset : OFFSETS) {
+                            final int nx = px + offset[0];
+                            final int ny = py + offset[1];
+                            final int nz = pz + offset[2];
+                            if (getLight(nx, ny, nz) < computed) {
+                                queue[write++] = nx - x + 32 | ny - y + 32 << 6 | nz - z + 32 << 12;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Lights the whole area from scratch
+        void floodLight() {
+            final IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+            for (int x = 0; x < SIZE; x++) {
+                for (int z = 0; z < SIZE; z++) {
+                    for (int y = 0; y < HEIGHT; y++) {
+                        final int emitted = getEmittedLight(x, y, z);
+                        setLight(x, y, z, emitted);
+                        if (emitted > 1) {
+                            queue.enqueue(index(x, y, z));
+                        }
+                    }
+                }
+            }
+            while (!queue.isEmpty()) {
+                final int index = queue.dequeueInt();
+                final int x = index % SIZE;
+                final int z = index / SIZE % SIZE;
+                final int y = index / (SIZE * SIZE);
+                final int level = this.light[index];
+                for (int[] offset : OFFSETS) {
+                    final int nx = x + offset[0];
+                    final int ny = y + offset[1];
+                    final int nz = z + offset[2];
+                    final int neighbor = index(nx, ny, nz);
+                    if (neighbor == -1) {
+                        continue;
+                    }
+                    final int opacity = getOpacity(nx, ny, nz);
+                    if (opacity < 15 && level - opacity > this.light[neighbor]) {
+                        this.light[neighbor] = level - opacity;
+                        queue.enqueue(neighbor);
+                    }
+                }
+            }
+        }
+    }
+}
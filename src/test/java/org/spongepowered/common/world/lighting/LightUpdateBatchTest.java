@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.chunk.Chunk;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LightUpdateBatchTest {
+
+    @Test
+    public void testCoalescesUpdates() {
+        final LightUpdateBatch batch = new LightUpdateBatch();
+        final Chunk chunk = new Chunk(null, 0, 0);
+        final BlockPos pos = new BlockPos(3, 64, 5);
+
+        Assert.assertTrue(batch.isEmpty());
+        Assert.assertTrue(batch.add(EnumSkyBlock.BLOCK, pos, chunk, Collections.emptyList()));
+        Assert.assertFalse(batch.add(EnumSkyBlock.BLOCK, pos, chunk, Collections.emptyList()));
+        Assert.assertTrue(batch.contains(EnumSkyBlock.BLOCK, pos));
+        Assert.assertFalse(batch.contains(EnumSkyBlock.SKY, pos));
+        Assert.assertEquals(1, batch.size());
+
+        Assert.assertTrue(batch.add(EnumSkyBlock.SKY, pos, chunk, Collections.emptyList()));
+        Assert.assertEquals(2, batch.size());
+    }
+
+    @Test
+    public void testGroupsUpdatesByChunk() {
+        final LightUpdateBatch batch = new LightUpdateBatch();
+        final Chunk chunk = new Chunk(null, -1, 2);
+        batch.add(EnumSkyBlock.BLOCK, new BlockPos(-16, 10, 32), chunk, Collections.emptyList());
+        batch.add(EnumSkyBlock.BLOCK, new BlockPos(-1, 200, 47), chunk, Collections.emptyList());
+        batch.add(EnumSkyBlock.SKY, new BlockPos(-8, 70, 40), chunk, Collections.emptyList());
+
+        Assert.assertEquals(1, batch.getJobs().size());
+        final LightUpdateBatch.ChunkJob job = batch.getJobs().iterator().next();
+        Assert.assertSame(chunk, job.chunk);
+        Assert.assertEquals(2, job.blockUpdates.size());
+        Assert.assertEquals(1, job.skyUpdates.size());
+    }
+
+    @Test
+    public void testPhasesTouchDisjointChunks() {
+        final LightUpdateBatch batch = new LightUpdateBatch();
+        for (int x = -9; x < 9; x++) {
+            for (int z = -9; z < 9; z++) {
+                batch.add(EnumSkyBlock.BLOCK, new BlockPos(x << 4, 64, z << 4), new Chunk(null, x, z), Collections.emptyList());
+            }
+        }
+
+        final List<List<List<LightUpdateBatch.ChunkJob>>> phases = batch.getPhases();
+        Assert.assertTrue(phases.size() <= 4);
+        final Map<LightUpdateBatch.ChunkJob, Boolean> seen = new IdentityHashMap<>();
+        for (List<List<LightUpdateBatch.ChunkJob>> phase : phases) {
+            final List<List<LightUpdateBatch.ChunkJob>> cells = new ArrayList<>(phase);
+            for (int i = 0; i < cells.size(); i++) {
+                for (LightUpdateBatch.ChunkJob job : cells.get(i)) {
+                    Assert.assertNull("Job in more than one cell", seen.put(job, Boolean.TRUE));
+                    for (int j = i + 1; j < cells.size(); j++) {
+                        for (LightUpdateBatch.ChunkJob other : cells.get(j)) {
+                            // Each job touches the chunks around its own, so jobs of parallel cells must be more than two chunks apart
+                            final int distance = Math.max(Math.abs(job.chunk.x - other.chunk.x), Math.abs(job.chunk.z - other.chunk.z));
+                            Assert.assertTrue("Parallel cells share chunks", distance > 2);
+                        }
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(batch.getJobs().size(), seen.size());
+    }
+
+}
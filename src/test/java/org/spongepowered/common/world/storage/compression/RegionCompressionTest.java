@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.compression;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+public class RegionCompressionTest {
+
+    @Test
+    public void testLookup() {
+        for (RegionCompression compression : RegionCompression.values()) {
+            Assert.assertSame(compression, RegionCompression.byId(compression.getId()));
+            Assert.assertSame(compression, RegionCompression.byName(compression.getName().toUpperCase()));
+        }
+        Assert.assertNull(RegionCompression.byId(3));
+        Assert.assertNull(RegionCompression.byName("zstd"));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final Random random = new Random(42);
+        final byte[] empty = new byte[0];
+        final byte[] small = {1, 2, 3};
+        final byte[] noise = new byte[70000];
+        random.nextBytes(noise);
+        // Long runs and repeated patterns, similar to block state palettes
+        final byte[] repetitive = new byte[200000];
+        for (int i = 0; i < repetitive.length; i++) {
+            repetitive[i] = (byte) (i % 4096 < 2048 ? 0 : random.nextInt(4));
+        }
+
+        for (RegionCompression compression : RegionCompression.values()) {
+            for (byte[] data : new byte[][] {empty, small, noise, repetitive}) {
+                final byte[] compressed = compression.compress(data, data.length);
+                Assert.assertArrayEquals(compression.getName(), data, readFully(compression.decompress(compressed, 0, compressed.length)));
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMalformedLz4() throws IOException {
+        final byte[] compressed = RegionCompression.LZ4.compress(new byte[1000], 1000);
+        // Cut off in the middle of the first sequence
+        readFully(RegionCompression.LZ4.decompress(compressed, 0, 6));
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+}